@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2012 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -108,10 +108,15 @@ public class Activator implements BundleActivator {
 		resolvedBundles = new BundleTracker<List<Bundle>>(context, Bundle.RESOLVED
 				| Bundle.STARTING | Bundle.ACTIVE | Bundle.STOPPING, bundleFinder);
 		resolvedBundles.open();
+
+		// parsed model files must not outlive the bundles contributing them
+		context.addBundleListener(ApplicationModelTemplates.BUNDLE_LISTENER);
 	}
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
+		context.removeBundleListener(ApplicationModelTemplates.BUNDLE_LISTENER);
+		ApplicationModelTemplates.clear();
 		if (locationTracker != null) {
 			locationTracker.close();
 			locationTracker = null;
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.e4.ui.model.application.MApplicationElement;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.osgi.framework.BundleEvent;
+import org.osgi.framework.BundleListener;
+
+/**
+ * Caches the parsed contents of model files that are contributed by bundles, i.e. the application
+ * model and the model fragments. Every UI session of a RAP application loads these files again,
+ * with this cache they are parsed only once and each session receives a deep copy of the parsed
+ * contents.
+ * <p>
+ * Transient features are not copied, so that a copy equals a freshly parsed model. The cache is
+ * cleared when bundles are resolved, unresolved, updated or uninstalled.
+ * </p>
+ */
+public final class ApplicationModelTemplates {
+
+	private static final Map<URI, Template> templates = new ConcurrentHashMap<>();
+
+	/**
+	 * Clears the cache on bundle changes that may replace model files.
+	 */
+	static final BundleListener BUNDLE_LISTENER = new BundleListener() {
+		@Override
+		public void bundleChanged(BundleEvent event) {
+			switch (event.getType()) {
+			case BundleEvent.RESOLVED:
+			case BundleEvent.UNRESOLVED:
+			case BundleEvent.UPDATED:
+			case BundleEvent.UNINSTALLED:
+				clear();
+				break;
+			default:
+				break;
+			}
+		}
+	};
+
+	private ApplicationModelTemplates() {
+		// prevent instantiation
+	}
+
+	/**
+	 * Creates a resource with the given URI in the given resource set and fills it with a copy of
+	 * the contents of the model file at this URI. The IDs of the copied objects are the same as
+	 * the ones of the parsed objects.
+	 *
+	 * @param resourceSet
+	 *            the resource set to create the resource in
+	 * @param uri
+	 *            the URI of a model file contributed by a bundle
+	 * @param contributorURI
+	 *            the contributor URI to set on all application elements, may be <code>null</code>
+	 * @return the new resource
+	 * @throws IOException
+	 *             if the model file can not be read
+	 */
+	public static Resource loadCopy(ResourceSet resourceSet, URI uri, String contributorURI)
+			throws IOException {
+		Template template = getTemplate(uri, contributorURI);
+		Resource result = resourceSet.createResource(uri);
+		template.copyTo(result);
+		return result;
+	}
+
+	static void clear() {
+		templates.clear();
+	}
+
+	private static Template getTemplate(URI uri, String contributorURI) throws IOException {
+		Template result = templates.get(uri);
+		if (result == null) {
+			result = new Template(parse(uri, contributorURI));
+			Template existing = templates.putIfAbsent(uri, result);
+			if (existing != null) {
+				result = existing;
+			}
+		}
+		return result;
+	}
+
+	private static E4XMIResource parse(URI uri, String contributorURI) throws IOException {
+		ResourceSetImpl resourceSet = ResourceHandler.createResourceSet();
+		E4XMIResource result = (E4XMIResource) resourceSet.createResource(uri);
+		InputStream inputStream = new URL(uri.toString()).openStream();
+		try {
+			result.load(inputStream, resourceSet.getLoadOptions());
+		} finally {
+			inputStream.close();
+		}
+		TreeIterator<EObject> it = EcoreUtil.getAllContents(result.getContents());
+		while (it.hasNext()) {
+			EObject object = it.next();
+			if (contributorURI != null && object instanceof MApplicationElement) {
+				((MApplicationElement) object).setContributorURI(contributorURI);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * The parsed contents of a model file. The objects are never modified after construction.
+	 */
+	private static final class Template {
+
+		private final EObject[] roots;
+		private final Map<EObject, String> ids;
+
+		Template(E4XMIResource resource) {
+			roots = resource.getContents().toArray(new EObject[0]);
+			ids = new HashMap<>();
+			TreeIterator<EObject> it = EcoreUtil.getAllContents(resource.getContents());
+			while (it.hasNext()) {
+				EObject object = it.next();
+				// getID also creates the IDs that are missing in the file
+				String id = resource.getID(object);
+				if (id != null) {
+					ids.put(object, id);
+				}
+			}
+		}
+
+		// synchronized as EMF creates empty lists lazily, even when reading
+		synchronized void copyTo(Resource resource) {
+			TemplateCopier copier = new TemplateCopier();
+			for (EObject root : roots) {
+				resource.getContents().add(copier.copy(root));
+			}
+			copier.copyReferences();
+			if (resource instanceof E4XMIResource) {
+				E4XMIResource e4Resource = (E4XMIResource) resource;
+				for (Entry<EObject, EObject> entry : copier.entrySet()) {
+					String id = ids.get(entry.getKey());
+					if (id != null) {
+						e4Resource.setID(entry.getValue(), id);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Copies only persistent features and does not resolve proxies, so that the template is only
+	 * read.
+	 */
+	private static final class TemplateCopier extends EcoreUtil.Copier {
+
+		private static final long serialVersionUID = 1L;
+
+		TemplateCopier() {
+			super(false);
+		}
+
+		@Override
+		protected void copyAttribute(EAttribute eAttribute, EObject eObject, EObject copyEObject) {
+			if (!eAttribute.isTransient()) {
+				super.copyAttribute(eAttribute, eObject, copyEObject);
+			}
+		}
+
+		@Override
+		protected void copyContainment(EReference eReference, EObject eObject,
+				EObject copyEObject) {
+			if (!eReference.isTransient()) {
+				super.copyContainment(eReference, eObject, copyEObject);
+			}
+		}
+
+		@Override
+		protected void copyReference(EReference eReference, EObject eObject, EObject copyEObject) {
+			if (!eReference.isTransient()) {
+				super.copyReference(eReference, eObject, copyEObject);
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2014 BestSolution.at and others.
+ * Copyright (c) 2010, 2026 BestSolution.at and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,7 @@
 
 package org.eclipse.e4.ui.internal.workbench;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -136,8 +137,12 @@ public class ModelAssembler {
 		String contributorURI = URIHelper.constructPlatformURI(contributor);
 		Resource resource;
 		try {
-			resource = resourceSet.getResource(uri, true);
-		} catch (RuntimeException e) {
+			// copy the fragment parsed once for all sessions
+			resource = resourceSet.getResource(uri, false);
+			if (resource == null) {
+				resource = ApplicationModelTemplates.loadCopy(resourceSet, uri, null);
+			}
+		} catch (IOException | RuntimeException e) {
 			logger.warn(e, "Unable to read model extension from \"" + uri.toString() +"\" of \"" + bundleName + "\""); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 			return;
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2014 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -107,7 +107,14 @@ public class ResourceHandler implements IModelResourceHandler {
 
 	@PostConstruct
 	void init() {
-		resourceSetImpl = new ResourceSetImpl();
+		resourceSetImpl = createResourceSet();
+	}
+
+	/**
+	 * @return a new resource set that is able to load application models
+	 */
+	static ResourceSetImpl createResourceSet() {
+		ResourceSetImpl resourceSetImpl = new ResourceSetImpl();
 		resourceSetImpl.getResourceFactoryRegistry().getExtensionToFactoryMap()
 				.put(Resource.Factory.Registry.DEFAULT_EXTENSION, new E4XMIResourceFactory());
 
@@ -126,7 +133,7 @@ public class ResourceHandler implements IModelResourceHandler {
 				.getPackageRegistry()
 				.put(org.eclipse.e4.ui.model.application.descriptor.basic.impl.BasicPackageImpl.eNS_URI,
 						org.eclipse.e4.ui.model.application.descriptor.basic.impl.BasicPackageImpl.eINSTANCE);
-
+		return resourceSetImpl;
 	}
 
 	/**
@@ -240,7 +247,8 @@ public class ResourceHandler implements IModelResourceHandler {
 			}
 		}
 		if (resource == null) {
-			Resource applicationResource = loadResource(applicationDefinitionInstance);
+			// copy the application definition parsed once for all sessions
+			Resource applicationResource = loadApplicationDefinition();
 			MApplication theApp = (MApplication) applicationResource.getContents().get(0);
 			resource = createResourceWithApp(theApp);
 			context.set(E4Workbench.NO_SAVED_MODEL_FOUND, Boolean.TRUE);
@@ -345,6 +353,19 @@ public class ResourceHandler implements IModelResourceHandler {
 		return resource;
 	}
 
+	// The application definition is contributed by a bundle and therefore the same in all
+	// sessions, see ApplicationModelTemplates
+	private Resource loadApplicationDefinition() {
+		URI uri = applicationDefinitionInstance;
+		try {
+			return ApplicationModelTemplates.loadCopy(resourceSetImpl, uri,
+					URIHelper.EMFtoPlatform(uri));
+		} catch (Exception e) {
+			logger.error(e, "Unable to load resource " + uri.toString()); //$NON-NLS-1$
+			return null;
+		}
+	}
+
 	private Resource getResource(URI uri) throws Exception {
 		Resource resource;
 		if (saveAndRestore) {
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+/**
+ * The topics that are shared by all workbench instances, parsed from a comma separated list as
+ * given in the system property {@link RAPEventBroker#GLOBAL_TOPICS}. A topic ending with
+ * <code>/*</code> includes all topics below it, <code>*</code> includes all topics.
+ */
+final class GlobalEventTopics {
+
+	private static final String WILDCARD = "*"; //$NON-NLS-1$
+
+	private final String[] topics;
+
+	GlobalEventTopics(String value) {
+		topics = parse(value);
+	}
+
+	boolean contains(String topic) {
+		for (String globalTopic : topics) {
+			if (globalTopic.equals(topic) || globalTopic.equals(WILDCARD)) {
+				return true;
+			}
+			if (globalTopic.endsWith("/" + WILDCARD) //$NON-NLS-1$
+					&& topic.startsWith(globalTopic.substring(0, globalTopic.length() - 1))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String[] parse(String value) {
+		if (value == null || value.trim().length() == 0) {
+			return new String[0];
+		}
+		String[] result = value.split(","); //$NON-NLS-1$
+		for (int i = 0; i < result.length; i++) {
+			result[i] = result[i].trim();
+		}
+		return result;
+	}
+}
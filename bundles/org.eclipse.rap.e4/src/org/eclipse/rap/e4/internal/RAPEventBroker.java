@@ -3,14 +3,16 @@ package org.eclipse.rap.e4.internal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Dictionary;
-import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.core.services.log.Logger;
@@ -22,18 +24,34 @@ import org.eclipse.osgi.util.NLS;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.BundleException;
+import org.osgi.framework.Filter;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.InvalidSyntaxException;
 import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.event.Event;
 import org.osgi.service.event.EventAdmin;
 import org.osgi.service.event.EventConstants;
 import org.osgi.service.event.EventHandler;
 
+/**
+ * Event broker of a workbench instance. Events are delivered by the {@link RAPEventDispatcher} of
+ * the instance, only the topics listed in the system property {@link #GLOBAL_TOPICS} are sent
+ * through the EventAdmin and reach the handlers of all instances.
+ */
 public class RAPEventBroker implements IEventBroker {
-	    // TBD synchronization
+
+	    /**
+	     * System property with a comma separated list of topics that are shared by all workbench
+	     * instances, e.g. <code>org/example/*,org/example/data/changed</code>.
+	     */
+	    public static final String GLOBAL_TOPICS = "org.eclipse.rap.e4.globalEventTopics";
 
 	    private static final String	ASYNC_EVENT = "rap.async.event";
 
-		private Map<EventHandler, Collection<ServiceRegistration<?>>> registrations = new HashMap<EventHandler, Collection<ServiceRegistration<?>>>();
+	    private static final GlobalEventTopics globalTopics = new GlobalEventTopics(
+	    		System.getProperty(GLOBAL_TOPICS));
+
+		private Map<EventHandler, Collection<RAPEventDispatcher.Registration>> registrations = new ConcurrentHashMap<EventHandler, Collection<RAPEventDispatcher.Registration>>();
 
 		@Inject
 		Logger logger;
@@ -46,6 +64,9 @@ public class RAPEventBroker implements IEventBroker {
 		@Named(E4Application.INSTANCEID)
 		String instanceId;
 
+		@Inject
+		IEclipseContext context;
+
 		// This is a temporary code to ensure that bundle containing
 		// EventAdmin implementation is started. This code it to be removed once
 		// the proper method to start EventAdmin is added.
@@ -71,6 +92,10 @@ public class RAPEventBroker implements IEventBroker {
 		}
 
 		public boolean send(String topic, Object data) {
+			if (!isGlobalTopic(topic)) {
+				getDispatcher().send(constructEvent(rapifyTopic(instanceId, topic), data, false));
+				return true;
+			}
 			Event event = constructEvent(topic, data, false);
 			EventAdmin eventAdmin = Activator.getDefault().getEventAdmin();
 			if (eventAdmin == null) {
@@ -82,6 +107,10 @@ public class RAPEventBroker implements IEventBroker {
 		}
 
 		public boolean post(String topic, Object data) {
+			if (!isGlobalTopic(topic)) {
+				getDispatcher().post(constructEvent(rapifyTopic(instanceId, topic), data, true));
+				return true;
+			}
 			Event event = constructEvent(topic, data, true);
 			EventAdmin eventAdmin = Activator.getDefault().getEventAdmin();
 			if (eventAdmin == null) {
@@ -94,7 +123,6 @@ public class RAPEventBroker implements IEventBroker {
 
 		@SuppressWarnings("unchecked")
 		private Event constructEvent(String topic, Object data, boolean async) {
-			topic = rapifyTopic(instanceId, topic);
 			Event event;
 			if (data instanceof Dictionary<?,?>) {
 				Dictionary<String,Object> properties = (Dictionary<String,Object>)data;
@@ -123,11 +151,47 @@ public class RAPEventBroker implements IEventBroker {
 		}
 
 		public boolean subscribe(String topic, String filter, EventHandler eventHandler, boolean headless) {
-			topic = rapifyTopic(instanceId, topic);
+			RAPEventDispatcher.Registration registration;
+			if (isGlobalTopic(topic)) {
+				registration = registerHandler(topic, filter, eventHandler, headless);
+			} else {
+				registration = subscribeLocal(rapifyTopic(instanceId, topic), filter, eventHandler, headless);
+			}
+			if (registration == null) {
+				return false;
+			}
+			Collection<RAPEventDispatcher.Registration> handled = registrations.get(eventHandler);
+			if (handled == null) {
+				Collection<RAPEventDispatcher.Registration> created = new CopyOnWriteArrayList<RAPEventDispatcher.Registration>();
+				handled = registrations.putIfAbsent(eventHandler, created);
+				if (handled == null) {
+					handled = created;
+				}
+			}
+			handled.add(registration);
+			return true;
+		}
+
+		private RAPEventDispatcher.Registration subscribeLocal(String topic, String filter,
+				EventHandler eventHandler, boolean headless) {
+			Filter parsedFilter = null;
+			if (filter != null) {
+				try {
+					parsedFilter = FrameworkUtil.createFilter(filter);
+				} catch (InvalidSyntaxException e) {
+					logger.error(e, NLS.bind("Invalid event filter {0}", filter));
+					return null;
+				}
+			}
+			return getDispatcher().subscribe(topic, parsedFilter, eventHandler, headless);
+		}
+
+		private RAPEventDispatcher.Registration registerHandler(String topic, String filter,
+				EventHandler eventHandler, boolean headless) {
 			BundleContext bundleContext = Activator.getDefault().getBundleContext();
 			if (bundleContext == null) {
 				logger.error(NLS.bind("No EventAdmin", topic));
-				return false;
+				return null;
 			}
 			String[] topics = new String[] {topic};
 			Dictionary<String, Object> d = new Hashtable<String, Object>();
@@ -135,24 +199,21 @@ public class RAPEventBroker implements IEventBroker {
 			if (filter != null)
 				d.put(EventConstants.EVENT_FILTER, filter);
 			EventHandler wrappedHandler = new RAPUIEventHandler(eventHandler, headless ? null : uiSync);
-			ServiceRegistration<?> registration = bundleContext.registerService(
+			final ServiceRegistration<?> registration = bundleContext.registerService(
 					EventHandler.class.getName(), wrappedHandler, d);
-			Collection<ServiceRegistration<?>> handled = registrations
-					.get(eventHandler);
-			if (handled == null) {
-				registrations.put(eventHandler,
-						handled = new ArrayList<ServiceRegistration<?>>());
-			}
-			handled.add(registration);
-			return true;
+			return new RAPEventDispatcher.Registration() {
+				public void unregister() {
+					registration.unregister();
+				}
+			};
 		}
 
 		public boolean unsubscribe(EventHandler eventHandler) {
-			Collection<ServiceRegistration<?>> handled = registrations
+			Collection<RAPEventDispatcher.Registration> handled = registrations
 					.remove(eventHandler);
 			if (handled == null || handled.isEmpty())
 				return false;
-			for (ServiceRegistration<?> r : handled) {
+			for (RAPEventDispatcher.Registration r : handled) {
 				r.unregister();
 			}
 			return true;
@@ -160,11 +221,11 @@ public class RAPEventBroker implements IEventBroker {
 
 		@PreDestroy
 		void dispose() {
-			Collection<Collection<ServiceRegistration<?>>> values = new ArrayList<Collection<ServiceRegistration<?>>>(
+			Collection<Collection<RAPEventDispatcher.Registration>> values = new ArrayList<Collection<RAPEventDispatcher.Registration>>(
 					registrations.values());
 			registrations.clear();
-			for (Collection<ServiceRegistration<?>> handled : values) {
-				for (ServiceRegistration<?> registration : handled) {
+			for (Collection<RAPEventDispatcher.Registration> handled : values) {
+				for (RAPEventDispatcher.Registration registration : handled) {
 					// System.out.println("EventBroker dispose:" + registration[i] +
 					// ")");
 					registration.unregister();
@@ -181,4 +242,16 @@ public class RAPEventBroker implements IEventBroker {
 		public static boolean isAsyncEvent(Event event) {
 			return Boolean.TRUE.equals(event.getProperty(ASYNC_EVENT));
 		}
+
+		/**
+		 * Returns whether events of the given (not RAPified) topic are shared by all workbench
+		 * instances and therefore go through the EventAdmin.
+		 */
+		public static boolean isGlobalTopic(String topic) {
+			return globalTopics.contains(topic);
+		}
+
+		private RAPEventDispatcher getDispatcher() {
+			return RAPEventDispatcher.getInstance(context);
+		}
 }
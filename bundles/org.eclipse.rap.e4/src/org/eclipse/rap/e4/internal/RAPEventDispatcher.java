@@ -0,0 +1,284 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.inject.Inject;
+
+import org.eclipse.e4.core.contexts.ContextInjectionFactory;
+import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.core.di.annotations.Optional;
+import org.eclipse.e4.core.services.log.Logger;
+import org.eclipse.e4.ui.di.UISynchronize;
+import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
+import org.osgi.framework.Filter;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+
+/**
+ * Delivers the events of one workbench instance (i.e. one UI session) to the handlers subscribed
+ * in this instance, without going through the EventAdmin. Subscriptions are kept in a tree of topic
+ * segments, so that finding the handlers of an event does not depend on the number of
+ * subscriptions of other topics or other sessions. Topics follow the EventAdmin syntax, a topic
+ * ending with <code>/*</code> matches all topics below it.
+ * <p>
+ * Events that are sent are delivered before <code>send</code> returns, handlers that are not
+ * headless are called on the UI thread. Events that are posted are delivered to headless handlers
+ * before <code>post</code> returns and to all other handlers later on the UI thread.
+ * </p>
+ */
+public class RAPEventDispatcher {
+
+	private static final String WILDCARD = "*"; //$NON-NLS-1$
+
+	/**
+	 * Handle to remove a subscription.
+	 */
+	public interface Registration {
+		void unregister();
+	}
+
+	private final TopicNode root = new TopicNode();
+
+	@Inject
+	@Optional
+	UISynchronize uiSync;
+
+	@Inject
+	@Optional
+	Logger logger;
+
+	/**
+	 * Returns the dispatcher of the workbench instance the given context belongs to.
+	 */
+	public static RAPEventDispatcher getInstance(IEclipseContext context) {
+		IEclipseContext appContext = context;
+		while (appContext.getParent() != null && appContext.getLocal(E4Application.INSTANCEID) == null) {
+			appContext = appContext.getParent();
+		}
+		synchronized (appContext) {
+			RAPEventDispatcher result = appContext.getLocal(RAPEventDispatcher.class);
+			if (result == null) {
+				result = ContextInjectionFactory.make(RAPEventDispatcher.class, appContext);
+				appContext.set(RAPEventDispatcher.class, result);
+			}
+			return result;
+		}
+	}
+
+	public Registration subscribe(String topic, Filter filter, EventHandler handler, boolean headless) {
+		final Subscription subscription = new Subscription(topic, filter, handler, headless);
+		synchronized (root) {
+			getNode(topic).add(subscription);
+		}
+		return new Registration() {
+			public void unregister() {
+				synchronized (root) {
+					getNode(subscription.topic).remove(subscription);
+				}
+			}
+		};
+	}
+
+	public void send(Event event) {
+		List<Subscription> subscriptions = match(event);
+		if (subscriptions.isEmpty()) {
+			return;
+		}
+		if (uiSync == null || uiSync.isUIThread(Thread.currentThread())) {
+			deliver(event, subscriptions, true, true);
+		} else {
+			deliver(event, subscriptions, true, false);
+			deliverOnUIThread(event, subscriptions, false);
+		}
+	}
+
+	public void post(Event event) {
+		List<Subscription> subscriptions = match(event);
+		if (subscriptions.isEmpty()) {
+			return;
+		}
+		if (uiSync == null) {
+			deliver(event, subscriptions, true, true);
+		} else {
+			// headless handlers must not wait for the next request to run the UI queue
+			deliver(event, subscriptions, true, false);
+			if (hasUISubscription(subscriptions)) {
+				deliverOnUIThread(event, subscriptions, true);
+			}
+		}
+	}
+
+	private void deliverOnUIThread(final Event event, final List<Subscription> subscriptions,
+			final boolean async) {
+		// a single runnable for all handlers instead of one per handler
+		Runnable runnable = new Runnable() {
+			public void run() {
+				deliver(event, subscriptions, false, true);
+			}
+		};
+		if (async) {
+			uiSync.asyncExec(runnable);
+		} else {
+			uiSync.syncExec(runnable);
+		}
+	}
+
+	private static boolean hasUISubscription(List<Subscription> subscriptions) {
+		for (Subscription subscription : subscriptions) {
+			if (!subscription.headless) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void deliver(Event event, List<Subscription> subscriptions, boolean headless, boolean ui) {
+		for (Subscription subscription : subscriptions) {
+			if (subscription.headless ? headless : ui) {
+				try {
+					subscription.handler.handleEvent(event);
+				} catch (RuntimeException exception) {
+					if (logger != null) {
+						logger.error(exception, "Exception while dispatching event " + event); //$NON-NLS-1$
+					}
+				}
+			}
+		}
+	}
+
+	List<Subscription> match(Event event) {
+		List<Subscription> result = new ArrayList<Subscription>();
+		String topic = event.getTopic();
+		synchronized (root) {
+			TopicNode node = root;
+			int start = 0;
+			while (node != null) {
+				int end = topic.indexOf('/', start);
+				// wildcard subscriptions match if there is at least one more segment
+				node.collectWildcard(event, result);
+				if (end == -1) {
+					node = node.getChild(topic.substring(start));
+					if (node != null) {
+						node.collectExact(event, result);
+					}
+					break;
+				}
+				node = node.getChild(topic.substring(start, end));
+				start = end + 1;
+			}
+		}
+		return result;
+	}
+
+	private TopicNode getNode(String topic) {
+		TopicNode node = root;
+		int start = 0;
+		while (true) {
+			int end = topic.indexOf('/', start);
+			String segment = end == -1 ? topic.substring(start) : topic.substring(start, end);
+			if (end == -1 && WILDCARD.equals(segment)) {
+				return node.getWildcardNode();
+			}
+			node = node.getOrCreateChild(segment);
+			if (end == -1) {
+				return node;
+			}
+			start = end + 1;
+		}
+	}
+
+	private static final class Subscription {
+
+		final String topic;
+		final Filter filter;
+		final EventHandler handler;
+		final boolean headless;
+
+		Subscription(String topic, Filter filter, EventHandler handler, boolean headless) {
+			this.topic = topic;
+			this.filter = filter;
+			this.handler = handler;
+			this.headless = headless;
+		}
+
+		boolean matches(Event event) {
+			return filter == null || event.matches(filter);
+		}
+	}
+
+	private static final class TopicNode {
+
+		private Map<String, TopicNode> children;
+		private TopicNode wildcardNode;
+		private List<Subscription> subscriptions;
+
+		TopicNode getChild(String segment) {
+			return children == null ? null : children.get(segment);
+		}
+
+		TopicNode getOrCreateChild(String segment) {
+			if (children == null) {
+				children = new HashMap<String, TopicNode>();
+			}
+			TopicNode result = children.get(segment);
+			if (result == null) {
+				result = new TopicNode();
+				children.put(segment, result);
+			}
+			return result;
+		}
+
+		TopicNode getWildcardNode() {
+			if (wildcardNode == null) {
+				wildcardNode = new TopicNode();
+			}
+			return wildcardNode;
+		}
+
+		void add(Subscription subscription) {
+			if (subscriptions == null) {
+				subscriptions = new ArrayList<Subscription>();
+			}
+			subscriptions.add(subscription);
+		}
+
+		void remove(Subscription subscription) {
+			if (subscriptions != null) {
+				subscriptions.remove(subscription);
+			}
+		}
+
+		void collectExact(Event event, List<Subscription> result) {
+			collect(subscriptions, event, result);
+		}
+
+		void collectWildcard(Event event, List<Subscription> result) {
+			if (wildcardNode != null) {
+				collect(wildcardNode.subscriptions, event, result);
+			}
+		}
+
+		private static void collect(List<Subscription> subscriptions, Event event, List<Subscription> result) {
+			if (subscriptions != null) {
+				for (Subscription subscription : subscriptions) {
+					if (subscription.matches(event)) {
+						result.add(subscription);
+					}
+				}
+			}
+		}
+	}
+}
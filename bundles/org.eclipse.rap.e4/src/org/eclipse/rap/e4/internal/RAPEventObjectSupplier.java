@@ -14,6 +14,7 @@ import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.di.IInjector;
 import org.eclipse.e4.core.di.InjectionException;
 import org.eclipse.e4.core.di.extensions.EventTopic;
@@ -127,12 +128,15 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 
 	}
 
-	private Map<Subscriber, ServiceRegistration> registrations = new HashMap<Subscriber, ServiceRegistration>();
+	private Map<Subscriber, RAPEventDispatcher.Registration> registrations = new HashMap<Subscriber, RAPEventDispatcher.Registration>();
 
 	@Inject
 	@Named(E4Application.INSTANCEID)
 	protected String instanceId;
 
+	@Inject
+	protected IEclipseContext context;
+
 	protected void addCurrentEvent(String topic, Event event) {
 		synchronized (currentEvents) {
 			currentEvents.put(topic, event);
@@ -150,12 +154,16 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 		if (descriptor == null)
 			return null;
 		String topic = getTopic(descriptor);
-		EventAdmin eventAdmin = getEventAdmin();
-		if (topic == null || eventAdmin == null || topic.length() == 0)
+		if (topic == null || topic.length() == 0)
+			return IInjector.NOT_A_VALUE;
+		boolean global = RAPEventBroker.isGlobalTopic(topic);
+		if (global && getEventAdmin() == null)
 			return IInjector.NOT_A_VALUE;
+		if (!global)
+			topic = RAPEventBroker.rapifyTopic(instanceId, topic);
 
 		if (track)
-			subscribe(topic, eventAdmin, requestor);
+			subscribe(topic, global, requestor);
 		else
 			unsubscribe(requestor);
 
@@ -169,12 +177,27 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 		return currentEvents.get(topic).getProperty(EventUtils.DATA);
 	}
 
-	private void subscribe(String topic, EventAdmin eventAdmin, IRequestor requestor) {
+	private void subscribe(String topic, boolean global, IRequestor requestor) {
 		Subscriber subscriber = new Subscriber(requestor, topic);
 		synchronized (registrations) {
 			if (registrations.containsKey(subscriber))
 				return;
 		}
+		EventHandler wrappedHandler = makeHandler(topic, requestor);
+		RAPEventDispatcher.Registration registration;
+		if (global) {
+			registration = registerHandler(topic, wrappedHandler);
+		} else {
+			// the handlers switch to the UI thread themselves
+			registration = RAPEventDispatcher.getInstance(context).subscribe(topic, null, wrappedHandler, true);
+		}
+		// due to the way requestors are constructed this limited synch should be OK
+		synchronized (registrations) {
+			registrations.put(subscriber, registration);
+		}
+	}
+
+	private static RAPEventDispatcher.Registration registerHandler(String topic, EventHandler handler) {
 		BundleContext bundleContext = Activator.getDefault().getBundleContext();
 		if (bundleContext == null)
 			throw new InjectionException("Unable to subscribe to events: org.eclipse.e4.core.di.extensions bundle is not activated"); //$NON-NLS-1$
@@ -182,12 +205,12 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 		String[] topics = new String[] {topic};
 		Dictionary<String, Object> d = new Hashtable<String, Object>();
 		d.put(EventConstants.EVENT_TOPIC, topics);
-		EventHandler wrappedHandler = makeHandler(topic, requestor);
-		ServiceRegistration registration = bundleContext.registerService(EventHandler.class.getName(), wrappedHandler, d);
-		// due to the way requestors are constructed this limited synch should be OK
-		synchronized (registrations) {
-			registrations.put(subscriber, registration);
-		}
+		final ServiceRegistration<?> registration = bundleContext.registerService(EventHandler.class.getName(), handler, d);
+		return new RAPEventDispatcher.Registration() {
+			public void unregister() {
+				registration.unregister();
+			}
+		};
 	}
 
 	protected EventHandler makeHandler(String topic, IRequestor requestor) {
@@ -198,9 +221,7 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 		if (descriptor == null)
 			return null;
 		EventTopic qualifier = descriptor.getQualifier(EventTopic.class);
-		String topic = qualifier.value();
-		topic = RAPEventBroker.rapifyTopic(instanceId, topic);
-		return topic;
+		return qualifier.value();
 	}
 
 	static private EventAdmin getEventAdmin() {
@@ -211,13 +232,13 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 		if (requestor == null)
 			return;
 		synchronized (registrations) {
-			Iterator<Entry<Subscriber, ServiceRegistration>> i = registrations.entrySet().iterator();
+			Iterator<Entry<Subscriber, RAPEventDispatcher.Registration>> i = registrations.entrySet().iterator();
 			while (i.hasNext()) {
-				Entry<Subscriber, ServiceRegistration> entry = i.next();
+				Entry<Subscriber, RAPEventDispatcher.Registration> entry = i.next();
 				Subscriber key = entry.getKey();
 				if (!requestor.equals(key.getRequestor()))
 					continue;
-				ServiceRegistration registration = entry.getValue();
+				RAPEventDispatcher.Registration registration = entry.getValue();
 				registration.unregister();
 				i.remove();
 			}
@@ -226,10 +247,10 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 
 	@PreDestroy
 	public void dispose() {
-		ServiceRegistration[] array;
+		RAPEventDispatcher.Registration[] array;
 		synchronized (registrations) {
-			Collection<ServiceRegistration> values = registrations.values();
-			array = values.toArray(new ServiceRegistration[values.size()]);
+			Collection<RAPEventDispatcher.Registration> values = registrations.values();
+			array = values.toArray(new RAPEventDispatcher.Registration[values.size()]);
 			registrations.clear();
 		}
 		for (int i = 0; i < array.length; i++) {
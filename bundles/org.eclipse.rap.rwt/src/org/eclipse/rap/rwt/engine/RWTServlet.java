@@ -66,6 +66,7 @@ import org.eclipse.rap.rwt.service.ServiceHandler;
  * &lt;servlet&gt;
  *   &lt;servlet-name&gt;rwtServlet&lt;/servlet-name&gt;
  *   &lt;servlet-class&gt;org.eclipse.rap.rwt.engine.RWTServlet&lt;/servlet-class&gt;
+ *   &lt;async-supported&gt;true&lt;/async-supported&gt;
  * &lt;/servlet&gt;
  *
  * &lt;servlet-mapping&gt;
@@ -73,7 +74,11 @@ import org.eclipse.rap.rwt.service.ServiceHandler;
  *   &lt;url-pattern&gt;/example&lt;/url-pattern&gt;
  * &lt;/servlet-mapping&gt;
  *
- * <pre>
+ * </pre>
+ * <p>
+ * When async support is enabled, server push requests do not occupy a container thread while
+ * they wait for UI updates. Without it, each waiting server push request blocks a thread.
+ * </p>
  *
  * @since 2.0
  * @noextend This class is not intended to be subclassed by clients.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,73 @@ public final class RWTProperties {
   public static final String SERVICE_HANDLER_BASE_URL = "org.eclipse.rap.rwt.serviceHandlerBaseURL";
   public static final String DEVELOPMEMT_MODE = "org.eclipse.rap.rwt.developmentMode";
   public static final String TEXT_SIZE_STORE_SIZE = "org.eclipse.rap.rwt.textSizeStoreSize";
+  public static final String IMAGE_DATA_CACHE_SIZE = "org.eclipse.rap.rwt.imageDataCacheSize";
+
+  /*
+   * Runs the UI threads of the RWTLifeCycle on virtual threads, if supported by the VM.
+   */
+  public static final String VIRTUAL_UI_THREADS = "org.eclipse.rap.rwt.virtualUIThreads";
+
+  /*
+   * Preserves and renders widgets whose LCA supports it only when they were marked dirty.
+   */
+  public static final String DIRTY_TRACKING = "org.eclipse.rap.rwt.dirtyTracking";
+
+  /*
+   * Enables gzip compression of UI responses.
+   */
+  public static final String COMPRESSION = "org.eclipse.rap.rwt.compression";
+  public static final String COMPRESSION_THRESHOLD = "org.eclipse.rap.rwt.compressionThreshold";
+
+  /*
+   * Writes a gzip compressed variant of every registered text resource. Only useful if the
+   * servlet container or a proxy is configured to serve precompressed static files.
+   */
+  public static final String PRECOMPRESS_RESOURCES = "org.eclipse.rap.rwt.precompressResources";
+
+  /*
+   * Periodically estimates the memory retained by each UI session, see SessionInspector.
+   */
+  public static final String SESSION_INSPECTOR = "org.eclipse.rap.rwt.sessionInspector";
+  public static final String SESSION_INSPECTOR_INTERVAL
+    = "org.eclipse.rap.rwt.sessionInspectorInterval";
+
+  /*
+   * Delay in milliseconds by which FileSettingStore writes are deferred and coalesced. Zero
+   * (the default) writes every change immediately.
+   */
+  public static final String SETTING_STORE_WRITE_DELAY
+    = "org.eclipse.rap.rwt.settingStoreWriteDelay";
+
+  /*
+   * Directory of a persistent cache for precompressed resources, reused across restarts of the
+   * application. No cache is used if not set or if PRECOMPRESS_RESOURCES is not enabled.
+   */
+  public static final String RESOURCE_CACHE_DIRECTORY
+    = "org.eclipse.rap.rwt.resourceCacheDirectory";
+
+  /*
+   * Maximum number of asyncExec runnables that Display#readAndDispatch runs at once. With a value
+   * greater than one, the server push mechanism is notified at most once per batch. One (the
+   * default) runs a single runnable per call.
+   */
+  public static final String ASYNC_EXEC_BATCH_SIZE = "org.eclipse.rap.rwt.asyncExecBatchSize";
+
+  /*
+   * With session failover, re-attaches the UI session to the HTTP session only after requests that
+   * changed it, so that the servlet engine replicates it only then. A UI session counts as changed
+   * when UI requests were processed, attributes were set or removed, or UISession#exec was called.
+   * Service handlers that modify session state otherwise must set the affected attribute again.
+   */
+  public static final String REPLICATE_CHANGED_UI_SESSIONS_ONLY
+    = "org.eclipse.rap.rwt.replicateChangedUISessionsOnly";
+
+  /*
+   * Lets client listeners and functions with identical script code share one remote function
+   * within a UI session, so that the code is sent only once. The code is evaluated only once on
+   * the client as well, thus these listeners share the top-level variables of their script.
+   */
+  public static final String SHARE_CLIENT_FUNCTIONS = "org.eclipse.rap.rwt.shareClientFunctions";
 
   /*
    * Used in conjunction with <code>WidgetUtil#CUSTOM_WIDGET_ID</code>,
@@ -40,6 +107,58 @@ public final class RWTProperties {
     return getIntProperty( TEXT_SIZE_STORE_SIZE, defaultValue );
   }
 
+  public static int getImageDataCacheSize( int defaultValue ) {
+    return getIntProperty( IMAGE_DATA_CACHE_SIZE, defaultValue );
+  }
+
+  public static boolean useVirtualUIThreads() {
+    return getBooleanProperty( VIRTUAL_UI_THREADS, false );
+  }
+
+  public static boolean useDirtyTracking() {
+    return getBooleanProperty( DIRTY_TRACKING, false );
+  }
+
+  public static boolean isCompressionEnabled() {
+    return getBooleanProperty( COMPRESSION, true );
+  }
+
+  public static int getCompressionThreshold( int defaultValue ) {
+    return getIntProperty( COMPRESSION_THRESHOLD, defaultValue );
+  }
+
+  public static boolean precompressResources() {
+    return getBooleanProperty( PRECOMPRESS_RESOURCES, false );
+  }
+
+  public static boolean isSessionInspectorEnabled() {
+    return getBooleanProperty( SESSION_INSPECTOR, false );
+  }
+
+  public static int getSessionInspectorInterval( int defaultValue ) {
+    return getIntProperty( SESSION_INSPECTOR_INTERVAL, defaultValue );
+  }
+
+  public static int getSettingStoreWriteDelay( int defaultValue ) {
+    return getIntProperty( SETTING_STORE_WRITE_DELAY, defaultValue );
+  }
+
+  public static String getResourceCacheDirectory() {
+    return System.getProperty( RESOURCE_CACHE_DIRECTORY );
+  }
+
+  public static int getAsyncExecBatchSize( int defaultValue ) {
+    return getIntProperty( ASYNC_EXEC_BATCH_SIZE, defaultValue );
+  }
+
+  public static boolean replicateChangedUISessionsOnly() {
+    return getBooleanProperty( REPLICATE_CHANGED_UI_SESSIONS_ONLY, false );
+  }
+
+  public static boolean shareClientFunctions() {
+    return getBooleanProperty( SHARE_CLIENT_FUNCTIONS, false );
+  }
+
   public static boolean getBooleanProperty( String name, boolean defaultValue ) {
     String value = System.getProperty( name );
     return value == null ? defaultValue : value.equalsIgnoreCase( "true" );
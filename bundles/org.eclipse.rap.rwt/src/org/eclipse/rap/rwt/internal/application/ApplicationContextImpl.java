@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.application;
 
+import java.io.File;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -23,6 +24,7 @@ import javax.servlet.ServletContext;
 
 import org.eclipse.rap.rwt.application.ApplicationConfiguration;
 import org.eclipse.rap.rwt.application.ExceptionHandler;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.client.ClientSelector;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleFactory;
@@ -33,20 +35,26 @@ import org.eclipse.rap.rwt.internal.remote.MessageFilter;
 import org.eclipse.rap.rwt.internal.remote.MessageFilterChain;
 import org.eclipse.rap.rwt.internal.resources.ClientResources;
 import org.eclipse.rap.rwt.internal.resources.ResourceDirectory;
+import org.eclipse.rap.rwt.internal.resources.ResourceCache;
 import org.eclipse.rap.rwt.internal.resources.ResourceManagerImpl;
 import org.eclipse.rap.rwt.internal.resources.ResourceRegistry;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushServiceHandler;
 import org.eclipse.rap.rwt.internal.service.ApplicationStoreImpl;
 import org.eclipse.rap.rwt.internal.service.LifeCycleServiceHandler;
 import org.eclipse.rap.rwt.internal.service.RWTMessageHandler;
+import org.eclipse.rap.rwt.internal.service.ResponseCompressor;
 import org.eclipse.rap.rwt.internal.service.ServiceManagerImpl;
+import org.eclipse.rap.rwt.internal.service.SessionInspector;
+import org.eclipse.rap.rwt.internal.service.SessionInspectorServiceHandler;
 import org.eclipse.rap.rwt.internal.service.SettingStoreManager;
+import org.eclipse.rap.rwt.internal.service.SettingStoreWriter;
 import org.eclipse.rap.rwt.internal.service.StartupPage;
 import org.eclipse.rap.rwt.internal.textsize.ProbeStore;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeStorage;
 import org.eclipse.rap.rwt.internal.theme.ThemeManager;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
+import org.eclipse.rap.rwt.internal.util.SharedTimer;
 import org.eclipse.rap.rwt.service.ApplicationContext;
 import org.eclipse.rap.rwt.service.ApplicationContextEvent;
 import org.eclipse.rap.rwt.service.ApplicationContextListener;
@@ -83,6 +91,7 @@ public class ApplicationContextImpl implements ApplicationContext {
   private final ThemeManager themeManager;
   private final ApplicationConfiguration applicationConfiguration;
   private final ResourceDirectory resourceDirectory;
+  private final ResourceCache resourceCache;
   private final ResourceManager resourceManager;
   private final PhaseListenerManager phaseListenerManager;
   private final LifeCycleFactory lifeCycleFactory;
@@ -103,6 +112,11 @@ public class ApplicationContextImpl implements ApplicationContext {
   private final ProbeStore probeStore;
   private final ServletContext servletContext;
   private final ClientSelector clientSelector;
+  private final SharedTimer serverPushTimer;
+  private final SharedTimer timerExecTimer;
+  private final ResponseCompressor responseCompressor;
+  private final SessionInspector sessionInspector;
+  private final SettingStoreWriter settingStoreWriter;
   private final Set<ApplicationContextListener> appContextListeners;
   private final Set<UIThreadListener> uiThreadListeners;
   private final SerializableLock listenersLock;
@@ -115,7 +129,9 @@ public class ApplicationContextImpl implements ApplicationContext {
     this.applicationConfiguration = applicationConfiguration;
     this.servletContext = servletContext;
     applicationStore = new ApplicationStoreImpl();
+    responseCompressor = new ResponseCompressor();
     resourceDirectory = new ResourceDirectory();
+    resourceCache = createResourceCache();
     resourceManager = createResourceManager();
     phaseListenerManager = new PhaseListenerManager();
     entryPointManager = new EntryPointManager();
@@ -136,6 +152,10 @@ public class ApplicationContextImpl implements ApplicationContext {
     textSizeStorage = new TextSizeStorage();
     probeStore = new ProbeStore( textSizeStorage );
     clientSelector = new ClientSelector();
+    serverPushTimer = new SharedTimer( "RWT server push timer" );
+    timerExecTimer = new SharedTimer( "RWT timerExec scheduler" );
+    sessionInspector = new SessionInspector();
+    settingStoreWriter = new SettingStoreWriter();
     appContextListeners = new HashSet<>();
     listenersLock = new SerializableLock();
     state = new AtomicReference<>( State.INACTIVE );
@@ -147,7 +167,15 @@ public class ApplicationContextImpl implements ApplicationContext {
   }
 
   protected ResourceManager createResourceManager() {
-    return new ResourceManagerImpl( resourceDirectory );
+    return new ResourceManagerImpl( resourceDirectory,
+                                    RWTProperties.precompressResources(),
+                                    resourceCache );
+  }
+
+  private static ResourceCache createResourceCache() {
+    String directory = RWTProperties.getResourceCacheDirectory();
+    boolean enabled = directory != null && RWTProperties.precompressResources();
+    return enabled ? new ResourceCache( new File( directory ) ) : null;
   }
 
   public static ApplicationContextImpl getFrom( ServletContext servletContext ) {
@@ -344,6 +372,26 @@ public class ApplicationContextImpl implements ApplicationContext {
     return clientSelector;
   }
 
+  public SharedTimer getServerPushTimer() {
+    return serverPushTimer;
+  }
+
+  public SharedTimer getTimerExecTimer() {
+    return timerExecTimer;
+  }
+
+  public ResponseCompressor getResponseCompressor() {
+    return responseCompressor;
+  }
+
+  public SessionInspector getSessionInspector() {
+    return sessionInspector;
+  }
+
+  public SettingStoreWriter getSettingStoreWriter() {
+    return settingStoreWriter;
+  }
+
   public ExceptionHandler getExceptionHandler() {
     return exceptionHandler;
   }
@@ -381,13 +429,20 @@ public class ApplicationContextImpl implements ApplicationContext {
       clientResources.registerResources();
     }
     resourceRegistry.registerResources();
+    if( resourceCache != null ) {
+      resourceCache.prune();
+    }
     clientSelector.activate();
+    sessionInspector.activate( Integer.toHexString( System.identityHashCode( this ) ) );
   }
 
   void doDeactivate() {
     startupPage.deactivate();
     lifeCycleFactory.deactivate();
     serviceManager.clear();
+    serverPushTimer.shutdown();
+    timerExecTimer.shutdown();
+    sessionInspector.deactivate();
     themeManager.deactivate();
     if( !skipResoureDeletion ) {
       resourceDirectory.deleteDirectory();
@@ -396,6 +451,7 @@ public class ApplicationContextImpl implements ApplicationContext {
     phaseListenerManager.clear();
     resourceRegistry.clear();
     settingStoreManager.deregisterFactory();
+    settingStoreWriter.shutdown();
     resourceDirectory.reset();
     applicationStore.reset();
   }
@@ -416,6 +472,10 @@ public class ApplicationContextImpl implements ApplicationContext {
   private void addInternalServiceHandlers() {
     serviceManager.registerServiceHandler( ServerPushServiceHandler.HANDLER_ID,
                                            new ServerPushServiceHandler() );
+    if( sessionInspector.isEnabled() ) {
+      serviceManager.registerServiceHandler( SessionInspectorServiceHandler.HANDLER_ID,
+                                             new SessionInspectorServiceHandler() );
+    }
   }
 
   private void setInternalSettingStoreFactory() {
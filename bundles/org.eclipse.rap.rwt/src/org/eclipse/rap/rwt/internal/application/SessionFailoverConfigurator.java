@@ -56,7 +56,10 @@ class SessionFailoverConfigurator {
   private Dynamic registerSessionFailoverFilter() {
     Filter filter = new RWTClusterSupport();
     String filterName = filter.getClass().getName();
-    return servletContext.addFilter( filterName, filter );
+    Dynamic result = servletContext.addFilter( filterName, filter );
+    // allow the RWT servlet to suspend server push requests
+    result.setAsyncSupported( true );
+    return result;
   }
 
   private static void mapFilterToServlet( FilterRegistration filterRegistration,
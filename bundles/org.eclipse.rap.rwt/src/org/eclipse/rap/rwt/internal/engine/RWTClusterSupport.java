@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -22,6 +22,7 @@ import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessageConst;
 import org.eclipse.rap.rwt.internal.service.UISessionImpl;
@@ -30,6 +31,16 @@ import org.eclipse.rap.rwt.service.UISession;
 
 public class RWTClusterSupport implements Filter {
 
+  private final boolean replicateChangedOnly;
+
+  public RWTClusterSupport() {
+    this( RWTProperties.replicateChangedUISessionsOnly() );
+  }
+
+  RWTClusterSupport( boolean replicateChangedOnly ) {
+    this.replicateChangedOnly = replicateChangedOnly;
+  }
+
   @Override
   public void init( FilterConfig filterConfig ) {
   }
@@ -69,26 +80,28 @@ public class RWTClusterSupport implements Filter {
     ( ( UISessionImpl )uiSession ).setApplicationContext( applicationContext );
   }
 
-  private static void afterService( ServletRequest request ) {
+  private void afterService( ServletRequest request ) {
     HttpSession httpSession = getHttpSession( request );
     if( httpSession != null ) {
       afterService( httpSession, getConnectionId( request ) );
     }
   }
 
-  private static void afterService( HttpSession httpSession, String connectionId ) {
+  private void afterService( HttpSession httpSession, String connectionId ) {
     markSessionChanged( httpSession, connectionId );
   }
 
-  private static void markSessionChanged( HttpSession httpSession, String connectionId ) {
+  private void markSessionChanged( HttpSession httpSession, String connectionId ) {
     // If a session attribute changes, the servlet engine must be told to replicate the change.
     // Unfortunately the Servlet specs do not specify how this should be done.
     // The most common way is to call HttpSession.setAttribute() to flag the object as changed.
     // See http://wiki.eclipse.org/RAP/RWT_Cluster#Serializable_Session_Data
     // See also: J2EE clustering, Part 2, section Session-storage guidelines
     // http://java.sun.com/developer/technicalArticles/J2EE/clustering/
+    // The UI session is replicated as a whole. Splitting it into separate attributes would break
+    // the references between widgets, display and UI session on the failover node.
     UISessionImpl uiSession = UISessionImpl.getInstanceFromSession( httpSession, connectionId );
-    if( uiSession != null ) {
+    if( uiSession != null && ( !replicateChangedOnly || uiSession.isChanged() ) ) {
       uiSession.attachToHttpSession();
     }
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,10 +17,14 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderListene
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderToolTipMarkupEnabled;
 import static org.eclipse.swt.internal.widgets.ControlUtil.getControlAdapter;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 import org.eclipse.rap.rwt.internal.util.ActiveKeysUtil;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.internal.widgets.ControlRemoteAdapter;
 import org.eclipse.swt.internal.widgets.IControlAdapter;
+import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Link;
@@ -47,7 +51,8 @@ public class ControlLCAUtil {
   public static void renderChanges( Control control ) {
     ControlRemoteAdapter remoteAdapter = getRemoteAdapter( control );
     IControlAdapter controlAdapter = getControlAdapter( control );
-    if( control instanceof Shell ) {
+    // with dirty tracking, the DisplayLCA recalculates tab indices when the tab order changed
+    if( control instanceof Shell && !isDirtyTracking( control ) ) {
       recalculateTabIndex( ( Shell ) control );
     }
     if( control instanceof Composite ) {
@@ -78,34 +83,47 @@ public class ControlLCAUtil {
     renderListenHelp( control );
   }
 
-  private static void recalculateTabIndex( Shell shell ) {
-    resetTabIndices( shell );
+  /**
+   * Computes the tab indices of all controls in the given shell. Only tab indices that changed
+   * are set, so that controls with unchanged tab indices are not marked dirty.
+   */
+  public static void recalculateTabIndex( Shell shell ) {
+    Map<Control, Integer> tabIndices = new IdentityHashMap<>();
     // tabIndex must be a positive value
-    computeTabIndices( shell, 1 );
-  }
-
-  private static void resetTabIndices( Composite composite ) {
-    for( Control control : composite.getChildren() ) {
-      getControlAdapter( control ).setTabIndex( -1 );
-      if( control instanceof Composite ) {
-        resetTabIndices( ( Composite )control );
-      }
-    }
+    computeTabIndices( shell, 1, tabIndices );
+    applyTabIndices( shell, tabIndices );
   }
 
-  private static int computeTabIndices( Composite composite, int startIndex ) {
+  private static int computeTabIndices( Composite composite,
+                                        int startIndex,
+                                        Map<Control, Integer> tabIndices )
+  {
     int result = startIndex;
     for( Control control : composite.getTabList() ) {
-      getControlAdapter( control ).setTabIndex( result );
+      tabIndices.put( control, Integer.valueOf( result ) );
       // for Links, leave a range out to be assigned to hrefs on the client
       result += control instanceof Link ? 300 : 1;
       if( control instanceof Composite ) {
-        result = computeTabIndices( ( Composite )control, result );
+        result = computeTabIndices( ( Composite )control, result, tabIndices );
       }
     }
     return result;
   }
 
+  private static void applyTabIndices( Composite composite, Map<Control, Integer> tabIndices ) {
+    for( Control control : composite.getChildren() ) {
+      Integer tabIndex = tabIndices.get( control );
+      int index = tabIndex != null ? tabIndex.intValue() : -1;
+      IControlAdapter controlAdapter = getControlAdapter( control );
+      if( controlAdapter.getTabIndex() != index || !getRemoteAdapter( control ).isInitialized() ) {
+        controlAdapter.setTabIndex( index );
+      }
+      if( control instanceof Composite ) {
+        applyTabIndices( ( Composite )control, tabIndices );
+      }
+    }
+  }
+
   private static void renderListenActivate( Control control ) {
     // Note: Shell "Activate" event is handled by ShellLCA
     if( !( control instanceof Shell ) ) {
@@ -139,6 +157,10 @@ public class ControlLCAUtil {
     renderListener( control, SWT.Help, PROP_HELP_LISTENER );
   }
 
+  private static boolean isDirtyTracking( Control control ) {
+    return control.getDisplay().getAdapter( IDisplayAdapter.class ).getDirtyWidgets() != null;
+  }
+
   private static ControlRemoteAdapter getRemoteAdapter( Control control ) {
     return ( ControlRemoteAdapter )control.getAdapter( RemoteAdapter.class );
   }
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.swt.internal.SerializableCompatibility;
+import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Widget;
+
+
+/*
+ * Keeps track of the widgets of a display that have to be preserved, rendered and cleared in the
+ * current request, so that the lifecycle does not need to walk the entire widget tree:
+ *
+ * - changed widgets: widgets that were created or modified since preserved values were cleared.
+ *   While the display tracks changes (between preserving and rendering), a widget that is marked
+ *   for the first time is preserved lazily, before it is modified. As changes to a widget can
+ *   affect the rendered state of its parent (e.g. the client area or item metrics), all ancestors
+ *   are marked as well.
+ * - untracked widgets: rendered widgets whose LCA does not support dirty tracking. They are
+ *   preserved and rendered in every request.
+ * - shells whose tab order changed because controls were added, removed or moved.
+ */
+public final class DirtyWidgets implements SerializableCompatibility {
+
+  private final Set<Widget> changedWidgets;
+  private final Set<Widget> untrackedWidgets;
+  private final Set<Shell> changedTabOrders;
+  private transient boolean trackingChanges;
+
+  public DirtyWidgets() {
+    changedWidgets = new HashSet<>();
+    untrackedWidgets = new HashSet<>();
+    changedTabOrders = new HashSet<>();
+  }
+
+  public void setTrackingChanges( boolean trackingChanges ) {
+    this.trackingChanges = trackingChanges;
+  }
+
+  public boolean isTrackingChanges() {
+    return trackingChanges;
+  }
+
+  public void markCreated( Widget widget ) {
+    changedWidgets.add( widget );
+  }
+
+  public void markDirty( Widget widget ) {
+    if( !trackingChanges ) {
+      // values preserved outside of the tracking phase are cleared after rendering
+      changedWidgets.add( widget );
+      return;
+    }
+    Widget current = widget;
+    while( current != null ) {
+      WidgetRemoteAdapter adapter = getRemoteAdapter( current );
+      if( adapter.isDirty() ) {
+        // ancestors of a dirty widget are already dirty
+        return;
+      }
+      adapter.markDirty();
+      changedWidgets.add( current );
+      preserveValues( current, adapter );
+      current = adapter.getParent();
+    }
+  }
+
+  public void markTabOrderChanged( Shell shell ) {
+    changedTabOrders.add( shell );
+  }
+
+  /*
+   * Returns the shells whose tab order changed since the last call and forgets about them.
+   */
+  public List<Shell> takeChangedTabOrders() {
+    List<Shell> result = new ArrayList<>( changedTabOrders.size() );
+    for( Shell shell : changedTabOrders ) {
+      if( !shell.isDisposed() ) {
+        result.add( shell );
+      }
+    }
+    changedTabOrders.clear();
+    return result;
+  }
+
+  public void preserveValues() {
+    for( Widget widget : untrackedWidgets ) {
+      if( !widget.isDisposed() ) {
+        WidgetUtil.getLCA( widget ).preserveValues( widget );
+      }
+    }
+  }
+
+  /*
+   * Returns the changed and untracked widgets together with all their ancestors, i.e. the widgets
+   * that a walk over the widget tree has to descend into in order to reach all widgets that may
+   * need to be rendered.
+   */
+  public Set<Widget> getRenderScope() {
+    Set<Widget> result = new HashSet<>();
+    addWithAncestors( changedWidgets, result );
+    addWithAncestors( untrackedWidgets, result );
+    return result;
+  }
+
+  public void markRendered( Widget widget ) {
+    if( !WidgetUtil.getLCA( widget ).supportsDirtyTracking() ) {
+      untrackedWidgets.add( widget );
+    }
+  }
+
+  public void clearPreserved() {
+    Iterator<Widget> untracked = untrackedWidgets.iterator();
+    while( untracked.hasNext() ) {
+      Widget widget = untracked.next();
+      if( widget.isDisposed() ) {
+        untracked.remove();
+      } else {
+        getRemoteAdapter( widget ).clearPreserved();
+      }
+    }
+    Iterator<Widget> changed = changedWidgets.iterator();
+    while( changed.hasNext() ) {
+      Widget widget = changed.next();
+      if( !widget.isDisposed() ) {
+        WidgetRemoteAdapter adapter = getRemoteAdapter( widget );
+        adapter.clearPreserved();
+        if( !adapter.isInitialized() ) {
+          // created after the widget tree was rendered, keep it for the next request
+          continue;
+        }
+      }
+      changed.remove();
+    }
+  }
+
+  public static boolean needsRender( Widget widget ) {
+    WidgetRemoteAdapter adapter = getRemoteAdapter( widget );
+    return    !adapter.isInitialized()
+           || adapter.isDirty()
+           || !WidgetUtil.getLCA( widget ).supportsDirtyTracking();
+  }
+
+  private static void addWithAncestors( Set<Widget> widgets, Set<Widget> result ) {
+    for( Widget widget : widgets ) {
+      Widget current = widget;
+      while( current != null && !current.isDisposed() && result.add( current ) ) {
+        current = getRemoteAdapter( current ).getParent();
+      }
+    }
+  }
+
+  private static void preserveValues( Widget widget, WidgetRemoteAdapter adapter ) {
+    if( adapter.isInitialized() && !widget.isDisposed() ) {
+      WidgetLCA<Widget> lca = WidgetUtil.getLCA( widget );
+      if( lca.supportsDirtyTracking() ) {
+        lca.preserveValues( widget );
+      }
+    }
+  }
+
+  private static WidgetRemoteAdapter getRemoteAdapter( Widget widget ) {
+    return ( WidgetRemoteAdapter )WidgetUtil.getAdapter( widget );
+  }
+
+}
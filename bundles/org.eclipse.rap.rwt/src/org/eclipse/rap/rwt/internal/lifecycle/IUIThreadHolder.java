@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2012 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,8 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.lifecycle;
 
+import java.util.concurrent.locks.Lock;
+
 import org.eclipse.rap.rwt.internal.service.ServiceContext;
 
 
@@ -26,5 +28,5 @@ public interface IUIThreadHolder {
 
   Thread getThread();
 
-  Object getLock();
+  Lock getLock();
 }
@@ -0,0 +1,23 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+
+public class PlatformUIThreadFactory implements UIThreadFactory {
+
+  @Override
+  public Thread createThread( Runnable runnable, String name ) {
+    Thread result = new Thread( runnable, name );
+    result.setDaemon( true );
+    return result;
+  }
+
+}
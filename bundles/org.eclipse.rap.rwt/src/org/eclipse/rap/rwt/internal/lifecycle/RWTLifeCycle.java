@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,10 +12,12 @@
 package org.eclipse.rap.rwt.internal.lifecycle;
 
 import java.io.IOException;
+import java.util.concurrent.locks.Lock;
 
 import javax.servlet.http.HttpServletRequest;
 
 import org.eclipse.rap.rwt.application.EntryPoint;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.IPhase.IInterruptible;
 import org.eclipse.rap.rwt.internal.lifecycle.UIThread.UIThreadTerminatedError;
@@ -83,10 +85,20 @@ public class RWTLifeCycle extends LifeCycle {
   };
 
   Runnable uiRunnable;
+  private UIThreadFactory uiThreadFactory;
 
   public RWTLifeCycle( ApplicationContextImpl applicationContext ) {
     super( applicationContext );
     uiRunnable = new UIThreadController();
+    uiThreadFactory = createUIThreadFactory();
+  }
+
+  public void setUIThreadFactory( UIThreadFactory uiThreadFactory ) {
+    this.uiThreadFactory = uiThreadFactory;
+  }
+
+  UIThreadFactory getUIThreadFactory() {
+    return uiThreadFactory;
   }
 
   @Override
@@ -187,9 +199,13 @@ public class RWTLifeCycle extends LifeCycle {
       uiThread = createUIThread();
       // The serviceContext MUST be set before thread.start() is called
       uiThread.setServiceContext( context );
-      synchronized( uiThread.getLock() ) {
+      Lock lock = uiThread.getLock();
+      lock.lock();
+      try {
         uiThread.getThread().start();
         uiThread.switchThread();
+      } finally {
+        lock.unlock();
       }
     } else {
       uiThread.setServiceContext( context );
@@ -237,14 +253,20 @@ public class RWTLifeCycle extends LifeCycle {
 
   private IUIThreadHolder createUIThread() {
     UISession uiSession = ContextProvider.getUISession();
-    IUIThreadHolder result = new UIThread( uiRunnable );
-    result.getThread().setDaemon( true );
-    result.getThread().setName( "UIThread [" + uiSession.getId() + "]" );
+    String name = "UIThread [" + uiSession.getId() + "]";
+    IUIThreadHolder result = new UIThread( uiRunnable, uiThreadFactory, name );
     LifeCycleUtil.setUIThread( uiSession, result );
     setShutdownAdapter( ( ISessionShutdownAdapter )result );
     return result;
   }
 
+  private static UIThreadFactory createUIThreadFactory() {
+    if( RWTProperties.useVirtualUIThreads() ) {
+      return new VirtualUIThreadFactory();
+    }
+    return new PlatformUIThreadFactory();
+  }
+
   private static Integer getCurrentPhase() {
     ServiceStore serviceStore = ContextProvider.getServiceStore();
     return ( Integer )serviceStore.getAttribute( CURRENT_PHASE );
@@ -279,10 +301,12 @@ public class RWTLifeCycle extends LifeCycle {
   private final class UIThreadController implements Runnable {
     @Override
     public void run() {
-      IUIThreadHolder uiThread = ( IUIThreadHolder )Thread.currentThread();
+      IUIThreadHolder uiThread = UIThread.getCurrent();
       try {
         // [rh] sync exception handling and switchThread (see bug 316676)
-        synchronized( uiThread.getLock() ) {
+        Lock lock = uiThread.getLock();
+        lock.lock();
+        try {
           try {
             uiThread.updateServiceContext();
             ServerPushManager.getInstance().notifyUIThreadStart();
@@ -303,6 +327,8 @@ public class RWTLifeCycle extends LifeCycle {
           uiSession.setAttribute( UI_THREAD_WAITING_FOR_TERMINATION, Boolean.TRUE );
           // In any case: wait for the thread to be terminated by session timeout
           uiThread.switchThread();
+        } finally {
+          lock.unlock();
         }
       } catch( @SuppressWarnings( "unused" ) UIThreadTerminatedError e ) {
         // If we get here, the session is being invalidated, see UIThread#terminateThread()
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,9 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.lifecycle;
 
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getUISession;
+
 import java.io.IOException;
 
 import org.eclipse.swt.internal.widgets.displaykit.DisplayLCA;
@@ -30,6 +33,8 @@ final class Render implements IPhase {
     if( display != null ) {
       DisplayLCA displayLCA = DisplayUtil.getLCA( display );
       displayLCA.render( display );
+      // sample before clearing, the footprint includes the preserved values
+      getApplicationContext().getSessionInspector().sample( getUISession(), display );
       displayLCA.clearPreserved( display );
     }
     return null;
@@ -11,6 +11,7 @@
 package org.eclipse.rap.rwt.internal.lifecycle;
 
 import java.io.IOException;
+import java.util.concurrent.locks.Lock;
 
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
@@ -130,7 +131,7 @@ public class SimpleLifeCycle extends LifeCycle {
     }
 
     @Override
-    public Object getLock() {
+    public Lock getLock() {
       throw new UnsupportedOperationException();
     }
   }
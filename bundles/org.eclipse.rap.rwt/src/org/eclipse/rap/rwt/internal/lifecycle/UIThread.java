@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,10 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.lifecycle;
 
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServiceContext;
@@ -20,20 +24,52 @@ import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.swt.widgets.Display;
 
 
+/*
+ * Holds the thread that executes the UI code of a UI session. The thread itself is created by a
+ * UIThreadFactory and may be a virtual thread. Control is passed between the request thread and
+ * the UI thread with a java.util.concurrent lock rather than an object monitor, so that waiting
+ * virtual threads do not pin their carrier thread.
+ */
 @SuppressWarnings( "deprecation" )
-final class UIThread extends Thread implements IUIThreadHolder, ISessionShutdownAdapter {
+final class UIThread implements IUIThreadHolder, ISessionShutdownAdapter {
 
   static final class UIThreadTerminatedError extends ThreadDeath {
     private static final long serialVersionUID = 1L;
   }
 
+  private static final ThreadLocal<UIThread> CURRENT = new ThreadLocal<>();
+
+  private final Runnable runnable;
+  private final Thread thread;
+  private final Lock lock;
+  private final Condition switched;
   private ServiceContext serviceContext;
   private UISession uiSession;
   private Runnable shutdownCallback;
   private volatile boolean uiThreadTerminating;
 
   public UIThread( Runnable runnable ) {
-    super( runnable );
+    this( runnable, new PlatformUIThreadFactory(), "UIThread" );
+  }
+
+  public UIThread( Runnable runnable, UIThreadFactory threadFactory, String name ) {
+    this.runnable = runnable;
+    lock = new ReentrantLock();
+    switched = lock.newCondition();
+    thread = threadFactory.createThread( new Runnable() {
+      @Override
+      public void run() {
+        UIThread.this.run();
+      }
+    }, name );
+  }
+
+  /**
+   * Returns the holder of the UI thread that is currently executing or <code>null</code> if the
+   * current thread is not a UI thread.
+   */
+  static UIThread getCurrent() {
+    return CURRENT.get();
   }
 
   //////////////////////////
@@ -54,19 +90,21 @@ final class UIThread extends Thread implements IUIThreadHolder, ISessionShutdown
 
   @Override
   public void switchThread() {
-    Object lock = getLock();
-    synchronized( lock ) {
+    lock.lock();
+    try {
       checkAndReportTerminatedUIThread();
-      lock.notifyAll();
+      switched.signalAll();
       boolean done = false;
       while( !done ) {
         try {
-          lock.wait();
+          switched.await();
           done = true;
         } catch( InterruptedException e ) {
           handleInterruptInSwitchThread( e );
         }
       }
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -101,12 +139,21 @@ final class UIThread extends Thread implements IUIThreadHolder, ISessionShutdown
     }
   }
 
-  @Override
-  public void run() {
+  void run() {
+    CURRENT.set( this );
     try {
-      super.run();
+      if( runnable != null ) {
+        runnable.run();
+      }
     } finally {
-      // TODO [rh] call lock.notifyAll()?
+      CURRENT.remove();
+      // release a request thread that still waits in switchThread
+      lock.lock();
+      try {
+        switched.signalAll();
+      } finally {
+        lock.unlock();
+      }
     }
   }
 
@@ -118,8 +165,11 @@ final class UIThread extends Thread implements IUIThreadHolder, ISessionShutdown
     setServiceContext( serviceContext );
     uiThreadTerminating = true;
     // interrupt the UI thread that is expected to wait in switchThread or already be terminated
-    synchronized( getLock() ) {
+    lock.lock();
+    try {
       getThread().interrupt();
+    } finally {
+      lock.unlock();
     }
     try {
       getThread().join();
@@ -132,13 +182,12 @@ final class UIThread extends Thread implements IUIThreadHolder, ISessionShutdown
 
   @Override
   public Thread getThread() {
-    return this;
+    return thread;
   }
 
   @Override
-  public Object getLock() {
-    // TODO [rh] use a distinct (final) lock object instead of 'this'
-    return this;
+  public Lock getLock() {
+    return lock;
   }
 
 
@@ -0,0 +1,22 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+
+/**
+ * Creates the threads that run the UI code of a UI session when the JEE compatibility mode is
+ * disabled. The returned thread must not be started and must not keep the VM alive.
+ */
+public interface UIThreadFactory {
+
+  Thread createThread( Runnable runnable, String name );
+
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.lang.reflect.Method;
+
+
+/**
+ * Creates UI threads as virtual threads. An idle UI session then does not hold a platform thread
+ * and its stack. As RWT still runs on Java 8, the virtual thread API is accessed reflectively.
+ * On a VM without virtual threads, platform threads are created instead.
+ */
+public class VirtualUIThreadFactory implements UIThreadFactory {
+
+  private final Method ofVirtual;
+  private final Method name;
+  private final Method unstarted;
+  private final UIThreadFactory fallback;
+
+  public VirtualUIThreadFactory() {
+    Method[] methods = findBuilderMethods();
+    ofVirtual = methods[ 0 ];
+    name = methods[ 1 ];
+    unstarted = methods[ 2 ];
+    fallback = new PlatformUIThreadFactory();
+  }
+
+  public boolean isSupported() {
+    return ofVirtual != null;
+  }
+
+  @Override
+  public Thread createThread( Runnable runnable, String threadName ) {
+    if( isSupported() ) {
+      try {
+        Object builder = ofVirtual.invoke( null );
+        builder = name.invoke( builder, threadName );
+        return ( Thread )unstarted.invoke( builder, runnable );
+      } catch( Exception exception ) {
+        throw new IllegalStateException( "Failed to create virtual UI thread", exception );
+      }
+    }
+    return fallback.createThread( runnable, threadName );
+  }
+
+  private static Method[] findBuilderMethods() {
+    try {
+      Class<?> builderClass = Class.forName( "java.lang.Thread$Builder" );
+      return new Method[] {
+        Thread.class.getMethod( "ofVirtual" ),
+        builderClass.getMethod( "name", String.class ),
+        builderClass.getMethod( "unstarted", Runnable.class )
+      };
+    } catch( @SuppressWarnings( "unused" ) ClassNotFoundException | NoSuchMethodException e ) {
+      return new Method[ 3 ];
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -55,6 +55,17 @@ public abstract class WidgetLCA<T extends Widget>  {
 
   public abstract void preserveValues( T widget );
 
+  /**
+   * Returns whether this LCA supports dirty tracking. Widgets of such an LCA are only preserved
+   * and rendered in requests that marked them dirty. This requires that all rendered properties
+   * can only change through methods of the widget that call <code>checkWidget()</code> or through
+   * the preserve methods of its remote adapter. Otherwise, the widget is preserved and rendered
+   * in every request.
+   */
+  public boolean supportsDirtyTracking() {
+    return false;
+  }
+
   public abstract void renderInitialization( T widget ) throws IOException;
 
   public abstract void renderChanges( T widget ) throws IOException;
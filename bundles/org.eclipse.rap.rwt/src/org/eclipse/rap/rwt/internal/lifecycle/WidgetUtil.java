@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,9 +13,9 @@ package org.eclipse.rap.rwt.internal.lifecycle;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
-import org.eclipse.swt.internal.widgets.WidgetTreeUtil;
-import org.eclipse.swt.internal.widgets.WidgetTreeVisitor;
+import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Widget;
 
 
@@ -49,20 +49,23 @@ public final class WidgetUtil {
     return lca;
   }
 
-  public static Widget find( Composite root, final String id ) {
-    final Widget[] result = { null };
+  public static Widget find( Composite root, String id ) {
+    Widget result = null;
     if( id != null ) {
-      WidgetTreeUtil.accept( root, new WidgetTreeVisitor() {
-        @Override
-        public boolean visit( Widget widget ) {
-          if( getId( widget ).equals( id ) ) {
-            result[ 0 ] = widget;
-          }
-          return result[ 0 ] == null;
-        }
-      } );
+      Widget widget = find( root.getDisplay(), id );
+      if( widget != null && isContained( root, widget ) ) {
+        result = widget;
+      }
     }
-    return result[ 0 ];
+    return result;
+  }
+
+  public static Widget find( Display display, String id ) {
+    Widget result = null;
+    if( id != null ) {
+      result = display.getAdapter( IDisplayAdapter.class ).findWidget( id );
+    }
+    return result;
   }
 
   public static void registerDataKeys( String... keys ) {
@@ -70,4 +73,12 @@ public final class WidgetUtil {
     WidgetDataUtil.registerDataKeys( keys );
   }
 
+  private static boolean isContained( Widget root, Widget widget ) {
+    Widget current = widget;
+    while( current != null && current != root ) {
+      current = getAdapter( current ).getParent();
+    }
+    return current == root;
+  }
+
 }
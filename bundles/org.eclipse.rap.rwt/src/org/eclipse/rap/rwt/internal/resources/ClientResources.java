@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ import static org.eclipse.rap.rwt.internal.resources.ClientFilesReader.getInputF
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.rap.rwt.internal.RWTProperties;
@@ -24,6 +25,7 @@ import org.eclipse.rap.rwt.internal.theme.AppearanceWriter;
 import org.eclipse.rap.rwt.internal.theme.Theme;
 import org.eclipse.rap.rwt.internal.theme.ThemeManager;
 import org.eclipse.rap.rwt.internal.util.HTTP;
+import org.eclipse.rap.rwt.internal.util.ParallelTasks;
 import org.eclipse.rap.rwt.service.ResourceManager;
 import org.eclipse.swt.SWT;
 
@@ -114,10 +116,14 @@ public final class ClientResources {
 
   private void registerThemeResources() {
     String[] themeIds = themeManager.getRegisteredThemeIds();
+    List<Runnable> tasks = new ArrayList<>();
     for( String themeId : themeIds ) {
       Theme theme = themeManager.getTheme( themeId );
-      theme.registerResources( applicationContext );
+      // resources may be shared between themes, theme store files are distinct
+      theme.registerThemeResources( applicationContext );
+      tasks.add( () -> theme.registerThemeStoreFile( applicationContext ) );
     }
+    ParallelTasks.runAll( "RWT theme registration", tasks );
   }
 
   private void registerWidgetImages() throws IOException {
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.util.AtomicFileUtil;
+import org.eclipse.rap.rwt.internal.util.ParamCheck;
+
+
+/**
+ * A persistent store for files derived from resource content, e.g. precompressed variants of
+ * generated resources. Entries are addressed by a hash of the content they are derived from, so
+ * that an entry can be reused across restarts as long as the content is unchanged. The cache
+ * directory is configured with the system property {@link RWTProperties#RESOURCE_CACHE_DIRECTORY}
+ * and may be shared by several applications.
+ * <p>
+ * The cache is a pure optimization: failures to read or write entries are ignored. Entries that
+ * have not been used for some time are removed by {@link #prune()}. Other files in the directory
+ * are never touched.
+ * </p>
+ */
+public class ResourceCache {
+
+  private static final long MAX_UNUSED_TIME = TimeUnit.DAYS.toMillis( 30 );
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+  // entries are named <key>[.gz], temporary files .<key>[.gz].<random>.tmp
+  private static final Pattern ENTRY_NAME = Pattern.compile( "[0-9a-f]{64}(\\.gz)?" );
+  private static final Pattern TEMP_FILE_NAME
+    = Pattern.compile( "\\.[0-9a-f]{64}(\\.gz)?\\.[0-9]+\\.tmp" );
+
+  private final File directory;
+
+  public ResourceCache( File directory ) {
+    ParamCheck.notNull( directory, "directory" );
+    this.directory = directory;
+  }
+
+  public File getDirectory() {
+    return directory;
+  }
+
+  /**
+   * Creates a message digest to compute the keys of cache entries.
+   */
+  public static MessageDigest createDigest() {
+    try {
+      return MessageDigest.getInstance( "SHA-256" );
+    } catch( NoSuchAlgorithmException exception ) {
+      throw new RuntimeException( "SHA-256 not supported", exception );
+    }
+  }
+
+  /**
+   * Returns the key for the given digest.
+   */
+  public static String toKey( MessageDigest digest ) {
+    byte[] bytes = digest.digest();
+    char[] result = new char[ bytes.length * 2 ];
+    for( int i = 0; i < bytes.length; i++ ) {
+      result[ i * 2 ] = HEX_DIGITS[ ( bytes[ i ] >> 4 ) & 0xF ];
+      result[ i * 2 + 1 ] = HEX_DIGITS[ bytes[ i ] & 0xF ];
+    }
+    return new String( result );
+  }
+
+  /**
+   * Copies the entry with the given key to the target file.
+   *
+   * @return <code>true</code> if the entry was found and copied, <code>false</code> otherwise
+   */
+  public boolean copyTo( String key, File target ) {
+    File entry = getEntry( key );
+    if( entry.isFile() ) {
+      try {
+        Files.copy( entry.toPath(), target.toPath(), REPLACE_EXISTING );
+        entry.setLastModified( System.currentTimeMillis() );
+        return true;
+      } catch( @SuppressWarnings( "unused" ) IOException exception ) {
+        target.delete();
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Stores a copy of the given file under the given key. Concurrent stores of the same key are
+   * safe, since entries are replaced atomically.
+   */
+  public void store( String key, File source ) {
+    try {
+      if( !directory.isDirectory() ) {
+        directory.mkdirs();
+      }
+      File tempFile = File.createTempFile( "." + key + ".", ".tmp", directory );
+      try {
+        Files.copy( source.toPath(), tempFile.toPath(), REPLACE_EXISTING );
+        AtomicFileUtil.move( tempFile, getEntry( key ) );
+      } finally {
+        tempFile.delete();
+      }
+    } catch( @SuppressWarnings( "unused" ) IOException exception ) {
+      // ignore, the cache is an optimization only
+    }
+  }
+
+  /**
+   * Removes all entries and left over temporary files that have not been used for 30 days.
+   */
+  public void prune() {
+    File[] files = directory.listFiles();
+    if( files != null ) {
+      long limit = System.currentTimeMillis() - MAX_UNUSED_TIME;
+      for( File file : files ) {
+        if( isCacheFile( file.getName() ) && file.isFile() && file.lastModified() < limit ) {
+          file.delete();
+        }
+      }
+    }
+  }
+
+  static boolean isCacheFile( String name ) {
+    return ENTRY_NAME.matcher( name ).matches() || TEMP_FILE_NAME.matcher( name ).matches();
+  }
+
+  private File getEntry( String key ) {
+    return new File( directory, key );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,9 +21,13 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.internal.util.StreamUtil;
@@ -46,11 +50,41 @@ import org.eclipse.rap.rwt.service.ResourceManager;
  */
 public class ResourceManagerImpl implements ResourceManager {
 
+  static final String GZIP_SUFFIX = ".gz";
+  private static final String[] COMPRESSIBLE_EXTENSIONS = {
+    ".js", ".css", ".json", ".html", ".htm", ".svg", ".txt", ".xml"
+  };
+
   private final ResourceDirectory resourceDirectory;
+  private final boolean precompress;
+  private final ResourceCache cache;
   private final Set<String> resources;
 
   public ResourceManagerImpl( ResourceDirectory resourceDirectory ) {
+    this( resourceDirectory, false );
+  }
+
+  /**
+   * @param precompress whether to write a gzip compressed variant with the suffix
+   *          <code>.gz</code> next to every registered text resource, to be delivered by servlet
+   *          containers and proxies that support precompressed static content
+   */
+  public ResourceManagerImpl( ResourceDirectory resourceDirectory, boolean precompress ) {
+    this( resourceDirectory, precompress, null );
+  }
+
+  /**
+   * @param precompress whether to write gzip compressed variants of text resources
+   * @param cache a persistent cache for the compressed variants, so that unchanged resources
+   *          don't have to be compressed again after a restart, may be <code>null</code>
+   */
+  public ResourceManagerImpl( ResourceDirectory resourceDirectory,
+                              boolean precompress,
+                              ResourceCache cache )
+  {
     this.resourceDirectory = resourceDirectory;
+    this.precompress = precompress;
+    this.cache = cache;
     resources = Collections.synchronizedSet( new HashSet<String>() );
   }
 
@@ -92,6 +126,7 @@ public class ResourceManagerImpl implements ResourceManager {
       result = true;
       File file = getDiskLocation( name );
       file.delete();
+      getCompressedLocation( file ).delete();
     }
     return result;
   }
@@ -141,18 +176,45 @@ public class ResourceManagerImpl implements ResourceManager {
     File location = getDiskLocation( name );
     try {
       createDirectories( location );
-      writeResource( inputStream, location );
+      if( precompress && isCompressible( name ) ) {
+        MessageDigest digest = cache != null ? ResourceCache.createDigest() : null;
+        writeResource( inputStream, location, digest );
+        registerCompressedResource( location, digest );
+      } else {
+        writeResource( inputStream, location, null );
+      }
     } catch ( IOException ioe ) {
       throw new RuntimeException( "Failed to register resource: " + name, ioe );
     }
     resources.add( name );
   }
 
-  private static void writeResource( InputStream inputStream, File location )
+  private void registerCompressedResource( File location, MessageDigest digest )
+    throws IOException
+  {
+    if( digest == null ) {
+      writeCompressedResource( location );
+    } else {
+      // the cache key is derived from the uncompressed content
+      String key = ResourceCache.toKey( digest ) + GZIP_SUFFIX;
+      File compressedLocation = getCompressedLocation( location );
+      if( !cache.copyTo( key, compressedLocation ) ) {
+        writeCompressedResource( location );
+        cache.store( key, compressedLocation );
+      }
+    }
+  }
+
+  private static void writeResource( InputStream inputStream,
+                                      File location,
+                                      MessageDigest digest )
     throws IOException
   {
     BufferedInputStream bufferedStream = new BufferedInputStream( inputStream );
     OutputStream outputStream = new BufferedOutputStream( new FileOutputStream( location ) );
+    if( digest != null ) {
+      outputStream = new DigestOutputStream( outputStream, digest );
+    }
     try {
       byte[] buffer = new byte[ 256 ];
       int read = bufferedStream.read( buffer );
@@ -165,6 +227,40 @@ public class ResourceManagerImpl implements ResourceManager {
     }
   }
 
+  private static void writeCompressedResource( File location ) throws IOException {
+    InputStream inputStream = new FileInputStream( location );
+    try {
+      File compressedLocation = getCompressedLocation( location );
+      OutputStream outputStream = new GZIPOutputStream( new FileOutputStream( compressedLocation ) );
+      try {
+        byte[] buffer = new byte[ 8192 ];
+        int read = inputStream.read( buffer );
+        while( read != -1 ) {
+          outputStream.write( buffer, 0, read );
+          read = inputStream.read( buffer );
+        }
+      } finally {
+        outputStream.close();
+      }
+    } finally {
+      inputStream.close();
+    }
+  }
+
+  private static boolean isCompressible( String name ) {
+    String lowerCaseName = name.toLowerCase( Locale.ENGLISH );
+    for( String extension : COMPRESSIBLE_EXTENSIONS ) {
+      if( lowerCaseName.endsWith( extension ) ) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static File getCompressedLocation( File location ) {
+    return new File( location.getPath() + GZIP_SUFFIX );
+  }
+
   private static void createDirectories( File file ) throws IOException {
     File dir = new File( file.getParent() );
     if( !dir.mkdirs() ) {
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.scripting;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.resources.ResourceCache;
+import org.eclipse.rap.rwt.remote.RemoteObject;
+import org.eclipse.swt.internal.SerializableCompatibility;
+
+
+/**
+ * Keeps the remote functions of a UI session by the hash of their script code, so that the script
+ * code of client functions with identical code is sent to the client only once. As the client
+ * evaluates the script code once per remote function, client functions that share a remote
+ * function also share the top-level variables of their script. Used only if
+ * {@link RWTProperties#SHARE_CLIENT_FUNCTIONS} is enabled.
+ */
+final class ClientFunctionRegistry implements SerializableCompatibility {
+
+  private static final String REMOTE_TYPE = "rwt.scripting.Function";
+
+  private final Map<String, RemoteObject> remoteObjects;
+
+  static ClientFunctionRegistry getInstance() {
+    return SingletonUtil.getSessionInstance( ClientFunctionRegistry.class );
+  }
+
+  private ClientFunctionRegistry() {
+    remoteObjects = new HashMap<>();
+  }
+
+  synchronized RemoteObject getRemoteObject( String scriptCode ) {
+    String key = getKey( scriptCode );
+    RemoteObject result = remoteObjects.get( key );
+    if( result == null ) {
+      result = createRemoteObject( scriptCode );
+      remoteObjects.put( key, result );
+    }
+    return result;
+  }
+
+  static RemoteObject createRemoteObject( String scriptCode ) {
+    RemoteObject result = RWT.getUISession().getConnection().createRemoteObject( REMOTE_TYPE );
+    result.set( "name", "handleEvent" );
+    result.set( "scriptCode", scriptCode );
+    return result;
+  }
+
+  private static String getKey( String scriptCode ) {
+    MessageDigest digest = ResourceCache.createDigest();
+    digest.update( scriptCode.getBytes( UTF_8 ) );
+    return ResourceCache.toKey( digest );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,14 +13,21 @@ package org.eclipse.rap.rwt.internal.serverpush;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.concurrent.ScheduledFuture;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 
 import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServiceStore;
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
+import org.eclipse.rap.rwt.internal.util.SharedTimer;
 import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.rap.rwt.service.UISessionEvent;
 import org.eclipse.rap.rwt.service.UISessionListener;
@@ -71,6 +78,7 @@ public final class ServerPushManager implements SerializableCompatibility {
   public void releaseBlockedRequest() {
     synchronized( lock ) {
       lock.notifyAll();
+      checkSuspendedRequests();
     }
   }
 
@@ -124,31 +132,88 @@ public final class ServerPushManager implements SerializableCompatibility {
     return isServerPushActive() || forceServerPushForPendingRunnables();
   }
 
-  void processRequest( HttpServletResponse response ) {
+  void processRequest( HttpServletRequest request, HttpServletResponse response ) {
     synchronized( lock ) {
       if( isCallBackRequestBlocked() ) {
         releaseBlockedRequest();
       }
       if( mustBlockCallBackRequest() ) {
-        long requestStartTime = System.currentTimeMillis();
-        serverPushRequestTracker.activate( Thread.currentThread() );
-        TerminationListener listener = attachTerminationListener();
-        try {
-          boolean canRelease = false;
-          while( !canRelease ) {
-            lock.wait( requestCheckInterval );
-            canRelease = canReleaseBlockedRequest( response, requestStartTime );
-          }
-        } catch( @SuppressWarnings( "unused" ) InterruptedException ie ) {
-          Thread.interrupted(); // Reset interrupted state, see bug 300254
-        } finally {
-          listener.detach();
-          serverPushRequestTracker.deactivate( Thread.currentThread() );
+        if( request.isAsyncSupported() ) {
+          suspendRequest( request, response );
+        } else {
+          blockRequest( response );
+        }
+      }
+    }
+  }
+
+  private void blockRequest( HttpServletResponse response ) {
+    long requestStartTime = System.currentTimeMillis();
+    serverPushRequestTracker.activate( Thread.currentThread() );
+    checkSuspendedRequests();
+    TerminationListener listener = attachTerminationListener();
+    try {
+      boolean canRelease = false;
+      while( !canRelease ) {
+        lock.wait( requestCheckInterval );
+        canRelease = canReleaseBlockedRequest( response, requestStartTime );
+      }
+    } catch( @SuppressWarnings( "unused" ) InterruptedException ie ) {
+      Thread.interrupted(); // Reset interrupted state, see bug 300254
+    } finally {
+      listener.detach();
+      serverPushRequestTracker.deactivate( Thread.currentThread() );
+    }
+  }
+
+  /*
+   * Suspends the request using the Servlet 3 async API. The container thread is returned to the
+   * pool immediately, the request is completed later by releaseBlockedRequest() or by the
+   * application-wide server push timer.
+   */
+  private void suspendRequest( HttpServletRequest request, HttpServletResponse response ) {
+    UISession uiSession = ContextProvider.getUISession();
+    ApplicationContextImpl applicationContext = ContextProvider.getApplicationContext();
+    AsyncContext asyncContext = request.startAsync( request, response );
+    asyncContext.setTimeout( 0 );
+    SuspendedRequest suspendedRequest = new SuspendedRequest( asyncContext, response, uiSession );
+    asyncContext.addListener( suspendedRequest );
+    serverPushRequestTracker.activate( suspendedRequest );
+    if( uiSession.addUISessionListener( suspendedRequest ) ) {
+      SharedTimer timer = applicationContext.getServerPushTimer();
+      suspendedRequest.timerTask = timer.scheduleWithFixedDelay( suspendedRequest,
+                                                                 requestCheckInterval );
+      checkSuspendedRequests();
+    } else {
+      suspendedRequest.complete();
+    }
+  }
+
+  private void checkSuspendedRequests() {
+    for( Object request : serverPushRequestTracker.getAll() ) {
+      if( request instanceof SuspendedRequest ) {
+        SuspendedRequest suspendedRequest = ( SuspendedRequest )request;
+        if( canReleaseSuspendedRequest( suspendedRequest, false ) ) {
+          suspendedRequest.complete();
         }
       }
     }
   }
 
+  private boolean canReleaseSuspendedRequest( SuspendedRequest request, boolean checkConnection ) {
+    boolean result = false;
+    if( !mustBlockCallBackRequest() ) {
+      result = true;
+    } else if( isSessionExpired( request.uiSession, request.startTime, System.currentTimeMillis() ) ) {
+      result = true;
+    } else if( checkConnection && !isConnectionAlive( request.response ) ) {
+      result = true;
+    } else if( !serverPushRequestTracker.isActive( request ) ) {
+      result = true;
+    }
+    return result;
+  }
+
   private boolean canReleaseBlockedRequest( HttpServletResponse response, long requestStartTime ) {
     boolean result = false;
     if( !mustBlockCallBackRequest() ) {
@@ -188,7 +253,13 @@ public final class ServerPushManager implements SerializableCompatibility {
   }
 
   static boolean isSessionExpired( long requestStartTime, long currentTime ) {
-    UISession uiSession = ContextProvider.getUISession();
+    return isSessionExpired( ContextProvider.getUISession(), requestStartTime, currentTime );
+  }
+
+  private static boolean isSessionExpired( UISession uiSession,
+                                           long requestStartTime,
+                                           long currentTime )
+  {
     if( uiSession == null ) {
       return true;
     }
@@ -244,4 +315,86 @@ public final class ServerPushManager implements SerializableCompatibility {
 
   }
 
+  private class SuspendedRequest implements AsyncListener, UISessionListener, Runnable {
+
+    private transient final AsyncContext asyncContext;
+    private transient final HttpServletResponse response;
+    private transient final UISession uiSession;
+    private transient final long startTime;
+    private transient ScheduledFuture<?> timerTask;
+    private transient boolean completed;
+
+    private SuspendedRequest( AsyncContext asyncContext,
+                              HttpServletResponse response,
+                              UISession uiSession )
+    {
+      this.asyncContext = asyncContext;
+      this.response = response;
+      this.uiSession = uiSession;
+      startTime = System.currentTimeMillis();
+    }
+
+    @Override
+    public void run() {
+      synchronized( lock ) {
+        if( canReleaseSuspendedRequest( this, true ) ) {
+          complete();
+        }
+      }
+    }
+
+    @Override
+    public void beforeDestroy( UISessionEvent event ) {
+      synchronized( lock ) {
+        complete();
+      }
+    }
+
+    @Override
+    public void onComplete( AsyncEvent event ) {
+      synchronized( lock ) {
+        detach();
+      }
+    }
+
+    @Override
+    public void onTimeout( AsyncEvent event ) {
+      synchronized( lock ) {
+        complete();
+      }
+    }
+
+    @Override
+    public void onError( AsyncEvent event ) {
+      synchronized( lock ) {
+        complete();
+      }
+    }
+
+    @Override
+    public void onStartAsync( AsyncEvent event ) {
+    }
+
+    void complete() {
+      if( !completed ) {
+        detach();
+        try {
+          asyncContext.complete();
+        } catch( @SuppressWarnings( "unused" ) IllegalStateException ise ) {
+          // request has already been completed or recycled by the container
+        }
+      }
+    }
+
+    private void detach() {
+      completed = true;
+      if( timerTask != null ) {
+        timerTask.cancel( false );
+      }
+      uiSession.removeUISessionListener( this );
+      serverPushRequestTracker.deactivate( this );
+    }
+
+  }
+
 }
@@ -31,7 +31,7 @@ public class ServerPushServiceHandler implements ServiceHandler {
   {
     setResponseHeaders( response );
     if( getUISession() != null ) {
-      ServerPushManager.getInstance().processRequest( response );
+      ServerPushManager.getInstance().processRequest( request, response );
     }
   }
 
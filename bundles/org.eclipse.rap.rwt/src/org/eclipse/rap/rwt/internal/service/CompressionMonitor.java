@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+
+/**
+ * Receives the cost of every response that is compressed by the {@link ResponseCompressor}.
+ * Implementations are called on the request thread and must be thread-safe.
+ */
+public interface CompressionMonitor {
+
+  /**
+   * @param originalSize the size of the uncompressed response in bytes
+   * @param compressedSize the size of the compressed response in bytes
+   * @param cpuTime the CPU time spent on the compression in nanoseconds, or the elapsed time if
+   *          the VM does not support measuring thread CPU time
+   */
+  void responseCompressed( int originalSize, int compressedSize, long cpuTime );
+
+}
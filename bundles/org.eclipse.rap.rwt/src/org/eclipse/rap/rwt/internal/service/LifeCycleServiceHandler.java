@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,13 +15,18 @@ import static javax.servlet.http.HttpServletResponse.SC_FORBIDDEN;
 import static javax.servlet.http.HttpServletResponse.SC_PRECONDITION_FAILED;
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.REQUEST_COUNTER;
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.SHUTDOWN;
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getUISession;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CHARSET_UTF_8;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CONTENT_TYPE_JSON;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.Writer;
 
 import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
@@ -44,6 +49,7 @@ public class LifeCycleServiceHandler implements ServiceHandler {
   private static final String PROP_ERROR = "error";
   private static final String ATTR_LAST_RESPONSE_MESSAGE
     = LifeCycleServiceHandler.class.getName() + "#lastResponseMessage";
+  private static final int INITIAL_BUFFER_SIZE = 8192;
 
   private final MessageChainReference messageChainReference;
 
@@ -92,14 +98,15 @@ public class LifeCycleServiceHandler implements ServiceHandler {
       writeEmptyMessage( response );
     } else if( !isRequestCounterValid( requestMessage ) ) {
       if( isDuplicateRequest( requestMessage ) ) {
-        writeBufferedResponse( response );
+        writeBufferedResponse( request, response );
       } else {
         writeInvalidRequestCounterError( response );
       }
     } else {
       ResponseMessage responseMessage = processMessage( requestMessage );
-      writeResponseMessage( responseMessage, response );
+      writeResponseMessage( responseMessage, request, response );
       RequestCounter.getInstance().nextRequestId();
+      ( ( UISessionImpl )getUISession() ).markChanged();
     }
   }
 
@@ -165,7 +172,7 @@ public class LifeCycleServiceHandler implements ServiceHandler {
     response.setStatus( statusCode );
     ProtocolMessageWriter writer = new ProtocolMessageWriter();
     writer.appendHead( PROP_ERROR, JsonValue.valueOf( errorType ) );
-    writer.createMessage().toJson().writeTo( response.getWriter() );
+    writer.createMessage().writeTo( response.getWriter() );
   }
 
   private static boolean isSessionShutdown( RequestMessage requestMessage ) {
@@ -178,30 +185,55 @@ public class LifeCycleServiceHandler implements ServiceHandler {
   }
 
   private static void writeEmptyMessage( ServletResponse response ) throws IOException {
-    new ProtocolMessageWriter().createMessage().toJson().writeTo( response.getWriter() );
+    new ProtocolMessageWriter().createMessage().writeTo( response.getWriter() );
   }
 
+  /*
+   * The message is written to the client while it is encoded. The encoded bytes are collected
+   * along the way and kept to answer a duplicate request, so that the session does not retain the
+   * operations of the message.
+   */
   private static void writeResponseMessage( ResponseMessage responseMessage,
-                                            ServletResponse response )
+                                            HttpServletRequest request,
+                                            HttpServletResponse response )
+    throws IOException
+  {
+    OutputStream outputStream = getResponseCompressor().createOutputStream( request, response );
+    ResponseContent content = new ResponseContent( outputStream, INITIAL_BUFFER_SIZE );
+    Writer writer = new BufferedWriter( new OutputStreamWriter( content, CHARSET_UTF_8 ) );
+    responseMessage.writeTo( writer );
+    writer.flush();
+    outputStream.close();
+    bufferMessage( content );
+  }
+
+  private static void writeBufferedResponse( HttpServletRequest request,
+                                             HttpServletResponse response )
     throws IOException
   {
-    bufferMessage( responseMessage );
-    responseMessage.toJson().writeTo( response.getWriter() );
+    OutputStream outputStream = getResponseCompressor().createOutputStream( request, response );
+    getBufferedMessage().writeTo( outputStream );
+    outputStream.close();
   }
 
-  private static void writeBufferedResponse( HttpServletResponse response ) throws IOException {
-    getBufferedMessage().toJson().writeTo( response.getWriter() );
+  private static ResponseCompressor getResponseCompressor() {
+    return getApplicationContext().getResponseCompressor();
   }
 
-  private static void bufferMessage( ResponseMessage responseMessage ) {
+  private static void bufferMessage( ResponseContent content ) {
     UISession uiSession = getUISession();
     if( uiSession != null ) {
-      uiSession.setAttribute( ATTR_LAST_RESPONSE_MESSAGE, responseMessage );
+      uiSession.setAttribute( ATTR_LAST_RESPONSE_MESSAGE, content );
     }
   }
 
-  private static ResponseMessage getBufferedMessage() {
-    return ( ResponseMessage )getUISession().getAttribute( ATTR_LAST_RESPONSE_MESSAGE );
+  static int getBufferedMessageSize( UISession uiSession ) {
+    Object content = uiSession.getAttribute( ATTR_LAST_RESPONSE_MESSAGE );
+    return content == null ? 0 : ( ( ResponseContent )content ).getLength();
+  }
+
+  private static ResponseContent getBufferedMessage() {
+    return ( ResponseContent )getUISession().getAttribute( ATTR_LAST_RESPONSE_MESSAGE );
   }
 
 }
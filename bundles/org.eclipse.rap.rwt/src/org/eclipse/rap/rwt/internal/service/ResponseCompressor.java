@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.eclipse.rap.rwt.internal.util.HTTP.ENCODING_GZIP;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ACCEPT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_CONTENT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_VARY;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+
+
+/**
+ * Writes response content to the client. If enabled, content that exceeds the threshold is gzip
+ * compressed for clients that accept this encoding.
+ */
+public class ResponseCompressor {
+
+  static final int DEFAULT_THRESHOLD = 1024;
+
+  private final boolean enabled;
+  private final int threshold;
+  private volatile CompressionMonitor monitor;
+
+  public ResponseCompressor() {
+    this( RWTProperties.isCompressionEnabled(),
+          RWTProperties.getCompressionThreshold( DEFAULT_THRESHOLD ) );
+  }
+
+  public ResponseCompressor( boolean enabled, int threshold ) {
+    this.enabled = enabled;
+    this.threshold = threshold;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setMonitor( CompressionMonitor monitor ) {
+    this.monitor = monitor;
+  }
+
+  public void write( byte[] content, HttpServletRequest request, HttpServletResponse response )
+    throws IOException
+  {
+    OutputStream outputStream = createOutputStream( request, response );
+    outputStream.write( content );
+    outputStream.close();
+  }
+
+  /**
+   * Returns a stream that writes content to the client while it is produced. If compression is
+   * enabled and accepted by the client, content is held back until it exceeds the threshold and
+   * then gzip compressed. Content below the threshold is sent with a content length. The stream
+   * must be closed to complete the content, this does not close the stream of the response.
+   */
+  public OutputStream createOutputStream( HttpServletRequest request,
+                                          HttpServletResponse response )
+  {
+    boolean compress = false;
+    if( enabled ) {
+      response.addHeader( HEADER_VARY, HEADER_ACCEPT_ENCODING );
+      compress = acceptsGzip( request );
+    }
+    return new ResponseOutputStream( response, compress );
+  }
+
+  static boolean acceptsGzip( HttpServletRequest request ) {
+    String acceptEncoding = request.getHeader( HEADER_ACCEPT_ENCODING );
+    if( acceptEncoding != null ) {
+      for( String coding : acceptEncoding.split( "," ) ) {
+        String[] parts = coding.split( ";" );
+        String name = parts[ 0 ].trim();
+        if( ENCODING_GZIP.equalsIgnoreCase( name ) || "x-gzip".equalsIgnoreCase( name ) ) {
+          return parts.length == 1 || !isZeroQuality( parts[ 1 ] );
+        }
+      }
+    }
+    return false;
+  }
+
+  private static boolean isZeroQuality( String parameter ) {
+    String value = parameter.trim();
+    if( value.startsWith( "q=" ) ) {
+      try {
+        return Float.parseFloat( value.substring( 2 ).trim() ) == 0;
+      } catch( @SuppressWarnings( "unused" ) NumberFormatException exception ) {
+        return false;
+      }
+    }
+    return false;
+  }
+
+  private final class ResponseOutputStream extends OutputStream {
+
+    private final HttpServletResponse response;
+    private byte[] pending;
+    private int pendingLength;
+    private OutputStream outputStream;
+    private CountingGZIPOutputStream gzipStream;
+    private long cpuTime;
+
+    ResponseOutputStream( HttpServletResponse response, boolean compress ) {
+      this.response = response;
+      if( compress ) {
+        pending = new byte[ Math.max( 0, Math.min( threshold, 8192 ) ) ];
+      }
+    }
+
+    @Override
+    public void write( int b ) throws IOException {
+      write( new byte[] { ( byte )b }, 0, 1 );
+    }
+
+    @Override
+    public void write( byte[] bytes, int offset, int length ) throws IOException {
+      if( outputStream == null ) {
+        if( pending != null && pendingLength + length < threshold ) {
+          if( pendingLength + length > pending.length ) {
+            int size = Math.max( pendingLength + length, pending.length * 2 );
+            pending = Arrays.copyOf( pending, Math.min( size, threshold ) );
+          }
+          System.arraycopy( bytes, offset, pending, pendingLength, length );
+          pendingLength += length;
+          return;
+        }
+        open();
+      }
+      writeOut( bytes, offset, length );
+    }
+
+    @Override
+    public void flush() throws IOException {
+      if( outputStream != null ) {
+        outputStream.flush();
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      if( outputStream == null ) {
+        response.setContentLength( pendingLength );
+        if( pendingLength > 0 ) {
+          response.getOutputStream().write( pending, 0, pendingLength );
+        }
+      } else if( gzipStream != null ) {
+        long startTime = getCpuTime();
+        gzipStream.finish();
+        cpuTime += getCpuTime() - startTime;
+        CompressionMonitor currentMonitor = monitor;
+        if( currentMonitor != null ) {
+          currentMonitor.responseCompressed( gzipStream.getBytesRead(),
+                                             gzipStream.getBytesWritten(),
+                                             cpuTime );
+        }
+      }
+      flush();
+    }
+
+    private void open() throws IOException {
+      if( pending != null ) {
+        response.setHeader( HEADER_CONTENT_ENCODING, ENCODING_GZIP );
+        gzipStream = new CountingGZIPOutputStream( response.getOutputStream() );
+        outputStream = gzipStream;
+        writeOut( pending, 0, pendingLength );
+        pending = null;
+      } else {
+        outputStream = response.getOutputStream();
+      }
+    }
+
+    private void writeOut( byte[] bytes, int offset, int length ) throws IOException {
+      if( gzipStream != null ) {
+        long startTime = getCpuTime();
+        gzipStream.write( bytes, offset, length );
+        cpuTime += getCpuTime() - startTime;
+      } else {
+        outputStream.write( bytes, offset, length );
+      }
+    }
+
+  }
+
+  private static final class CountingGZIPOutputStream extends GZIPOutputStream {
+
+    // the gzip header and trailer are not written by the deflater
+    private static final int HEADER_AND_TRAILER_SIZE = 18;
+
+    CountingGZIPOutputStream( OutputStream outputStream ) throws IOException {
+      super( outputStream, 8192 );
+    }
+
+    int getBytesRead() {
+      return ( int )def.getBytesRead();
+    }
+
+    int getBytesWritten() {
+      return ( int )def.getBytesWritten() + HEADER_AND_TRAILER_SIZE;
+    }
+
+  }
+
+  private static long getCpuTime() {
+    ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    if( threadBean.isCurrentThreadCpuTimeSupported() && threadBean.isThreadCpuTimeEnabled() ) {
+      return threadBean.getCurrentThreadCpuTime();
+    }
+    return System.nanoTime();
+  }
+
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+
+
+/**
+ * Passes the encoded response message to the client and keeps the bytes to answer a duplicate
+ * request. The bytes are kept in the buffer they were collected in, the buffer is not copied to
+ * an array of the exact length.
+ */
+final class ResponseContent extends OutputStream implements Serializable {
+
+  private transient OutputStream target;
+  private byte[] bytes;
+  private int length;
+
+  ResponseContent( OutputStream target, int initialSize ) {
+    this.target = target;
+    bytes = new byte[ initialSize ];
+  }
+
+  @Override
+  public void write( int b ) throws IOException {
+    ensureCapacity( length + 1 );
+    bytes[ length++ ] = ( byte )b;
+    target.write( b );
+  }
+
+  @Override
+  public void write( byte[] buffer, int offset, int count ) throws IOException {
+    ensureCapacity( length + count );
+    System.arraycopy( buffer, offset, bytes, length, count );
+    length += count;
+    target.write( buffer, offset, count );
+  }
+
+  @Override
+  public void flush() throws IOException {
+    target.flush();
+  }
+
+  int getLength() {
+    return length;
+  }
+
+  void writeTo( OutputStream outputStream ) throws IOException {
+    outputStream.write( bytes, 0, length );
+  }
+
+  private void ensureCapacity( int capacity ) {
+    if( capacity > bytes.length ) {
+      bytes = Arrays.copyOf( bytes, Math.max( capacity, bytes.length * 2 ) );
+    }
+  }
+
+  private void writeObject( ObjectOutputStream stream ) throws IOException {
+    // the unused part of the buffer is not replicated
+    bytes = Arrays.copyOf( bytes, length );
+    stream.defaultWriteObject();
+  }
+
+}
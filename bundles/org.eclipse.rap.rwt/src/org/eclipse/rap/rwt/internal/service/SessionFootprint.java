@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static java.util.Collections.unmodifiableMap;
+
+import java.util.Map;
+
+import org.eclipse.rap.json.JsonObject;
+
+
+/**
+ * An immutable snapshot of the estimated memory retained by a single UI session. Sizes are given
+ * in bytes per category, widget counts per widget type.
+ */
+public final class SessionFootprint {
+
+  public static final String WIDGETS = "widgets";
+  public static final String ITEMS = "items";
+  public static final String PRESERVED_VALUES = "preservedValues";
+  public static final String RESPONSE_BUFFER = "responseBuffer";
+  public static final String TEXT_SIZE_PROBES = "textSizeProbes";
+  public static final String IMAGES = "images";
+  public static final String ATTRIBUTES = "attributes";
+
+  private final String sessionId;
+  private final long timestamp;
+  private final Map<String, Long> sizes;
+  private final Map<String, Integer> widgetCounts;
+  private final long totalSize;
+
+  SessionFootprint( String sessionId,
+                    long timestamp,
+                    Map<String, Long> sizes,
+                    Map<String, Integer> widgetCounts )
+  {
+    this.sessionId = sessionId;
+    this.timestamp = timestamp;
+    this.sizes = unmodifiableMap( sizes );
+    this.widgetCounts = unmodifiableMap( widgetCounts );
+    totalSize = sum( sizes );
+  }
+
+  public String getSessionId() {
+    return sessionId;
+  }
+
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  public long getSize( String category ) {
+    Long size = sizes.get( category );
+    return size == null ? 0 : size.longValue();
+  }
+
+  public Map<String, Long> getSizes() {
+    return sizes;
+  }
+
+  public Map<String, Integer> getWidgetCounts() {
+    return widgetCounts;
+  }
+
+  public long getTotalSize() {
+    return totalSize;
+  }
+
+  public JsonObject toJson() {
+    JsonObject categories = new JsonObject();
+    for( Map.Entry<String, Long> entry : sizes.entrySet() ) {
+      categories.add( entry.getKey(), entry.getValue().longValue() );
+    }
+    JsonObject widgets = new JsonObject();
+    for( Map.Entry<String, Integer> entry : widgetCounts.entrySet() ) {
+      widgets.add( entry.getKey(), entry.getValue().intValue() );
+    }
+    return new JsonObject()
+      .add( "id", sessionId )
+      .add( "timestamp", timestamp )
+      .add( "totalSize", totalSize )
+      .add( "sizes", categories )
+      .add( "widgets", widgets );
+  }
+
+  private static long sum( Map<String, Long> sizes ) {
+    long result = 0;
+    for( Long size : sizes.values() ) {
+      result += size.longValue();
+    }
+    return result;
+  }
+
+}
@@ -0,0 +1,278 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.eclipse.rap.rwt.internal.service.SessionFootprint.ATTRIBUTES;
+import static org.eclipse.rap.rwt.internal.service.SessionFootprint.IMAGES;
+import static org.eclipse.rap.rwt.internal.service.SessionFootprint.ITEMS;
+import static org.eclipse.rap.rwt.internal.service.SessionFootprint.PRESERVED_VALUES;
+import static org.eclipse.rap.rwt.internal.service.SessionFootprint.RESPONSE_BUFFER;
+import static org.eclipse.rap.rwt.internal.service.SessionFootprint.TEXT_SIZE_PROBES;
+import static org.eclipse.rap.rwt.internal.service.SessionFootprint.WIDGETS;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil;
+import org.eclipse.rap.rwt.internal.textsize.MeasurementUtil;
+import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.swt.custom.CLabel;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.internal.graphics.InternalImage;
+import org.eclipse.swt.internal.widgets.ITableItemAdapter;
+import org.eclipse.swt.internal.widgets.ITreeItemAdapter;
+import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
+import org.eclipse.swt.internal.widgets.WidgetTreeUtil;
+import org.eclipse.swt.internal.widgets.WidgetTreeVisitor;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Decorations;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Item;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.swt.widgets.ToolItem;
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.swt.widgets.Widget;
+
+
+/*
+ * Estimates the memory retained by a UI session. Sizes are derived from per-object constants
+ * rather than measured, so that an estimation costs no more than a single walk over the widget
+ * tree and the session attributes. Images are weighted by the size of their pixel data, attribute
+ * values by the length of byte arrays and strings and by the elements of collections and maps.
+ * At most MAX_ELEMENTS elements are visited per attribute value, the size of the others is
+ * extrapolated. Must be called from the UI thread.
+ */
+final class SessionFootprintEstimator {
+
+  static final int WIDGET_SIZE = 512;
+  static final int ITEM_SIZE = 256;
+  static final int PRESERVED_SLOT_SIZE = 24;
+  static final int IMAGE_SIZE = 64;
+  static final int MEASUREMENT_SIZE = 128;
+  static final int ATTRIBUTE_SIZE = 64;
+  static final int BYTES_PER_PIXEL = 4;
+  static final int OBJECT_SIZE = 16;
+  static final int STRING_SIZE = 40;
+  static final int ENTRY_SIZE = 32;
+  static final int MAX_ELEMENTS = 1000;
+  private static final int MAX_DEPTH = 4;
+
+  private final Map<String, Integer> widgetCounts;
+  private final Map<InternalImage, Boolean> images;
+  private long widgetsSize;
+  private long itemsSize;
+  private long preservedSize;
+
+  private SessionFootprintEstimator() {
+    widgetCounts = new TreeMap<>();
+    images = new IdentityHashMap<>();
+  }
+
+  static SessionFootprint estimate( UISession uiSession, Display display, long timestamp ) {
+    SessionFootprintEstimator estimator = new SessionFootprintEstimator();
+    if( display != null && !display.isDisposed() ) {
+      estimator.visitWidgets( display );
+    }
+    return estimator.createFootprint( uiSession, timestamp );
+  }
+
+  private void visitWidgets( Display display ) {
+    WidgetTreeVisitor visitor = new WidgetTreeVisitor() {
+      @Override
+      public boolean visit( Widget widget ) {
+        visitWidget( widget );
+        return true;
+      }
+    };
+    for( Shell shell : display.getShells() ) {
+      WidgetTreeUtil.accept( shell, visitor );
+    }
+  }
+
+  private void visitWidget( Widget widget ) {
+    String type = widget.getClass().getName();
+    Integer count = widgetCounts.get( type );
+    widgetCounts.put( type, Integer.valueOf( count == null ? 1 : count.intValue() + 1 ) );
+    if( widget instanceof Item ) {
+      itemsSize += ITEM_SIZE;
+    } else {
+      widgetsSize += WIDGET_SIZE;
+    }
+    WidgetRemoteAdapter adapter = ( WidgetRemoteAdapter )WidgetUtil.getAdapter( widget );
+    int slotCount = adapter.getPreservedSlotCount();
+    preservedSize += slotCount * PRESERVED_SLOT_SIZE;
+    collectImages( widget );
+  }
+
+  private void collectImages( Widget widget ) {
+    // table and tree items are read through their adapters to not resolve virtual items
+    if( widget instanceof TableItem ) {
+      collectImages( widget.getAdapter( ITableItemAdapter.class ).getImages() );
+    } else if( widget instanceof TreeItem ) {
+      collectImages( widget.getAdapter( ITreeItemAdapter.class ).getImages() );
+    } else if( widget instanceof Item ) {
+      collectImage( ( ( Item )widget ).getImage() );
+      if( widget instanceof ToolItem ) {
+        collectImage( ( ( ToolItem )widget ).getHotImage() );
+        collectImage( ( ( ToolItem )widget ).getDisabledImage() );
+      }
+    } else if( widget instanceof Label ) {
+      collectImage( ( ( Label )widget ).getImage() );
+    } else if( widget instanceof Button ) {
+      collectImage( ( ( Button )widget ).getImage() );
+    } else if( widget instanceof CLabel ) {
+      collectImage( ( ( CLabel )widget ).getImage() );
+    }
+    if( widget instanceof Decorations ) {
+      collectImages( ( ( Decorations )widget ).getImages() );
+    }
+    if( widget instanceof Control ) {
+      collectImage( ( ( Control )widget ).getBackgroundImage() );
+    }
+  }
+
+  private void collectImages( Image[] widgetImages ) {
+    if( widgetImages != null ) {
+      for( Image image : widgetImages ) {
+        collectImage( image );
+      }
+    }
+  }
+
+  private void collectImage( Image image ) {
+    if( image != null && image.internalImage != null ) {
+      images.put( image.internalImage, Boolean.TRUE );
+    }
+  }
+
+  private SessionFootprint createFootprint( UISession uiSession, long timestamp ) {
+    Map<String, Long> sizes = new LinkedHashMap<>();
+    sizes.put( WIDGETS, Long.valueOf( widgetsSize ) );
+    sizes.put( ITEMS, Long.valueOf( itemsSize ) );
+    sizes.put( PRESERVED_VALUES, Long.valueOf( preservedSize ) );
+    sizes.put( IMAGES, Long.valueOf( estimateImagesSize() ) );
+    long responseSize = LifeCycleServiceHandler.getBufferedMessageSize( uiSession );
+    sizes.put( RESPONSE_BUFFER, Long.valueOf( responseSize ) );
+    long measurements = MeasurementUtil.getPendingMeasurementCount( uiSession );
+    sizes.put( TEXT_SIZE_PROBES, Long.valueOf( measurements * MEASUREMENT_SIZE ) );
+    sizes.put( ATTRIBUTES, Long.valueOf( estimateAttributesSize( uiSession ) ) );
+    return new SessionFootprint( uiSession.getId(), timestamp, sizes, widgetCounts );
+  }
+
+  private long estimateImagesSize() {
+    long result = 0;
+    for( InternalImage image : images.keySet() ) {
+      result += estimateImageSize( image );
+    }
+    return result;
+  }
+
+  static long estimateImageSize( InternalImage image ) {
+    Rectangle bounds = image.getBounds();
+    return IMAGE_SIZE + ( long )bounds.width * bounds.height * BYTES_PER_PIXEL;
+  }
+
+  private static long estimateAttributesSize( UISession uiSession ) {
+    long result = 0;
+    Enumeration<String> names = uiSession.getAttributeNames();
+    while( names.hasMoreElements() ) {
+      String name = names.nextElement();
+      result += ATTRIBUTE_SIZE + estimateValueSize( uiSession.getAttribute( name ) );
+    }
+    return result;
+  }
+
+  static long estimateValueSize( Object value ) {
+    try {
+      return new ValueSizeEstimator().estimate( value, 0 );
+    } catch( RuntimeException exception ) {
+      // attribute values belong to the application and may fail to report their size
+      return OBJECT_SIZE;
+    }
+  }
+
+  private static final class ValueSizeEstimator {
+
+    private int remainingElements = MAX_ELEMENTS;
+
+    long estimate( Object value, int depth ) {
+      long result;
+      if( value == null ) {
+        result = 0;
+      } else if( value instanceof byte[] ) {
+        result = OBJECT_SIZE + ( ( byte[] )value ).length;
+      } else if( value instanceof char[] ) {
+        result = OBJECT_SIZE + 2L * ( ( char[] )value ).length;
+      } else if( value instanceof String ) {
+        result = STRING_SIZE + 2L * ( ( String )value ).length();
+      } else if( value instanceof ResponseContent ) {
+        // already reported as response buffer
+        result = OBJECT_SIZE;
+      } else if( depth >= MAX_DEPTH ) {
+        result = OBJECT_SIZE;
+      } else if( value instanceof Object[] ) {
+        Object[] array = ( Object[] )value;
+        result = OBJECT_SIZE + estimateElements( Arrays.asList( array ), array.length, depth );
+      } else if( value instanceof Collection ) {
+        Collection<?> collection = ( Collection<?> )value;
+        result = OBJECT_SIZE + estimateElements( collection, collection.size(), depth );
+      } else if( value instanceof Map ) {
+        Map<?, ?> map = ( Map<?, ?> )value;
+        result = OBJECT_SIZE + estimateElements( map.entrySet(), map.size(), depth );
+      } else {
+        result = OBJECT_SIZE;
+      }
+      return result;
+    }
+
+    private long estimateElements( Iterable<?> elements, int size, int depth ) {
+      long result = 0;
+      int visited = 0;
+      try {
+        Iterator<?> iterator = elements.iterator();
+        while( remainingElements > 0 && iterator.hasNext() ) {
+          remainingElements--;
+          result += ENTRY_SIZE + estimateElement( iterator.next(), depth + 1 );
+          visited++;
+        }
+      } catch( RuntimeException exception ) {
+        // the application may modify its collections while they are visited
+        return ( long )size * ENTRY_SIZE;
+      }
+      if( size > visited ) {
+        long averageSize = visited == 0 ? ENTRY_SIZE : result / visited;
+        result += averageSize * ( size - visited );
+      }
+      return result;
+    }
+
+    private long estimateElement( Object element, int depth ) {
+      if( element instanceof Entry ) {
+        Entry<?, ?> entry = ( Entry<?, ?> )element;
+        return estimate( entry.getKey(), depth ) + estimate( entry.getValue(), depth );
+      }
+      return estimate( element, depth );
+    }
+
+  }
+
+}
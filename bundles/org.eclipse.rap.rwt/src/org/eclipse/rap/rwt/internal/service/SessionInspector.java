@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.rap.rwt.service.UISessionEvent;
+import org.eclipse.rap.rwt.service.UISessionListener;
+import org.eclipse.swt.widgets.Display;
+
+
+/**
+ * Keeps an estimation of the memory retained by each UI session of an application. Sessions are
+ * sampled on the UI thread at the end of a request, at most once per sampling interval. The
+ * results are available through JMX and the {@link SessionInspectorServiceHandler}.
+ * <p>
+ * The inspector is disabled by default, see {@link RWTProperties#SESSION_INSPECTOR}.
+ * </p>
+ */
+public class SessionInspector implements SessionInspectorMBean {
+
+  static final int DEFAULT_INTERVAL = 60;
+  private static final String OBJECT_NAME = "org.eclipse.rap.rwt:type=SessionInspector,name=";
+
+  private final boolean enabled;
+  private final long interval;
+  private final Map<String, SessionFootprint> footprints;
+  private ObjectName objectName;
+
+  public SessionInspector() {
+    this( RWTProperties.isSessionInspectorEnabled(),
+          RWTProperties.getSessionInspectorInterval( DEFAULT_INTERVAL ) * 1000L );
+  }
+
+  public SessionInspector( boolean enabled, long interval ) {
+    this.enabled = enabled;
+    this.interval = interval;
+    footprints = new ConcurrentHashMap<>();
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void sample( UISession uiSession, Display display ) {
+    if( enabled && uiSession != null ) {
+      long now = System.currentTimeMillis();
+      SessionFootprint previous = footprints.get( uiSession.getId() );
+      if( previous == null || now - previous.getTimestamp() >= interval ) {
+        if( previous == null ) {
+          uiSession.addUISessionListener( new FootprintRemover() );
+        }
+        SessionFootprint footprint = SessionFootprintEstimator.estimate( uiSession, display, now );
+        footprints.put( uiSession.getId(), footprint );
+      }
+    }
+  }
+
+  public SessionFootprint getFootprint( String sessionId ) {
+    return footprints.get( sessionId );
+  }
+
+  public List<SessionFootprint> getFootprints() {
+    List<SessionFootprint> result = new ArrayList<>( footprints.values() );
+    Collections.sort( result, new Comparator<SessionFootprint>() {
+      @Override
+      public int compare( SessionFootprint footprint1, SessionFootprint footprint2 ) {
+        return Long.compare( footprint2.getTotalSize(), footprint1.getTotalSize() );
+      }
+    } );
+    return result;
+  }
+
+  void remove( String sessionId ) {
+    footprints.remove( sessionId );
+  }
+
+  @Override
+  public int getSessionCount() {
+    return footprints.size();
+  }
+
+  @Override
+  public long getTotalSize() {
+    long result = 0;
+    for( SessionFootprint footprint : footprints.values() ) {
+      result += footprint.getTotalSize();
+    }
+    return result;
+  }
+
+  @Override
+  public long getLargestSessionSize() {
+    long result = 0;
+    for( SessionFootprint footprint : footprints.values() ) {
+      result = Math.max( result, footprint.getTotalSize() );
+    }
+    return result;
+  }
+
+  @Override
+  public String getReport() {
+    JsonArray result = new JsonArray();
+    for( SessionFootprint footprint : getFootprints() ) {
+      result.add( footprint.toJson() );
+    }
+    return result.toString();
+  }
+
+  public void activate( String name ) {
+    if( enabled ) {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      try {
+        objectName = new ObjectName( OBJECT_NAME + ObjectName.quote( name ) );
+        server.registerMBean( this, objectName );
+      } catch( JMException exception ) {
+        objectName = null;
+        ServletLog.log( "Failed to register session inspector MBean", exception );
+      }
+    }
+  }
+
+  public void deactivate() {
+    if( objectName != null ) {
+      try {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean( objectName );
+      } catch( JMException exception ) {
+        ServletLog.log( "Failed to unregister session inspector MBean", exception );
+      }
+      objectName = null;
+    }
+    footprints.clear();
+  }
+
+  private static final class FootprintRemover implements UISessionListener {
+
+    @Override
+    public void beforeDestroy( UISessionEvent event ) {
+      UISession uiSession = event.getUISession();
+      ApplicationContextImpl applicationContext
+        = ( ApplicationContextImpl )uiSession.getApplicationContext();
+      if( applicationContext != null ) {
+        applicationContext.getSessionInspector().remove( uiSession.getId() );
+      }
+    }
+
+  }
+
+}
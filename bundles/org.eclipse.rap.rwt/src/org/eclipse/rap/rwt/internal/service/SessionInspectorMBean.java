@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+
+/**
+ * Management interface of the {@link SessionInspector}. All sizes are estimates in bytes.
+ */
+public interface SessionInspectorMBean {
+
+  int getSessionCount();
+
+  long getTotalSize();
+
+  long getLargestSessionSize();
+
+  /**
+   * Returns the footprints of all inspected sessions as a JSON array, largest session first.
+   */
+  String getReport();
+
+}
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getUISession;
+import static org.eclipse.rap.rwt.internal.util.HTTP.CHARSET_UTF_8;
+import static org.eclipse.rap.rwt.internal.util.HTTP.CONTENT_TYPE_JSON;
+
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.service.ServiceHandler;
+import org.eclipse.rap.rwt.service.UISession;
+
+
+/**
+ * Reports the footprint of the requesting UI session together with totals over all sessions.
+ * Footprints of other sessions are only available through JMX.
+ */
+public class SessionInspectorServiceHandler implements ServiceHandler {
+
+  public final static String HANDLER_ID = "org.eclipse.rap.sessioninspector";
+
+  @Override
+  public void service( HttpServletRequest request, HttpServletResponse response )
+    throws IOException
+  {
+    SessionInspector inspector = getApplicationContext().getSessionInspector();
+    UISession uiSession = getUISession();
+    SessionFootprint footprint = null;
+    if( uiSession != null ) {
+      footprint = inspector.getFootprint( uiSession.getId() );
+    }
+    JsonObject result = new JsonObject()
+      .add( "session", footprint == null ? JsonValue.NULL : footprint.toJson() )
+      .add( "sessionCount", inspector.getSessionCount() )
+      .add( "totalSize", inspector.getTotalSize() )
+      .add( "largestSessionSize", inspector.getLargestSessionSize() );
+    response.setHeader( "Cache-Control", "no-cache, no-store, must-revalidate" );
+    response.setContentType( CONTENT_TYPE_JSON );
+    response.setCharacterEncoding( CHARSET_UTF_8 );
+    result.writeTo( response.getWriter() );
+  }
+
+}
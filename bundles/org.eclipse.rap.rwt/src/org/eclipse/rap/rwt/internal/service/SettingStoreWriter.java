@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.util.AtomicFileUtil;
+import org.eclipse.rap.rwt.internal.util.ParamCheck;
+import org.eclipse.rap.rwt.internal.util.SharedTimer;
+import org.eclipse.rap.rwt.service.FileSettingStore;
+
+
+/**
+ * Persists the attributes of file based setting stores. Files are always replaced atomically by
+ * writing a temporary file that is then renamed.
+ * <p>
+ * When a write delay is configured (see {@link RWTProperties#SETTING_STORE_WRITE_DELAY}), writes
+ * are deferred: the latest snapshot of each file is kept and all pending snapshots are written
+ * on a timer thread at most <code>writeDelay</code> milliseconds after the first pending change.
+ * Later changes to the same file replace the pending snapshot, so a burst of changes results in a
+ * single write.
+ * </p>
+ * <p>
+ * Writes of the same file are serialized, so that an older snapshot never replaces a newer one.
+ * Writes of different files run concurrently.
+ * </p>
+ */
+public class SettingStoreWriter {
+
+  private static final int LOCK_COUNT = 64;
+
+  private final SharedTimer timer;
+  private final long writeDelay;
+  private final Map<File, Map<String, String>> pending;
+  private final AtomicBoolean scheduled;
+  private final Object[] fileLocks;
+  private final Runnable flushTask;
+
+  public SettingStoreWriter() {
+    this( new SharedTimer( "RWT setting store writer" ),
+          RWTProperties.getSettingStoreWriteDelay( 0 ) );
+  }
+
+  public SettingStoreWriter( SharedTimer timer, long writeDelay ) {
+    this.timer = timer;
+    this.writeDelay = writeDelay;
+    pending = new ConcurrentHashMap<>();
+    scheduled = new AtomicBoolean();
+    fileLocks = new Object[ LOCK_COUNT ];
+    for( int i = 0; i < LOCK_COUNT; i++ ) {
+      fileLocks[ i ] = new Object();
+    }
+    flushTask = new Runnable() {
+      @Override
+      public void run() {
+        scheduled.set( false );
+        flushAll();
+      }
+    };
+  }
+
+  public boolean isWriteBehind() {
+    return writeDelay > 0;
+  }
+
+  /**
+   * Writes the given attributes to the given file, either immediately or, in write-behind mode,
+   * after the write delay. The map must not be modified afterwards.
+   */
+  public void write( File file, Map<String, String> attributes ) throws IOException {
+    ParamCheck.notNull( file, "file" );
+    ParamCheck.notNull( attributes, "attributes" );
+    if( isWriteBehind() ) {
+      pending.put( file, attributes );
+      if( scheduled.compareAndSet( false, true ) ) {
+        timer.schedule( flushTask, writeDelay );
+      }
+    } else {
+      synchronized( getLock( file ) ) {
+        writeFile( file, attributes );
+      }
+    }
+  }
+
+  /**
+   * Writes a pending snapshot of the given file, if any.
+   */
+  public void flush( File file ) {
+    synchronized( getLock( file ) ) {
+      // remove and write under the lock so that an older snapshot never overwrites a newer one
+      Map<String, String> attributes = pending.remove( file );
+      if( attributes != null ) {
+        writeFileLogged( file, attributes );
+      }
+    }
+  }
+
+  public void flushAll() {
+    for( Entry<File, Map<String, String>> entry : pending.entrySet() ) {
+      synchronized( getLock( entry.getKey() ) ) {
+        if( pending.remove( entry.getKey(), entry.getValue() ) ) {
+          writeFileLogged( entry.getKey(), entry.getValue() );
+        }
+      }
+    }
+  }
+
+  public boolean hasPendingWrites() {
+    return !pending.isEmpty();
+  }
+
+  public void shutdown() {
+    flushAll();
+    timer.shutdown();
+    scheduled.set( false );
+  }
+
+  /**
+   * Writes the given attributes to the given file immediately, replacing the file atomically.
+   */
+  public static void writeFile( File file, Map<String, String> attributes ) throws IOException {
+    Properties properties = new Properties();
+    properties.putAll( attributes );
+    File tempFile = File.createTempFile( "." + file.getName() + ".", ".tmp", file.getParentFile() );
+    try {
+      OutputStream outputStream = new BufferedOutputStream( new FileOutputStream( tempFile ) );
+      try {
+        properties.store( outputStream, FileSettingStore.class.getName() );
+      } finally {
+        outputStream.close();
+      }
+      AtomicFileUtil.move( tempFile, file );
+    } finally {
+      tempFile.delete();
+    }
+  }
+
+  private Object getLock( File file ) {
+    // a fixed set of locks, as the number of files grows with the number of setting store ids
+    return fileLocks[ ( file.hashCode() & Integer.MAX_VALUE ) % LOCK_COUNT ];
+  }
+
+  private static void writeFileLogged( File file, Map<String, String> attributes ) {
+    try {
+      writeFile( file, attributes );
+    } catch( IOException exception ) {
+      ServletLog.log( "Failed to write setting store: " + file.getAbsolutePath(), exception );
+    }
+  }
+
+}
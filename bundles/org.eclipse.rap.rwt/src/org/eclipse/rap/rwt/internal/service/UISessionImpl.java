@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2018 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -58,6 +58,7 @@ public class UISessionImpl
   private Connection connection;
   private boolean bound;
   private boolean inDestroy;
+  private transient boolean changed;
   private transient HttpSession httpSession;
   private transient ISessionShutdownAdapter shutdownAdapter;
   private transient ApplicationContextImpl applicationContext;
@@ -88,9 +89,29 @@ public class UISessionImpl
   }
 
   public void attachToHttpSession() {
+    synchronized( lock ) {
+      changed = false;
+    }
     httpSession.setAttribute( getUISessionAttributeName( connectionId ), this );
   }
 
+  /**
+   * Returns whether this UI session may have changed since it was last attached to the HTTP
+   * session. Setting or removing attributes and executing code with <code>exec()</code> count as
+   * changes.
+   */
+  public boolean isChanged() {
+    synchronized( lock ) {
+      return changed;
+    }
+  }
+
+  public void markChanged() {
+    synchronized( lock ) {
+      changed = true;
+    }
+  }
+
   public void setApplicationContext( ApplicationContextImpl applicationContext ) {
     if( this.applicationContext != null ) {
       this.applicationContext.removeApplicationContextListener( this );
@@ -156,6 +177,7 @@ public class UISessionImpl
     synchronized( lock ) {
       if( bound ) {
         result = true;
+        changed = true;
         attributes.put( name, value );
       }
     }
@@ -169,6 +191,7 @@ public class UISessionImpl
     synchronized( lock ) {
       if( bound ) {
         result = true;
+        changed = true;
         attributes.remove( name );
       }
     }
@@ -248,6 +271,7 @@ public class UISessionImpl
   @Override
   public void exec( Runnable runnable ) {
     ParamCheck.notNull( runnable, "runnable" );
+    markChanged();
     ContextUtil.runNonUIThreadWithFakeContext( this, runnable );
   }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -69,6 +69,11 @@ public class MeasurementUtil {
     return ( MeasurementOperator )uiSession.getAttribute( ATTR_OPERATOR );
   }
 
+  public static int getPendingMeasurementCount( UISession uiSession ) {
+    MeasurementOperator operator = ( MeasurementOperator )uiSession.getAttribute( ATTR_OPERATOR );
+    return operator == null ? 0 : operator.getProbeCount() + operator.getItemCount();
+  }
+
   static JsonArray createItemParamObject( MeasurementItem item ) {
     FontData fontData = item.getFontData();
     JsonArray result = new JsonArray()
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+
+
+/*
+ * Immutable key of a measured text size. Unlike a plain hash code, the key compares all
+ * parameters of the measurement, so that colliding hash codes cannot yield a wrong size.
+ */
+final class TextSizeKey {
+
+  private final String probeText;
+  private final int probeWidth;
+  private final int probeHeight;
+  private final String fontName;
+  private final int fontHeight;
+  private final int fontStyle;
+  private final String string;
+  private final int wrapWidth;
+  private final int mode;
+  private final int hashCode;
+
+  TextSizeKey( String probeText,
+               Point probeSize,
+               FontData fontData,
+               String string,
+               int wrapWidth,
+               int mode )
+  {
+    this.probeText = probeText;
+    probeWidth = probeSize.x;
+    probeHeight = probeSize.y;
+    fontName = fontData.getName();
+    fontHeight = fontData.getHeight();
+    fontStyle = fontData.getStyle();
+    this.string = string;
+    this.wrapWidth = wrapWidth;
+    this.mode = mode;
+    hashCode = computeHashCode();
+  }
+
+  @Override
+  public boolean equals( Object object ) {
+    if( this == object ) {
+      return true;
+    }
+    if( !( object instanceof TextSizeKey ) ) {
+      return false;
+    }
+    TextSizeKey other = ( TextSizeKey )object;
+    return    hashCode == other.hashCode
+           && wrapWidth == other.wrapWidth
+           && mode == other.mode
+           && fontHeight == other.fontHeight
+           && fontStyle == other.fontStyle
+           && probeWidth == other.probeWidth
+           && probeHeight == other.probeHeight
+           && string.equals( other.string )
+           && fontName.equals( other.fontName )
+           && probeText.equals( other.probeText );
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    int result = 1;
+    result = 31 * result + probeText.hashCode();
+    result = 31 * result + probeWidth;
+    result = 31 * result + probeHeight;
+    result = 31 * result + fontName.hashCode();
+    result = 31 * result + fontHeight;
+    result = 31 * result + fontStyle;
+    result = 31 * result + string.hashCode();
+    result = 31 * result + wrapWidth;
+    result = 31 * result + mode;
+    return result;
+  }
+
+}
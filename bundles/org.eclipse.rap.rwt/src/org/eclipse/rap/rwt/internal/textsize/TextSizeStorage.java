@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,100 +13,109 @@ package org.eclipse.rap.rwt.internal.textsize;
 
 import static org.eclipse.rap.rwt.internal.RWTProperties.getTextSizeStoreSize;
 
-import java.io.Serializable;
 import java.math.BigDecimal;
 import java.text.MessageFormat;
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Point;
 
 
+/*
+ * Application-wide cache of measured text sizes. Lookups and stores do not lock. When the
+ * maximum size is reached, a range of entries is evicted with the CLOCK (second chance)
+ * algorithm: entries are visited in insertion order, recently used entries are spared once and
+ * re-queued, the others are removed. Each visit is O(1).
+ */
 public final class TextSizeStorage {
 
   public static final int MIN_STORE_SIZE = 1000;
   public static final int DEFAULT_STORE_SIZE = 10000;
 
-  private final Object lock;
-  // access is guarded by 'lock'
   private final Set<FontData> fontDatas;
-  // access is guarded by 'lock'
-  private final Map<Integer,Entry> data;
-  private int maximumStoreSize;
-  private int clearRange;
-  private long clock;
+  private final ConcurrentHashMap<Object,Entry> data;
+  private final Queue<Entry> evictionQueue;
+  private final Object evictionLock;
+  private final LongAdder hitCount;
+  private final LongAdder missCount;
+  private final LongAdder evictionCount;
+  private volatile int maximumStoreSize;
+  private volatile int clearRange;
 
 
   private static class Entry {
-    private Point point;
-    private long timeStamp;
-  }
-
-  private static class EntryComparator implements Comparator<Entry>, Serializable {
+    private final Object key;
+    private volatile Point point;
+    private volatile boolean referenced;
 
-    @Override
-    public int compare( Entry entry1, Entry entry2 ) {
-      int result = 0;
-      if( entry1.timeStamp > entry2.timeStamp ) {
-        result = 1;
-      } else if( entry1.timeStamp < entry2.timeStamp ) {
-        result = -1;
-      }
-      return result;
+    Entry( Object key, Point point ) {
+      this.key = key;
+      this.point = point;
     }
   }
 
 
   public TextSizeStorage() {
-    lock = new Object();
-    data = new HashMap<>();
-    fontDatas = new HashSet<>();
+    data = new ConcurrentHashMap<>();
+    fontDatas = ConcurrentHashMap.newKeySet();
+    evictionQueue = new ConcurrentLinkedQueue<>();
+    evictionLock = new Object();
+    hitCount = new LongAdder();
+    missCount = new LongAdder();
+    evictionCount = new LongAdder();
     setMaximumStoreSize( getTextSizeStoreSize( DEFAULT_STORE_SIZE ) );
   }
 
   FontData[] getFontList() {
-    FontData[] result;
-    synchronized( lock ) {
-      result = new FontData[ fontDatas.size() ];
-      fontDatas.toArray( result );
-    }
-    return result;
+    return fontDatas.toArray( new FontData[ 0 ] );
   }
 
   void storeFont( FontData fontData ) {
-    synchronized( lock ) {
-      fontDatas.add( fontData );
-    }
+    fontDatas.add( fontData );
   }
 
-  Point lookupTextSize( Integer key ) {
+  Point lookupTextSize( Object key ) {
     Point result = null;
-    synchronized( lock ) {
-      Entry entry = data.get( key );
-      if( entry != null ) {
-        updateTimestamp( entry );
-        result = entry.point;
-      }
+    Entry entry = data.get( key );
+    if( entry != null ) {
+      entry.referenced = true;
+      hitCount.increment();
+      result = defensiveCopy( entry.point );
+    } else {
+      missCount.increment();
     }
-    result = defensiveCopy( result );
     return result;
   }
 
-  void storeTextSize( Integer key, Point size ) {
-    Entry entry = new Entry();
-    entry.point = defensiveCopy( size );
-    updateTimestamp( entry );
-    synchronized( lock ) {
-      data.put( key, entry );
+  void storeTextSize( Object key, Point size ) {
+    Entry entry = new Entry( key, defensiveCopy( size ) );
+    Entry existing = data.putIfAbsent( key, entry );
+    if( existing == null ) {
+      evictionQueue.add( entry );
       handleOverFlow();
+    } else {
+      // refresh in place, the entry is already queued for eviction
+      existing.point = entry.point;
+      existing.referenced = true;
     }
   }
 
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  public long getEvictionCount() {
+    return evictionCount.sum();
+  }
+
   ////////////////////
   // overflow handling
 
@@ -120,20 +129,35 @@ public final class TextSizeStorage {
     return maximumStoreSize;
   }
 
+  int getEvictionQueueSize() {
+    return evictionQueue.size();
+  }
+
   private void handleOverFlow() {
     if( data.size() >= maximumStoreSize ) {
-      Entry[] entries = sortEntries();
-      for( int i = 0; i < clearRange; i++ ) {
-        data.values().remove( entries[ i ] );
+      synchronized( evictionLock ) {
+        if( data.size() >= maximumStoreSize ) {
+          evictEntries( clearRange );
+        }
       }
     }
   }
 
-  private Entry[] sortEntries() {
-    Entry[] result = new Entry[ data.size() ];
-    data.values().toArray( result );
-    Arrays.sort( result, new EntryComparator() );
-    return result;
+  private void evictEntries( int count ) {
+    int evicted = 0;
+    Entry entry = evictionQueue.poll();
+    while( evicted < count && entry != null ) {
+      if( data.get( entry.key ) == entry ) {
+        if( entry.referenced ) {
+          entry.referenced = false;
+          evictionQueue.add( entry );
+        } else if( data.remove( entry.key, entry ) ) {
+          evicted++;
+        }
+      }
+      entry = evicted < count ? evictionQueue.poll() : null;
+    }
+    evictionCount.add( evicted );
   }
 
 
@@ -152,10 +176,6 @@ public final class TextSizeStorage {
     return point == null ? null : new Point( point.x, point.y );
   }
 
-  private void updateTimestamp( Entry entry ) {
-    entry.timeStamp = clock++;
-  }
-
   private void calculateClearRange( int maximumStoreSize ) {
     BigDecimal ten = new BigDecimal( 10 );
     BigDecimal bdStoreSize = new BigDecimal( maximumStoreSize );
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.theme;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.rap.rwt.internal.theme.WidgetMatcher.Constraint;
+import org.eclipse.rap.rwt.internal.theme.css.ConditionalValue;
+import org.eclipse.swt.widgets.Widget;
+
+
+/**
+ * Provides fast access to the values of a theme. For every element and property, the conditional
+ * values of the theme and of the fallback theme are merged into one array, so that a lookup never
+ * has to query the fallback theme. The constraints of these values are resolved once per widget
+ * matcher, results of simple selectors do not depend on the widget and are computed only once.
+ * <p>
+ * This table is shared by all UI sessions of an application and is safe for concurrent use.
+ * </p>
+ */
+public final class CssValueTable {
+
+  // Upper bound for memoized simple selectors per entry, as selectors can be created freely
+  private static final int MAX_SELECTOR_RESULTS = 16;
+  private static final CssValue NO_VALUE = new CssIdentifier( "none" );
+
+  private final CssValuesMap valuesMap;
+  private final CssValuesMap fallbackValuesMap;
+  private final Map<String, Map<String, Entry>> entries;
+
+  public CssValueTable( CssValuesMap valuesMap, CssValuesMap fallbackValuesMap ) {
+    this.valuesMap = valuesMap;
+    this.fallbackValuesMap = fallbackValuesMap;
+    entries = new ConcurrentHashMap<>();
+  }
+
+  public CssValue getValue( String cssElement,
+                            String cssProperty,
+                            ValueSelector selector,
+                            Widget widget )
+  {
+    return getEntry( cssElement, cssProperty ).select( selector, widget );
+  }
+
+  private Entry getEntry( String cssElement, String cssProperty ) {
+    Map<String, Entry> elementEntries = entries.get( cssElement );
+    if( elementEntries == null ) {
+      elementEntries = new ConcurrentHashMap<>();
+      Map<String, Entry> existing = entries.putIfAbsent( cssElement, elementEntries );
+      if( existing != null ) {
+        elementEntries = existing;
+      }
+    }
+    Entry result = elementEntries.get( cssProperty );
+    if( result == null ) {
+      // entries are deterministic, concurrently created duplicates are harmless
+      result = new Entry( mergeValues( cssElement, cssProperty ) );
+      elementEntries.put( cssProperty, result );
+    }
+    return result;
+  }
+
+  private ConditionalValue[] mergeValues( String cssElement, String cssProperty ) {
+    ConditionalValue[] values = nonNull( valuesMap.getValues( cssElement, cssProperty ) );
+    if( fallbackValuesMap == null || fallbackValuesMap == valuesMap ) {
+      return values;
+    }
+    ConditionalValue[] fallbackValues
+      = nonNull( fallbackValuesMap.getValues( cssElement, cssProperty ) );
+    ConditionalValue[] result = new ConditionalValue[ values.length + fallbackValues.length ];
+    System.arraycopy( values, 0, result, 0, values.length );
+    System.arraycopy( fallbackValues, 0, result, values.length, fallbackValues.length );
+    return result;
+  }
+
+  private static ConditionalValue[] nonNull( ConditionalValue[] values ) {
+    return values != null ? values : new ConditionalValue[ 0 ];
+  }
+
+  private static final class Entry {
+
+    private final ConditionalValue[] values;
+    private final Map<WidgetMatcher, Constraint[][]> compiledConstraints;
+    private final Map<ValueSelector, CssValue> selectorResults;
+
+    Entry( ConditionalValue[] values ) {
+      this.values = values;
+      compiledConstraints = new ConcurrentHashMap<>();
+      selectorResults = new ConcurrentHashMap<>();
+    }
+
+    CssValue select( ValueSelector selector, Widget widget ) {
+      if( selector instanceof WidgetMatcher ) {
+        WidgetMatcher matcher = ( WidgetMatcher )selector;
+        return matcher.select( widget, values, getCompiledConstraints( matcher ) );
+      }
+      if( selector instanceof SimpleSelector ) {
+        return selectCached( selector, widget );
+      }
+      return selector.select( widget, values );
+    }
+
+    private CssValue selectCached( ValueSelector selector, Widget widget ) {
+      CssValue result = selectorResults.get( selector );
+      if( result == null ) {
+        result = selector.select( widget, values );
+        if( selectorResults.size() < MAX_SELECTOR_RESULTS ) {
+          selectorResults.put( selector, result == null ? NO_VALUE : result );
+        }
+      }
+      return result == NO_VALUE ? null : result;
+    }
+
+    private Constraint[][] getCompiledConstraints( WidgetMatcher matcher ) {
+      Constraint[][] result = compiledConstraints.get( matcher );
+      if( result == null ) {
+        result = matcher.compile( values );
+        compiledConstraints.put( matcher, result );
+      }
+      return result;
+    }
+
+  }
+
+}
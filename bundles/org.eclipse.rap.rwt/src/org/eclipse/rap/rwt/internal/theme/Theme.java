@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -32,6 +32,7 @@ public class Theme {
   private final String name;
   private StyleSheetBuilder styleSheetBuilder;
   private CssValuesMap valuesMap;
+  private CssValueTable valueTable;
 
   private String registeredLocation;
 
@@ -103,29 +104,52 @@ public class Theme {
     return valuesMap;
   }
 
+  /**
+   * Returns the compiled values of this theme, including the values of the fallback theme.
+   */
+  public CssValueTable getValueTable() {
+    if( valueTable == null ) {
+      throw new IllegalStateException( "Theme is not initialized" );
+    }
+    return valueTable;
+  }
+
+  void createValueTable( Theme fallbackTheme ) {
+    CssValuesMap fallbackValuesMap = fallbackTheme != null ? fallbackTheme.getValuesMap() : null;
+    valueTable = new CssValueTable( getValuesMap(), fallbackValuesMap );
+  }
+
   public String getRegisteredLocation() {
     return registeredLocation;
   }
 
   public void registerResources( ApplicationContext applicationContext ) {
-    try {
-      registerThemeResources( applicationContext );
-      registerThemeStoreFile( applicationContext );
-    } catch( IOException ioe ) {
-      throw new ThemeManagerException( "Failed to register theme resources for theme " + id, ioe );
-    }
+    registerThemeResources( applicationContext );
+    registerThemeStoreFile( applicationContext );
   }
 
-  private void registerThemeResources( ApplicationContext applicationContext ) throws IOException {
-    CssValue[] values = valuesMap.getAllValues();
-    for( CssValue value : values ) {
-      if( value instanceof ThemeResource ) {
-        registerResource( applicationContext, ( ThemeResource )value );
+  /**
+   * Registers the images and other resources referenced by this theme. Themes may share
+   * resources, hence this method must not run concurrently for different themes.
+   */
+  public void registerThemeResources( ApplicationContext applicationContext ) {
+    try {
+      CssValue[] values = valuesMap.getAllValues();
+      for( CssValue value : values ) {
+        if( value instanceof ThemeResource ) {
+          registerResource( applicationContext, ( ThemeResource )value );
+        }
       }
+    } catch( IOException ioe ) {
+      throw new ThemeManagerException( "Failed to register theme resources for theme " + id, ioe );
     }
   }
 
-  private void registerThemeStoreFile( ApplicationContext applicationContext ) {
+  /**
+   * Creates and registers the theme store file that is sent to the client. The theme resources
+   * must be registered before. Can run concurrently for different themes.
+   */
+  public void registerThemeStoreFile( ApplicationContext applicationContext ) {
     ThemeStoreWriter storeWriter = new ThemeStoreWriter( applicationContext, this, elements );
     String name = "rap-" + jsId + ".json";
     String code = storeWriter.createJson();
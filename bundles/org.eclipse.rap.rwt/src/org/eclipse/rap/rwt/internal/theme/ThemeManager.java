@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -23,11 +23,13 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleAdapterUtil;
 import org.eclipse.rap.rwt.internal.theme.css.CssFileReader;
 import org.eclipse.rap.rwt.internal.theme.css.StyleSheet;
+import org.eclipse.rap.rwt.internal.util.ParallelTasks;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.service.ResourceLoader;
 import org.eclipse.swt.widgets.Widget;
@@ -88,6 +90,8 @@ public class ThemeManager {
     "org.eclipse.nebula.widgets.grid.Grid"
   };
 
+  private static final String THREAD_NAME = "RWT theme initialization";
+
   private final Map<String, Theme> themes;
   private final ThemeableWidgetHolder themeableWidgets;
   private final List<String> appearances;
@@ -101,7 +105,7 @@ public class ThemeManager {
     themeableWidgets = new ThemeableWidgetHolder();
     appearances = new ArrayList<>();
     themeAdapterManager = new ThemeAdapterManager();
-    resolvedPackageNames = new HashMap<>();
+    resolvedPackageNames = new ConcurrentHashMap<>();
     initialized = false;
     createAndAddFallbackTheme();
     addDefaultThemableWidgets();
@@ -120,8 +124,13 @@ public class ThemeManager {
       initializeThemeableWidgets();
       Collection<Theme> allThemes = themes.values();
       ThemeableWidget[] allThemeableWidgets = themeableWidgets.getAll();
+      List<Runnable> tasks = new ArrayList<>();
+      for( Theme theme : allThemes ) {
+        tasks.add( () -> theme.initialize( allThemeableWidgets ) );
+      }
+      ParallelTasks.runAll( THREAD_NAME, tasks );
       for( Theme theme : allThemes ) {
-        theme.initialize( allThemeableWidgets );
+        theme.createValueTable( fallbackTheme );
       }
       initialized = true;
     }
@@ -245,8 +254,21 @@ public class ThemeManager {
 
   private void initializeThemeableWidgets() {
     ThemeableWidget[] widgets = themeableWidgets.getAll();
-    for( ThemeableWidget widget : widgets ) {
-      loadThemeableWidgetResources( widget );
+    String[] appearanceCodes = new String[ widgets.length ];
+    List<Runnable> tasks = new ArrayList<>();
+    for( int i = 0; i < widgets.length; i++ ) {
+      int index = i;
+      tasks.add( () -> appearanceCodes[ index ] = loadThemeableWidgetResources( widgets[ index ] ) );
+    }
+    ParallelTasks.runAll( THREAD_NAME, tasks );
+    // merge in the order of registration, later style sheets and appearances take precedence
+    for( int i = 0; i < widgets.length; i++ ) {
+      if( appearanceCodes[ i ] != null ) {
+        appearances.add( appearanceCodes[ i ] );
+      }
+      if( widgets[ i ].defaultStyleSheet != null ) {
+        fallbackTheme.addStyleSheet( widgets[ i ].defaultStyleSheet );
+      }
     }
   }
 
@@ -256,19 +278,29 @@ public class ThemeManager {
     }
   }
 
-  private void loadThemeableWidgetResources( ThemeableWidget themeWidget ) {
+  /**
+   * Loads the resources of the given widget. Does not modify the state of the theme manager, so
+   * that widgets can be loaded in parallel.
+   *
+   * @return the content of the appearance file of the widget or <code>null</code> if there is
+   *         none
+   */
+  private String loadThemeableWidgetResources( ThemeableWidget themeWidget ) {
     String className = LifeCycleAdapterUtil.getSimpleClassName( themeWidget.className );
     String[] variants = LifeCycleAdapterUtil.getKitPackageVariants( themeWidget.className );
     boolean found = false;
+    String appearanceCode = null;
     try {
       for( int i = 0; i < variants.length && !found ; i++ ) {
         found |= loadThemeDef( themeWidget, variants[ i ], className );
-        found |= loadAppearanceJs( themeWidget, variants[ i ], className );
+        String content = loadAppearanceJs( themeWidget, variants[ i ], className );
+        if( content != null ) {
+          appearanceCode = content;
+          found = true;
+        }
         found |= loadDefaultCss( themeWidget, variants[ i ], className );
       }
-      if( themeWidget.defaultStyleSheet != null ) {
-        fallbackTheme.addStyleSheet( themeWidget.defaultStyleSheet );
-      }
+      return appearanceCode;
     } catch( IOException e ) {
       String msg = "Failed to initialize themeable widget: " + themeWidget.className;
       throw new ThemeManagerException( msg, e );
@@ -298,18 +330,16 @@ public class ThemeManager {
     return result;
   }
 
-  private boolean loadAppearanceJs( ThemeableWidget themeWidget, String pkgName, String className )
+  private String loadAppearanceJs( ThemeableWidget themeWidget, String pkgName, String className )
     throws IOException
   {
-    boolean result = false;
+    String result = null;
     String resPkgName = resolvePackageName( pkgName );
     String fileName = resPkgName + "/" + className + ".appearances.js";
     InputStream inStream = themeWidget.loader.getResourceAsStream( fileName );
     if( inStream != null ) {
       try {
-        String content = AppearancesUtil.readAppearanceFile( inStream );
-        appearances.add( content );
-        result = true;
+        result = AppearancesUtil.readAppearanceFile( inStream );
       } finally {
         inStream.close();
       }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -55,6 +55,45 @@ public final class WidgetMatcher implements ValueSelector {
     return result;
   }
 
+  /**
+   * Resolves the constraints of the given values for use with
+   * {@link #select(Widget, ConditionalValue[], Constraint[][])}. A value with an unknown
+   * constraint can never match and is represented by <code>null</code>.
+   */
+  Constraint[][] compile( ConditionalValue[] values ) {
+    Constraint[][] result = new Constraint[ values.length ][];
+    for( int i = 0; i < values.length; i++ ) {
+      String[] constraints = values[ i ].constraints;
+      Constraint[] compiled = new Constraint[ constraints.length ];
+      for( int j = 0; j < constraints.length && compiled != null; j++ ) {
+        compiled[ j ] = getConstraint( constraints[ j ] );
+        if( compiled[ j ] == null ) {
+          compiled = null;
+        }
+      }
+      result[ i ] = compiled;
+    }
+    return result;
+  }
+
+  CssValue select( Widget widget, ConditionalValue[] values, Constraint[][] compiled ) {
+    for( int i = 0; i < values.length; i++ ) {
+      if( compiled[ i ] != null && matches( widget, compiled[ i ] ) ) {
+        return values[ i ].value;
+      }
+    }
+    return null;
+  }
+
+  private static boolean matches( Widget widget, Constraint[] constraints ) {
+    for( Constraint constraint : constraints ) {
+      if( !constraint.matches( widget ) ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   private boolean matches( Widget widget, String[] constraints ) {
     for( String string : constraints ) {
       Constraint constraint = getConstraint( string );
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+
+
+public class AtomicFileUtil {
+
+  /**
+   * Moves the source file to the target file, replacing the target. The move is atomic if the
+   * file system supports it.
+   */
+  public static void move( File source, File target ) throws IOException {
+    try {
+      Files.move( source.toPath(), target.toPath(), ATOMIC_MOVE, REPLACE_EXISTING );
+    } catch( @SuppressWarnings( "unused" ) AtomicMoveNotSupportedException exception ) {
+      Files.move( source.toPath(), target.toPath(), REPLACE_EXISTING );
+    }
+  }
+
+  private AtomicFileUtil() {
+    // prevent instantiation
+  }
+
+}
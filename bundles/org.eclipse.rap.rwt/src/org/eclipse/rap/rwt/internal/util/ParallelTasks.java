@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Runs independent tasks in parallel on short-lived daemon threads and waits for all of them to
+ * complete. Used to speed up the initialization of an application. The worker threads use the
+ * context class loader of the calling thread.
+ */
+public final class ParallelTasks {
+
+  private ParallelTasks() {
+    // prevent instantiation
+  }
+
+  /**
+   * Runs the given tasks and waits for their completion. If a task fails, the exception of the
+   * first failed task (in the order of the list) is rethrown after all tasks have completed.
+   */
+  public static void runAll( String threadName, List<? extends Runnable> tasks ) {
+    ParamCheck.notNull( tasks, "tasks" );
+    int threadCount = Math.min( tasks.size(), Runtime.getRuntime().availableProcessors() );
+    if( threadCount <= 1 ) {
+      for( Runnable task : tasks ) {
+        task.run();
+      }
+      return;
+    }
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    ThreadFactory threadFactory = new WorkerThreadFactory( threadName, classLoader );
+    ExecutorService executor = Executors.newFixedThreadPool( threadCount, threadFactory );
+    try {
+      List<Future<?>> futures = new ArrayList<>( tasks.size() );
+      for( Runnable task : tasks ) {
+        futures.add( executor.submit( task ) );
+      }
+      awaitAll( futures );
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void awaitAll( List<Future<?>> futures ) {
+    Throwable failure = null;
+    boolean interrupted = false;
+    for( Future<?> future : futures ) {
+      try {
+        future.get();
+      } catch( ExecutionException exception ) {
+        if( failure == null ) {
+          failure = exception.getCause();
+        }
+      } catch( InterruptedException exception ) {
+        interrupted = true;
+        if( failure == null ) {
+          failure = exception;
+        }
+        break;
+      }
+    }
+    if( interrupted ) {
+      Thread.currentThread().interrupt();
+    }
+    if( failure instanceof RuntimeException ) {
+      throw ( RuntimeException )failure;
+    }
+    if( failure instanceof Error ) {
+      throw ( Error )failure;
+    }
+    if( failure != null ) {
+      throw new RuntimeException( failure );
+    }
+  }
+
+  private static class WorkerThreadFactory implements ThreadFactory {
+
+    private final String name;
+    private final ClassLoader classLoader;
+    private final AtomicInteger count;
+
+    WorkerThreadFactory( String name, ClassLoader classLoader ) {
+      this.name = name;
+      this.classLoader = classLoader;
+      count = new AtomicInteger();
+    }
+
+    @Override
+    public Thread newThread( Runnable runnable ) {
+      Thread result = new Thread( runnable, name + " " + count.incrementAndGet() );
+      result.setDaemon( true );
+      result.setContextClassLoader( classLoader );
+      return result;
+    }
+
+  }
+
+}
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+
+
+/**
+ * A timer that is shared by all UI sessions of an application. All tasks are executed on a
+ * single daemon thread that is created lazily. Tasks should therefore be short.
+ */
+public class SharedTimer {
+
+  private final String threadName;
+  private final Object lock;
+  private ScheduledThreadPoolExecutor executor;
+
+  public SharedTimer( String threadName ) {
+    this.threadName = threadName;
+    lock = new Object();
+  }
+
+  public ScheduledFuture<?> schedule( Runnable task, long delay ) {
+    return getExecutor().schedule( task, delay, MILLISECONDS );
+  }
+
+  public ScheduledFuture<?> scheduleWithFixedDelay( Runnable task, long interval ) {
+    return getExecutor().scheduleWithFixedDelay( task, interval, interval, MILLISECONDS );
+  }
+
+  public void shutdown() {
+    synchronized( lock ) {
+      if( executor != null ) {
+        executor.shutdownNow();
+        executor = null;
+      }
+    }
+  }
+
+  private ScheduledThreadPoolExecutor getExecutor() {
+    synchronized( lock ) {
+      if( executor == null ) {
+        executor = new ScheduledThreadPoolExecutor( 1, new TimerThreadFactory( threadName ) );
+        executor.setRemoveOnCancelPolicy( true );
+      }
+      return executor;
+    }
+  }
+
+  private static class TimerThreadFactory implements ThreadFactory {
+
+    private final String name;
+
+    TimerThreadFactory( String name ) {
+      this.name = name;
+    }
+
+    @Override
+    public Thread newThread( Runnable runnable ) {
+      Thread result = new Thread( runnable, name );
+      result.setDaemon( true );
+      return result;
+    }
+
+  }
+
+}
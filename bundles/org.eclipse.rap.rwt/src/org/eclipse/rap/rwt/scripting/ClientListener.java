@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2015 EclipseSource and others.
+ * Copyright (c) 2013, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -27,6 +27,13 @@ public class ClientListener extends ClientFunction implements Listener {
    * Creates a ClientListener instance with the specified JavaScript code. The JavaScript code
    * must contain a method named <code>handleEvent</code>. This method will be called with a
    * single argument, <code>event</event>.
+   * <p>
+   * The JavaScript code of every listener instance is sent to the client and evaluated
+   * separately, so that top-level variables of the script belong to this listener. If the system
+   * property <code>org.eclipse.rap.rwt.shareClientFunctions</code> is set to <code>true</code>,
+   * the code is sent and evaluated only once per UI session for all listeners with identical code.
+   * These listeners then share the top-level variables of their script.
+   * </p>
    *
    * @param scriptCode the JavaScript code of the event handler
    */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,24 +12,31 @@
 package org.eclipse.rap.rwt.service;
 
 import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
 import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.internal.service.SettingStoreWriter;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 
 
 /**
  * A setting store implementation that persists all settings on the file system using Java
  * {@link Properties} files.
+ * <p>
+ * Reading attributes does not lock, readers see a consistent snapshot of the attributes. Files
+ * are replaced atomically. When created by the {@link FileSettingStoreFactory}, changes may be
+ * written behind and coalesced, if the application is configured to do so.
+ * </p>
  *
  * @since 2.0
  */
@@ -43,9 +50,10 @@ public final class FileSettingStore implements SettingStore {
     = "org.eclipse.rap.rwt.service.FileSettingStore.dir";
 
   private final File workDir;
-  private final Properties props;
+  private final SettingStoreWriter writer;
   private final Set<SettingStoreListener> listeners;
-  private String id;
+  private volatile Map<String, String> attributes;
+  private volatile String id;
 
   /**
    * Creates an empty instance with a random unique ID. Use {@link #loadById(String)} to initialize
@@ -56,10 +64,15 @@ public final class FileSettingStore implements SettingStore {
    * @see #loadById(String)
    */
   public FileSettingStore( File baseDirectory ) {
+    this( baseDirectory, null );
+  }
+
+  FileSettingStore( File baseDirectory, SettingStoreWriter writer ) {
     ParamCheck.notNull( baseDirectory, "baseDirectory" );
     checkWorkDir( baseDirectory );
     workDir = baseDirectory;
-    props = new Properties();
+    this.writer = writer;
+    attributes = Collections.emptyMap();
     listeners = new HashSet<>();
   }
 
@@ -69,9 +82,9 @@ public final class FileSettingStore implements SettingStore {
   }
 
   @Override
-  public synchronized String getAttribute( String name ) {
+  public String getAttribute( String name ) {
     ParamCheck.notNull( name, "name" );
-    return props.getProperty( name );
+    return attributes.get( name );
   }
 
   @Override
@@ -80,8 +93,11 @@ public final class FileSettingStore implements SettingStore {
     if( value == null ) {
       removeAttribute( name );
     } else {
-      String oldValue = ( String )props.setProperty( name, value );
+      String oldValue = attributes.get( name );
       if( !value.equals( oldValue ) ) {
+        Map<String, String> newAttributes = new HashMap<>( attributes );
+        newAttributes.put( name, value );
+        attributes = Collections.unmodifiableMap( newAttributes );
         notifyListeners( name, oldValue, value );
         persist();
       }
@@ -89,18 +105,8 @@ public final class FileSettingStore implements SettingStore {
   }
 
   @Override
-  public synchronized Enumeration<String> getAttributeNames() {
-    final Enumeration<Object> keys = props.keys();
-    return new Enumeration<String>() {
-      @Override
-      public boolean hasMoreElements() {
-        return keys.hasMoreElements();
-      }
-      @Override
-      public String nextElement() {
-        return ( String )keys.nextElement();
-      }
-    };
+  public Enumeration<String> getAttributeNames() {
+    return Collections.enumeration( attributes.keySet() );
   }
 
   @Override
@@ -108,11 +114,21 @@ public final class FileSettingStore implements SettingStore {
     ParamCheck.notNullOrEmpty( id, "id" );
     this.id = id;
     notifyForEachAttribute( true );
-    props.clear();
+    attributes = Collections.emptyMap();
+    if( writer != null ) {
+      // pending changes of other stores with the same id must be visible
+      writer.flush( getStoreFile( id ) );
+    }
     BufferedInputStream inputStream = getInputStream( id );
     if( inputStream != null ) {
       try {
+        Properties props = new Properties();
         props.load( inputStream );
+        Map<String, String> newAttributes = new HashMap<>();
+        for( String name : props.stringPropertyNames() ) {
+          newAttributes.put( name, props.getProperty( name ) );
+        }
+        attributes = Collections.unmodifiableMap( newAttributes );
         notifyForEachAttribute( false );
       } finally {
         inputStream.close();
@@ -122,8 +138,12 @@ public final class FileSettingStore implements SettingStore {
 
   @Override
   public synchronized void removeAttribute( String name ) throws IOException {
-    String oldValue = ( String )props.remove( name );
+    ParamCheck.notNull( name, "name" );
+    String oldValue = attributes.get( name );
     if( oldValue != null ) {
+      Map<String, String> newAttributes = new HashMap<>( attributes );
+      newAttributes.remove( name );
+      attributes = Collections.unmodifiableMap( newAttributes );
       notifyListeners( name, oldValue, null );
       persist();
     }
@@ -141,6 +161,15 @@ public final class FileSettingStore implements SettingStore {
     listeners.remove( listener );
   }
 
+  /*
+   * Writes pending changes of this store, if any. Called at the end of the UI session.
+   */
+  void flush() {
+    if( writer != null && id != null ) {
+      writer.flush( getStoreFile( id ) );
+    }
+  }
+
   //////////////////
   // helping methods
 
@@ -160,12 +189,6 @@ public final class FileSettingStore implements SettingStore {
     return result;
   }
 
-  private BufferedOutputStream getOutputStream( String streamId )
-  throws FileNotFoundException {
-    File file = getStoreFile( streamId );
-    return new BufferedOutputStream( new FileOutputStream( file ) );
-  }
-
   private File getStoreFile( String fileName ) {
     return new File( workDir, fileName );
   }
@@ -175,10 +198,9 @@ public final class FileSettingStore implements SettingStore {
   }
 
   private synchronized void notifyForEachAttribute( boolean removed ) {
-    Enumeration<Object> attributes = props.keys();
-    while( attributes.hasMoreElements() ) {
-      String attribute = ( String )attributes.nextElement();
-      String value = props.getProperty( attribute );
+    for( Map.Entry<String, String> entry : attributes.entrySet() ) {
+      String attribute = entry.getKey();
+      String value = entry.getValue();
       if( removed ) {
         notifyListeners( attribute, value, null );
       } else {
@@ -204,11 +226,11 @@ public final class FileSettingStore implements SettingStore {
   }
 
   private void persist() throws IOException {
-    BufferedOutputStream outputStream = getOutputStream( id );
-    try {
-      props.store( outputStream, FileSettingStore.class.getName() );
-    } finally {
-      outputStream.close();
+    File file = getStoreFile( id );
+    if( writer != null ) {
+      writer.write( file, attributes );
+    } else {
+      SettingStoreWriter.writeFile( file, attributes );
     }
   }
 
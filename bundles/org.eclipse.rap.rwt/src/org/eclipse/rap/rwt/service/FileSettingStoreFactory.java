@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,7 @@ import javax.servlet.http.HttpSession;
 
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.internal.service.SettingStoreWriter;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 
 
@@ -37,6 +38,12 @@ import org.eclipse.rap.rwt.internal.util.ParamCheck;
  * The first path that can be obtained from the above choices (in the order given above) will be
  * used. If the path determined does not exist it will be created.
  * </p>
+ * <p>
+ * If the system property <code>"org.eclipse.rap.rwt.settingStoreWriteDelay"</code> is set to a
+ * positive number of milliseconds, changes are not written immediately. Instead, all changes to a
+ * store within this delay are written at once, and pending changes are written at the latest when
+ * the UI session ends.
+ * </p>
  *
  * @since 2.0
  */
@@ -47,12 +54,16 @@ public final class FileSettingStoreFactory implements SettingStoreFactory {
   @Override
   public SettingStore createSettingStore( String id ) {
     ParamCheck.notNullOrEmpty( id, "id" );
-    SettingStore store = new FileSettingStore( getWorkingDir() );
+    SettingStoreWriter writer = ContextProvider.getApplicationContext().getSettingStoreWriter();
+    FileSettingStore store = new FileSettingStore( getWorkingDir(), writer );
     try {
       store.loadById( id );
     } catch( IOException sse ) {
       ServletLog.log( sse.getMessage(), sse );
     }
+    if( writer.isWriteBehind() ) {
+      ContextProvider.getUISession().addUISessionListener( new StoreFlusher( store ) );
+    }
     return store;
   }
 
@@ -106,4 +117,19 @@ public final class FileSettingStoreFactory implements SettingStoreFactory {
     return session.getServletContext();
   }
 
+  private static final class StoreFlusher implements UISessionListener {
+
+    private final FileSettingStore store;
+
+    StoreFlusher( FileSettingStore store ) {
+      this.store = store;
+    }
+
+    @Override
+    public void beforeDestroy( UISessionEvent event ) {
+      store.flush();
+    }
+
+  }
+
 }
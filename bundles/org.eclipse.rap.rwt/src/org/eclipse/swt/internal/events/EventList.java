@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,10 +10,10 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.events;
 
-import java.util.Arrays;
 import java.util.Comparator;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeSet;
 
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServiceStore;
@@ -21,6 +21,11 @@ import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.swt.widgets.Event;
 
 
+/**
+ * Holds the events of the current request that are to be dispatched. Events are ordered by the
+ * position of their type in the event order, then by their time, then by the order in which they
+ * were added. Adding and removing events takes logarithmic time.
+ */
 public class EventList {
 
   private static final String ATTR_EVENT_LIST = EventList.class.getName() + "#instance";
@@ -35,57 +40,138 @@ public class EventList {
     return result;
   }
 
-  private final List<Event> events;
-  private final EventComparator eventComparator;
+  private final int[] ranks;
+  private final TreeSet<Entry> entries;
+  // maps an event to its first entry, further entries for the same event are chained
+  private final Map<Event, Entry> entriesByEvent;
+  private long sequence;
 
   EventList() {
     this( EventTypes.EVENT_ORDER );
   }
 
   EventList( int[] eventOrder ) {
-    events = new LinkedList<Event>();
-    eventComparator = new EventComparator( eventOrder );
+    ranks = createRanks( eventOrder );
+    entries = new TreeSet<Entry>( new EntryComparator() );
+    entriesByEvent = new IdentityHashMap<Event, Entry>();
   }
 
   public void add( Event event ) {
-    events.add( event );
+    Entry entry = new Entry( event, getRank( event.type ), sequence++ );
+    entries.add( entry );
+    Entry first = entriesByEvent.get( event );
+    if( first == null ) {
+      entriesByEvent.put( event, entry );
+    } else {
+      Entry last = first;
+      while( last.next != null ) {
+        last = last.next;
+      }
+      last.next = entry;
+    }
   }
 
   public void remove( Event event ) {
     ParamCheck.notNull( event, "event" );
-    events.remove( event );
+    Entry first = entriesByEvent.get( event );
+    if( first != null ) {
+      entries.remove( first );
+      unlink( first );
+    }
   }
 
-  public Event[] getAll() {
-    Event[] result = events.toArray( new Event[ events.size() ] );
-    Arrays.sort( result, eventComparator );
+  /**
+   * Removes and returns the event that is to be dispatched next.
+   *
+   * @return the next event or <code>null</code> if the list is empty
+   */
+  public Event removeFirst() {
+    Event result = null;
+    Entry entry = entries.pollFirst();
+    if( entry != null ) {
+      result = entry.event;
+      unlink( entry );
+    }
     return result;
   }
 
-  private static class EventComparator implements Comparator<Event> {
+  public Event[] getAll() {
+    Event[] result = new Event[ entries.size() ];
+    int index = 0;
+    for( Entry entry : entries ) {
+      result[ index++ ] = entry.event;
+    }
+    return result;
+  }
 
-    private final int[] eventOrder;
+  private void unlink( Entry entry ) {
+    Entry first = entriesByEvent.get( entry.event );
+    if( first == entry ) {
+      if( entry.next == null ) {
+        entriesByEvent.remove( entry.event );
+      } else {
+        entriesByEvent.put( entry.event, entry.next );
+      }
+    } else {
+      Entry previous = first;
+      while( previous.next != entry ) {
+        previous = previous.next;
+      }
+      previous.next = entry.next;
+    }
+  }
 
-    public EventComparator( int[] eventOrder ) {
-      this.eventOrder = eventOrder;
+  private int getRank( int eventType ) {
+    int result = Integer.MAX_VALUE;
+    if( eventType >= 0 && eventType < ranks.length ) {
+      result = ranks[ eventType ];
     }
+    return result;
+  }
 
-    public int compare( Event event1, Event event2 ) {
-      int index1 = getIndex( event1 );
-      int index2 = getIndex( event2 );
-      int result = index1 - index2;
-      if( result == 0 ) {
-        result = event1.time - event2.time;
+  private static int[] createRanks( int[] eventOrder ) {
+    int maxType = -1;
+    for( int eventType : eventOrder ) {
+      maxType = Math.max( maxType, eventType );
+    }
+    int[] result = new int[ maxType + 1 ];
+    for( int i = 0; i < result.length; i++ ) {
+      result[ i ] = Integer.MAX_VALUE;
+    }
+    for( int i = eventOrder.length - 1; i >= 0; i-- ) {
+      if( eventOrder[ i ] >= 0 ) {
+        result[ eventOrder[ i ] ] = i;
       }
-      return result;
     }
+    return result;
+  }
+
+  private static class Entry {
 
-    private int getIndex( Event event ) {
-      int result = Integer.MAX_VALUE;
-      for( int i = 0; result == Integer.MAX_VALUE && i < eventOrder.length; i++ ) {
-        if( eventOrder[ i ] == event.type ) {
-          result = i;
-        }
+    final Event event;
+    final int rank;
+    final int time;
+    final long sequence;
+    Entry next;
+
+    Entry( Event event, int rank, long sequence ) {
+      this.event = event;
+      this.rank = rank;
+      time = event.time;
+      this.sequence = sequence;
+    }
+
+  }
+
+  private static class EntryComparator implements Comparator<Entry> {
+
+    public int compare( Entry entry1, Entry entry2 ) {
+      int result = Integer.compare( entry1.rank, entry2.rank );
+      if( result == 0 ) {
+        result = Integer.compare( entry1.time, entry2.time );
+      }
+      if( result == 0 ) {
+        result = Long.compare( entry1.sequence, entry2.sequence );
       }
       return result;
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2012 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,8 +11,13 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.graphics;
 
-import java.util.HashMap;
-import java.util.Map;
+import static org.eclipse.rap.rwt.internal.RWTProperties.getImageDataCacheSize;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.swt.graphics.ImageData;
@@ -20,37 +25,173 @@ import org.eclipse.swt.graphics.ImageData;
 
 /**
  * Cache for small image data, mainly for decorator images.
+ * <p>
+ * The cache is bounded by the accumulated byte size of its entries. Lookups and stores do not
+ * lock. When the capacity is exceeded, entries are evicted with the CLOCK (second chance)
+ * algorithm, an approximation of LRU: entries are visited in insertion order, recently used
+ * entries are spared once and re-queued, the others are removed. Storing the data of an image
+ * again updates its entry in place, so that every entry is queued exactly once.
+ * </p>
  */
-final class ImageDataCache {
+public final class ImageDataCache {
 
   /** Maximum size of image data that is being cached */
   private static final int MAX_DATA_SIZE = 1024;
+  static final int DEFAULT_CAPACITY = 1024 * 1024;
+
+  private final ConcurrentHashMap<InternalImage, Entry> cache;
+  private final Queue<Entry> evictionQueue;
+  private final Object evictionLock;
+  private final long capacity;
+  private final AtomicLong size;
+  private final LongAdder hitCount;
+  private final LongAdder missCount;
+  private final LongAdder evictionCount;
+
+
+  private static class Entry {
+    private final InternalImage key;
+    private volatile ImageData imageData;
+    private volatile int weight;
+    private volatile boolean referenced;
+
+    Entry( InternalImage key, ImageData imageData ) {
+      this.key = key;
+      this.imageData = imageData;
+      weight = getWeight( imageData );
+    }
+  }
 
-  private final Map<InternalImage,ImageData> cache;
-  private final Object cacheLock;
 
   ImageDataCache() {
-    cacheLock = new Object();
-    cache = new HashMap<InternalImage,ImageData>( 25 );
+    this( getImageDataCacheSize( DEFAULT_CAPACITY ) );
+  }
+
+  ImageDataCache( long capacity ) {
+    this.capacity = capacity;
+    cache = new ConcurrentHashMap<>();
+    evictionQueue = new ConcurrentLinkedQueue<>();
+    evictionLock = new Object();
+    size = new AtomicLong();
+    hitCount = new LongAdder();
+    missCount = new LongAdder();
+    evictionCount = new LongAdder();
   }
 
   ImageData getImageData( InternalImage internalImage ) {
+    ImageData cached = getSharedImageData( internalImage );
+    return cached != null ? ( ImageData )cached.clone() : null;
+  }
+
+  /*
+   * Returns the cached instance itself, callers must not modify it.
+   */
+  ImageData getSharedImageData( InternalImage internalImage ) {
     ParamCheck.notNull( internalImage, "internalImage" );
-    ImageData cached;
-    synchronized( cacheLock ) {
-      cached = cache.get( internalImage );
+    Entry entry = cache.get( internalImage );
+    if( entry != null ) {
+      entry.referenced = true;
+      hitCount.increment();
+      return entry.imageData;
     }
-    return cached != null ? ( ImageData )cached.clone() : null;
+    missCount.increment();
+    return null;
   }
 
   void putImageData( InternalImage internalImage, ImageData imageData ) {
     ParamCheck.notNull( internalImage, "internalImage" );
     ParamCheck.notNull( imageData, "imageData" );
     if( imageData.data.length <= MAX_DATA_SIZE ) {
-      synchronized( cacheLock ) {
-        // TODO [rst] Implement replacement strategy (LRU or LFU)
-        cache.put( internalImage, ( ImageData )imageData.clone() );
+      Entry entry = new Entry( internalImage, ( ImageData )imageData.clone() );
+      boolean stored = false;
+      while( !stored ) {
+        Entry existing = cache.putIfAbsent( internalImage, entry );
+        if( existing == null ) {
+          size.addAndGet( entry.weight );
+          evictionQueue.add( entry );
+          stored = true;
+        } else {
+          // update in place, the existing entry is already queued for eviction
+          stored = update( existing, entry );
+        }
+      }
+      handleOverflow();
+    }
+  }
+
+  public long getCapacity() {
+    return capacity;
+  }
+
+  public long getSize() {
+    return size.get();
+  }
+
+  public int getEntryCount() {
+    return cache.size();
+  }
+
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  public long getEvictionCount() {
+    return evictionCount.sum();
+  }
+
+  int getEvictionQueueSize() {
+    return evictionQueue.size();
+  }
+
+  private boolean update( Entry existing, Entry entry ) {
+    synchronized( evictionLock ) {
+      // fails if the existing entry has been evicted in the meantime
+      boolean result = cache.get( existing.key ) == existing;
+      if( result ) {
+        size.addAndGet( entry.weight - existing.weight );
+        existing.imageData = entry.imageData;
+        existing.weight = entry.weight;
+        existing.referenced = true;
+      }
+      return result;
+    }
+  }
+
+  private void handleOverflow() {
+    if( size.get() > capacity ) {
+      synchronized( evictionLock ) {
+        evictEntries();
+      }
+    }
+  }
+
+  private void evictEntries() {
+    Entry entry = size.get() > capacity ? evictionQueue.poll() : null;
+    while( entry != null ) {
+      if( entry.referenced ) {
+        entry.referenced = false;
+        evictionQueue.add( entry );
+      } else if( cache.remove( entry.key, entry ) ) {
+        size.addAndGet( -entry.weight );
+        evictionCount.increment();
       }
+      entry = size.get() > capacity ? evictionQueue.poll() : null;
     }
   }
+
+  private static int getWeight( ImageData imageData ) {
+    int result = imageData.data.length;
+    if( imageData.alphaData != null ) {
+      result += imageData.alphaData.length;
+    }
+    if( imageData.maskData != null ) {
+      result += imageData.maskData.length;
+    }
+    return result;
+  }
+
 }
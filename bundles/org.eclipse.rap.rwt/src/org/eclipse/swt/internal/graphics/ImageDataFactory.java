@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,7 +21,7 @@ import org.eclipse.swt.graphics.ImageData;
 public class ImageDataFactory {
   private final ResourceManager resourceManager;
   private final ImageDataCache imageDataCache;
-  
+
   public ImageDataFactory( ResourceManager resourceManager ) {
     this.resourceManager = resourceManager;
     this.imageDataCache = new ImageDataCache();
@@ -34,10 +34,31 @@ public class ImageDataFactory {
     //             once when accessed concurrently.
     result = imageDataCache.getImageData( internalImage );
     if( result == null ) {
-      result = createImageData( internalImage );
-      if( result != null ) {
-        imageDataCache.putImageData( internalImage, result );
-      }
+      result = createAndCacheImageData( internalImage );
+    }
+    return result;
+  }
+
+  /**
+   * Like {@link #findImageData(InternalImage)}, but avoids the defensive copy of cached image
+   * data. The returned instance may be shared and must not be modified.
+   */
+  public ImageData findSharedImageData( InternalImage internalImage ) {
+    ImageData result = imageDataCache.getSharedImageData( internalImage );
+    if( result == null ) {
+      result = createAndCacheImageData( internalImage );
+    }
+    return result;
+  }
+
+  public ImageDataCache getImageDataCache() {
+    return imageDataCache;
+  }
+
+  private ImageData createAndCacheImageData( InternalImage internalImage ) {
+    ImageData result = createImageData( internalImage );
+    if( result != null ) {
+      imageDataCache.putImageData( internalImage, result );
     }
     return result;
   }
@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.graphics;
+
+import org.eclipse.swt.SWT;
+
+
+/**
+ * The format and size of an encoded image, read from the image header without decoding the pixel
+ * data. Supports PNG, GIF, JPEG and Windows BMP. For GIF images, the size of the first image
+ * block is used, as this is what <code>new ImageData( stream )</code> returns.
+ */
+final class ImageHeader {
+
+  private static final byte[] PNG_SIGNATURE = {
+    ( byte )0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'
+  };
+
+  final int type;
+  final int width;
+  final int height;
+
+  private ImageHeader( int type, int width, int height ) {
+    this.type = type;
+    this.width = width;
+    this.height = height;
+  }
+
+  /**
+   * Reads the header of the given encoded image.
+   *
+   * @return the header or <code>null</code> if the format is not supported or the header is
+   *         malformed
+   */
+  static ImageHeader read( byte[] bytes ) {
+    return read( bytes, bytes.length );
+  }
+
+  /**
+   * Reads the header of the encoded image in the first <code>length</code> bytes of the given
+   * array.
+   *
+   * @return the header or <code>null</code> if the format is not supported or the header is
+   *         malformed
+   */
+  static ImageHeader read( byte[] bytes, int length ) {
+    ImageHeader result = null;
+    try {
+      if( isPNG( bytes, length ) ) {
+        result = readPNG( bytes, length );
+      } else if( isGIF( bytes, length ) ) {
+        result = readGIF( bytes, length );
+      } else if( isJPEG( bytes, length ) ) {
+        result = readJPEG( bytes, length );
+      } else if( isBMP( bytes, length ) ) {
+        result = readBMP( bytes, length );
+      }
+    } catch( @SuppressWarnings( "unused" ) IndexOutOfBoundsException exception ) {
+      result = null;
+    }
+    if( result != null && ( result.width <= 0 || result.height <= 0 ) ) {
+      result = null;
+    }
+    return result;
+  }
+
+  private static boolean isPNG( byte[] bytes, int length ) {
+    if( length < PNG_SIGNATURE.length ) {
+      return false;
+    }
+    for( int i = 0; i < PNG_SIGNATURE.length; i++ ) {
+      if( bytes[ i ] != PNG_SIGNATURE[ i ] ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static ImageHeader readPNG( byte[] bytes, int length ) {
+    // signature, chunk length, chunk type "IHDR", width, height
+    checkLength( 24, length );
+    if( bytes[ 12 ] != 'I' || bytes[ 13 ] != 'H' || bytes[ 14 ] != 'D' || bytes[ 15 ] != 'R' ) {
+      return null;
+    }
+    return new ImageHeader( SWT.IMAGE_PNG, readIntBE( bytes, 16 ), readIntBE( bytes, 20 ) );
+  }
+
+  private static boolean isGIF( byte[] bytes, int length ) {
+    return    length >= 6
+           && bytes[ 0 ] == 'G' && bytes[ 1 ] == 'I' && bytes[ 2 ] == 'F'
+           && bytes[ 3 ] == '8' && ( bytes[ 4 ] == '7' || bytes[ 4 ] == '9' ) && bytes[ 5 ] == 'a';
+  }
+
+  private static ImageHeader readGIF( byte[] bytes, int length ) {
+    // logical screen descriptor: width, height, flags, background color, aspect ratio
+    checkLength( 13, length );
+    int offset = 13 + getColorTableSize( bytes[ 10 ] );
+    while( true ) {
+      checkLength( offset + 1, length );
+      int blockType = bytes[ offset ] & 0xFF;
+      if( blockType == 0x2C ) {
+        // image descriptor: separator, left, top, width, height
+        checkLength( offset + 9, length );
+        int width = readShortLE( bytes, offset + 5 );
+        int height = readShortLE( bytes, offset + 7 );
+        return new ImageHeader( SWT.IMAGE_GIF, width, height );
+      } else if( blockType == 0x21 ) {
+        // extension: introducer, label, data sub-blocks
+        offset = skipSubBlocks( bytes, length, offset + 2 );
+      } else {
+        return null;
+      }
+    }
+  }
+
+  private static int getColorTableSize( byte flags ) {
+    return ( flags & 0x80 ) != 0 ? 3 * ( 1 << ( ( flags & 0x07 ) + 1 ) ) : 0;
+  }
+
+  private static int skipSubBlocks( byte[] bytes, int length, int offset ) {
+    int result = offset;
+    int blockSize;
+    do {
+      checkLength( result + 1, length );
+      blockSize = bytes[ result ] & 0xFF;
+      result += blockSize + 1;
+    } while( blockSize > 0 );
+    return result;
+  }
+
+  private static boolean isJPEG( byte[] bytes, int length ) {
+    return length >= 2 && ( bytes[ 0 ] & 0xFF ) == 0xFF && ( bytes[ 1 ] & 0xFF ) == 0xD8;
+  }
+
+  private static ImageHeader readJPEG( byte[] bytes, int length ) {
+    int offset = 2;
+    while( true ) {
+      checkLength( offset + 2, length );
+      if( ( bytes[ offset ] & 0xFF ) != 0xFF ) {
+        return null;
+      }
+      int marker = bytes[ offset + 1 ] & 0xFF;
+      if( marker == 0xFF ) {
+        // fill byte
+        offset++;
+      } else if( marker == 0x01 || marker >= 0xD0 && marker <= 0xD7 ) {
+        // markers without segment
+        offset += 2;
+      } else if( marker == 0xD9 || marker == 0xDA ) {
+        // end of image or start of scan before any frame header
+        return null;
+      } else if( isStartOfFrame( marker ) ) {
+        // segment length, sample precision, height, width
+        checkLength( offset + 9, length );
+        int height = readShortBE( bytes, offset + 5 );
+        int width = readShortBE( bytes, offset + 7 );
+        return new ImageHeader( SWT.IMAGE_JPEG, width, height );
+      } else {
+        checkLength( offset + 4, length );
+        offset += 2 + readShortBE( bytes, offset + 2 );
+      }
+    }
+  }
+
+  private static boolean isStartOfFrame( int marker ) {
+    return    marker >= 0xC0 && marker <= 0xCF
+           && marker != 0xC4 // huffman table
+           && marker != 0xC8 // reserved for extensions
+           && marker != 0xCC; // arithmetic coding conditioning
+  }
+
+  private static boolean isBMP( byte[] bytes, int length ) {
+    return length >= 2 && bytes[ 0 ] == 'B' && bytes[ 1 ] == 'M';
+  }
+
+  private static ImageHeader readBMP( byte[] bytes, int length ) {
+    // file header (14 bytes), info header size, width, height
+    checkLength( 26, length );
+    int infoHeaderSize = readIntLE( bytes, 14 );
+    if( infoHeaderSize < 40 ) {
+      // OS/2 bitmaps are rare, leave them to the decoder
+      return null;
+    }
+    int width = readIntLE( bytes, 18 );
+    // a negative height denotes a top-down bitmap
+    int height = Math.abs( readIntLE( bytes, 22 ) );
+    return new ImageHeader( SWT.IMAGE_BMP, width, height );
+  }
+
+  private static void checkLength( int required, int length ) {
+    if( length < required ) {
+      throw new IndexOutOfBoundsException();
+    }
+  }
+
+  private static int readIntBE( byte[] bytes, int offset ) {
+    return   ( bytes[ offset ] & 0xFF ) << 24
+           | ( bytes[ offset + 1 ] & 0xFF ) << 16
+           | ( bytes[ offset + 2 ] & 0xFF ) << 8
+           | bytes[ offset + 3 ] & 0xFF;
+  }
+
+  private static int readIntLE( byte[] bytes, int offset ) {
+    return   ( bytes[ offset + 3 ] & 0xFF ) << 24
+           | ( bytes[ offset + 2 ] & 0xFF ) << 16
+           | ( bytes[ offset + 1 ] & 0xFF ) << 8
+           | bytes[ offset ] & 0xFF;
+  }
+
+  private static int readShortBE( byte[] bytes, int offset ) {
+    return ( bytes[ offset ] & 0xFF ) << 8 | bytes[ offset + 1 ] & 0xFF;
+  }
+
+  private static int readShortLE( byte[] bytes, int offset ) {
+    return ( bytes[ offset + 1 ] & 0xFF ) << 8 | bytes[ offset ] & 0xFF;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2015 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,15 +11,18 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.graphics;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.Arrays;
 import java.util.zip.CRC32;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.resources.ResourceCache;
+import org.eclipse.rap.rwt.internal.util.StreamUtil;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
 import org.eclipse.swt.SWT;
@@ -46,12 +49,10 @@ public class InternalImageFactory {
   }
 
   public InternalImage findInternalImage( InputStream stream ) {
-    final BufferedInputStream bufferedStream = new BufferedInputStream( stream );
-    final ImageData imageData = readImageData( bufferedStream );
-    final String path = createGeneratedImagePath( imageData );
-    return cache.get( path, new InstanceCreator<String, InternalImage>() {
+    final EncodedImage image = readEncodedImage( stream );
+    return cache.get( image.path, new InstanceCreator<String, InternalImage>() {
       public InternalImage createInstance( String path ) {
-        return createInternalImage( path, bufferedStream, imageData );
+        return createInternalImage( image );
       }
     } );
   }
@@ -69,33 +70,55 @@ public class InternalImageFactory {
   InternalImage findInternalImage( String key, final InputStream inputStream ) {
     return cache.get( key, new InstanceCreator<String, InternalImage>() {
       public InternalImage createInstance( String key ) {
-        BufferedInputStream bufferedStream = new BufferedInputStream( inputStream );
-        ImageData imageData = readImageData( bufferedStream );
-        String path = createGeneratedImagePath( imageData );
-        return createInternalImage( path, bufferedStream, imageData );
+        return createInternalImage( readEncodedImage( inputStream ) );
       }
     } );
   }
 
-  static ImageData readImageData( InputStream stream ) throws SWTException {
-    ////////////////////////////////////////////////////////////////////////////
-    // TODO: [fappel] Image size calculation and resource registration both
-    //                read the input stream. Because of this I use a workaround
-    //                with a BufferedInputStream. Resetting it after reading the
-    //                image size enables the ResourceManager to reuse it for
-    //                registration. Note that the order is crucial here, since
-    //                the ResourceManager seems to close the stream (shrug).
-    //                It would be nice to find a solution without reading the
-    //                stream twice.
-    stream.mark( Integer.MAX_VALUE );
-    ImageData result = new ImageData( stream );
+  /*
+   * Reads the encoded image into memory and computes the hash of the raw bytes while reading.
+   * The bytes are kept in the read buffer, no further copy is made. The size of the image is
+   * taken from the image header, the pixel data is decoded lazily in
+   * InternalImage#getImageData(). Only formats that ImageHeader does not understand are decoded
+   * here to determine their size and type. The given stream is closed.
+   */
+  static EncodedImage readEncodedImage( InputStream stream ) throws SWTException {
+    MessageDigest digest = ResourceCache.createDigest();
+    byte[] bytes;
+    int length = 0;
     try {
-      stream.reset();
-    } catch( IOException shouldNotHappen ) {
-      String msg = "Could not reset input stream after reading image";
-      throw new RuntimeException( msg, shouldNotHappen );
+      // one more than available, so that a stream that reports its size is read without growing
+      bytes = new byte[ Math.max( 8192, stream.available() + 1 ) ];
+      int read = stream.read( bytes, length, bytes.length - length );
+      while( read != -1 ) {
+        digest.update( bytes, length, read );
+        length += read;
+        if( length == bytes.length ) {
+          bytes = Arrays.copyOf( bytes, bytes.length * 2 );
+        }
+        read = stream.read( bytes, length, bytes.length - length );
+      }
+    } catch( IOException ioe ) {
+      throw new SWTException( SWT.ERROR_IO, ioe.getMessage() );
+    } finally {
+      StreamUtil.close( stream );
     }
-    return result;
+    ImageHeader header = ImageHeader.read( bytes, length );
+    int type;
+    int width;
+    int height;
+    if( header != null ) {
+      type = header.type;
+      width = header.width;
+      height = header.height;
+    } else {
+      ImageData imageData = new ImageData( new ByteArrayInputStream( bytes, 0, length ) );
+      type = imageData.type;
+      width = imageData.width;
+      height = imageData.height;
+    }
+    String path = createGeneratedImagePath( ResourceCache.toKey( digest ), type );
+    return new EncodedImage( path, bytes, length, width, height );
   }
 
   static InputStream createInputStream( ImageData imageData ) {
@@ -123,10 +146,13 @@ public class InternalImageFactory {
   }
 
   private static InternalImage createInternalImage( InputStream stream ) {
-    InputStream bufferedStream = new BufferedInputStream( stream );
-    ImageData imageData = readImageData( bufferedStream );
-    String path = createGeneratedImagePath( imageData );
-    return createInternalImage( path, bufferedStream, imageData );
+    return createInternalImage( readEncodedImage( stream ) );
+  }
+
+  private static InternalImage createInternalImage( EncodedImage image ) {
+    InputStream stream = new ByteArrayInputStream( image.bytes, 0, image.length );
+    RWT.getResourceManager().register( image.path, stream );
+    return new InternalImage( image.path, image.width, image.height, false );
   }
 
   private static InternalImage createInternalImage( String path,
@@ -138,15 +164,23 @@ public class InternalImageFactory {
   }
 
   private static int getOutputFormat( ImageData imageData ) {
-    int result = imageData.type;
-    if( imageData.type == SWT.IMAGE_UNDEFINED ) {
+    return getOutputFormat( imageData.type );
+  }
+
+  private static int getOutputFormat( int type ) {
+    int result = type;
+    if( type == SWT.IMAGE_UNDEFINED ) {
       result = SWT.IMAGE_PNG;
     }
     return result;
   }
 
   private static String createGeneratedImagePath( ImageData data ) {
-    int outputFormat = getOutputFormat( data );
+    return createGeneratedImagePath( getHash( data ), data.type );
+  }
+
+  private static String createGeneratedImagePath( String hash, int type ) {
+    int outputFormat = getOutputFormat( type );
     String extension;
     switch( outputFormat ) {
       case SWT.IMAGE_BMP:
@@ -170,8 +204,7 @@ public class InternalImageFactory {
         extension = ".png";
         break;
     }
-    String hash = getHash( data ) + extension;
-    return "generated/" + hash;
+    return "generated/" + hash + extension;
   }
 
   /*
@@ -228,4 +261,23 @@ public class InternalImageFactory {
     crc32.update( imageData.disposalMethod );
     return Long.toHexString( crc32.getValue() );
   }
+
+  static final class EncodedImage {
+
+    final String path;
+    final byte[] bytes;
+    final int length;
+    final int width;
+    final int height;
+
+    EncodedImage( String path, byte[] bytes, int length, int width, int height ) {
+      this.path = path;
+      this.bytes = bytes;
+      this.length = length;
+      this.width = width;
+      this.height = height;
+    }
+
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2013 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,11 +11,13 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Widget;
 
 
 public interface IDisplayAdapter {
@@ -27,12 +29,15 @@ public interface IDisplayAdapter {
   void invalidateFocus();
   boolean isFocusInvalidated();
   Shell[] getShells();
+  Widget findWidget( String id );
   UISession getUISession();
 
   void attachThread();
   void detachThread();
   boolean isValidThread();
 
+  DirtyWidgets getDirtyWidgets();
+
   boolean isBeepCalled();
   void resetBeep();
 
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import java.util.Arrays;
+
+
+/*
+ * Array based store for preserved values. A widget preserves the same properties in the same
+ * order in every request, hence the slot of a property is assigned once and kept when the values
+ * are cleared. The next preserve call is expected to use the slot that follows the previous one,
+ * which makes preserving a value a single comparison in most cases. As property names are usually
+ * constants, slots are looked up by identity first. Clearing the store does not allocate.
+ */
+final class PreservedValues {
+
+  private static final int INITIAL_CAPACITY = 8;
+  private static final String[] NO_KEYS = new String[ 0 ];
+  private static final Object[] NO_VALUES = new Object[ 0 ];
+
+  private String[] keys = NO_KEYS;
+  private Object[] values = NO_VALUES;
+  private int size;
+  private int next;
+
+  void put( String key, Object value ) {
+    int slot = findSlot( key, next );
+    if( slot == -1 ) {
+      slot = addSlot( key );
+    }
+    values[ slot ] = value;
+    next = slot + 1;
+  }
+
+  Object get( String key ) {
+    int slot = findSlot( key, 0 );
+    return slot == -1 ? null : values[ slot ];
+  }
+
+  void clear() {
+    Arrays.fill( values, 0, size, null );
+    next = 0;
+  }
+
+  int getSlotCount() {
+    return size;
+  }
+
+  Object getValue( int slot ) {
+    return values[ slot ];
+  }
+
+  private int findSlot( String key, int hint ) {
+    if( hint < size && keys[ hint ] == key ) {
+      return hint;
+    }
+    for( int i = 0; i < size; i++ ) {
+      if( keys[ i ] == key ) {
+        return i;
+      }
+    }
+    for( int i = 0; i < size; i++ ) {
+      if( keys[ i ].equals( key ) ) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private int addSlot( String key ) {
+    if( size == keys.length ) {
+      int capacity = size == 0 ? INITIAL_CAPACITY : size * 2;
+      keys = Arrays.copyOf( keys, capacity );
+      values = Arrays.copyOf( values, capacity );
+    }
+    keys[ size ] = key;
+    return size++;
+  }
+
+}
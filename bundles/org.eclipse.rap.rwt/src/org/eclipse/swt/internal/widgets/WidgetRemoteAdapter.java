@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,9 +11,6 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.eclipse.rap.rwt.internal.lifecycle.DisposedWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory;
@@ -33,11 +30,12 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
   private Widget parent;
   private boolean initialized;
   private transient int preserved;
-  private transient Map<String, Object> preservedValues;
+  private transient PreservedValues preservedValues;
   private transient long preservedListeners;
   private transient Runnable[] renderRunnables;
   private transient Object[] data;
   private transient String variant;
+  private transient boolean dirty;
 
   public WidgetRemoteAdapter( String id ) {
     this.id = id;
@@ -45,7 +43,7 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
   }
 
   void initialize() {
-    preservedValues = new HashMap<>();
+    preservedValues = new PreservedValues();
   }
 
   @Override
@@ -81,6 +79,14 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
     return preservedValues.get( propertyName );
   }
 
+  public int getPreservedSlotCount() {
+    return preservedValues.getSlotCount();
+  }
+
+  public Object getPreservedValue( int slot ) {
+    return preservedValues.getValue( slot );
+  }
+
   public void preserveListeners( long eventList ) {
     markPreserved( LISTENERS );
     preservedListeners = eventList;
@@ -120,7 +126,16 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
     return variant;
   }
 
+  public boolean isDirty() {
+    return dirty;
+  }
+
+  public void markDirty() {
+    dirty = true;
+  }
+
   public void clearPreserved() {
+    dirty = false;
     preserved = 0;
     preservedValues.clear();
     preservedListeners = 0;
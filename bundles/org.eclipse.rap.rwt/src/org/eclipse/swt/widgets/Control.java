@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -2758,6 +2758,7 @@ public abstract class Control extends Widget implements Drawable {
   }
 
   private ControlRemoteAdapter getRemoteAdapter() {
+    markDirty();
     return ( ControlRemoteAdapter )getAdapter( RemoteAdapter.class );
   }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -26,13 +26,17 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.Adaptable;
 import org.eclipse.rap.rwt.application.ExceptionHandler;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.CurrentPhase;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.IUIThreadHolder;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycle;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleUtil;
@@ -221,6 +225,7 @@ public class Display extends Device implements Adaptable {
   }
 
   private final List<Shell> shells;
+  private final Map<String, Widget> widgets;
   private transient Thread thread;
   private final UISession uiSession;
   private final Rectangle bounds;
@@ -241,6 +246,7 @@ public class Display extends Device implements Adaptable {
   private Widget[] skinList;
   private int skinCount;
   private boolean beep;
+  final DirtyWidgets dirtyWidgets;
 
   /* Display Data */
   private Object data;
@@ -277,12 +283,14 @@ public class Display extends Device implements Adaptable {
     attachThread();
     uiSession = ContextProvider.getUISession();
     shells = new ArrayList<>();
+    widgets = new ConcurrentHashMap<>();
     monitor = new Monitor( this );
     cursorLocation = new Point( 0, 0 );
     bounds = readInitialBounds();
     dpi = readDPI();
     depth = readDepth();
     synchronizer = new Synchronizer( this );
+    dirtyWidgets = RWTProperties.useDirtyTracking() ? new DirtyWidgets() : null;
     register();
   }
 
@@ -744,6 +752,7 @@ public class Display extends Device implements Adaptable {
     }
     filterTable = null;
     eventTable = null;
+    widgets.clear();
   }
 
   @Override
@@ -751,6 +760,17 @@ public class Display extends Device implements Adaptable {
     deregister();
   }
 
+  /////////////////
+  // Widget index
+
+  void addWidget( String id, Widget widget ) {
+    widgets.put( id, widget );
+  }
+
+  void removeWidget( String id, Widget widget ) {
+    widgets.remove( id, widget );
+  }
+
   private void sendDisposeEvent() {
     sendEvent( SWT.Dispose, new Event() );
   }
@@ -876,6 +896,9 @@ public class Display extends Device implements Adaptable {
 
   final void addShell( Shell shell ) {
     shells.add( shell );
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.markCreated( shell );
+    }
   }
 
   final void removeShell( Shell shell ) {
@@ -1209,15 +1232,14 @@ public class Display extends Device implements Adaptable {
 
   private static boolean executeNextEvent() {
     boolean result = false;
-    Event[] events = EventList.getInstance().getAll();
-    while( !result && events.length > 0 ) {
-      Event event = events[ 0 ];
-      EventList.getInstance().remove( event );
+    EventList eventList = EventList.getInstance();
+    Event event = eventList.removeFirst();
+    while( !result && event != null ) {
       if( EventUtil.allowProcessing( event ) ) {
         event.widget.notifyListeners( event.type, event );
         result = true;
       } else {
-        events = EventList.getInstance().getAll();
+        event = eventList.removeFirst();
       }
     }
     return result;
@@ -2437,6 +2459,12 @@ public class Display extends Device implements Adaptable {
       return result;
     }
 
+    @Override
+    public Widget findWidget( String id ) {
+      Widget result = widgets.get( id );
+      return result == null || result.isDisposed() ? null : result;
+    }
+
     @Override
     public UISession getUISession() {
       return uiSession;
@@ -2457,6 +2485,11 @@ public class Display extends Device implements Adaptable {
       return Display.this.isValidThread();
     }
 
+    @Override
+    public DirtyWidgets getDirtyWidgets() {
+      return dirtyWidgets;
+    }
+
     @Override
     public boolean isBeepCalled() {
       return beep;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
 package org.eclipse.swt.widgets;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
 import org.eclipse.swt.SWT;
@@ -45,11 +46,17 @@ public class Synchronizer implements SerializableCompatibility {
 
   Display display;
   int messageCount;
+// RAP messages is a ring buffer starting at messageStart
+  int messageStart;
   RunnableLock [] messages;
 // RAP [rh] mesageLock must be serializable	(bug 345842)
 //	Object messageLock = new Object ();
   Object messageLock = new SerializableLock();
   Thread syncThread;
+// RAP run asyncExec runnables in batches and notify the server push mechanism once per batch
+  final int batchSize;
+  boolean hasRunnablesReported;
+// END RAP
   static final int GROW_SIZE = 4;
   static final int MESSAGE_LIMIT = 64;
 
@@ -64,7 +71,12 @@ public class Synchronizer implements SerializableCompatibility {
  * @param display the display to create the synchronizer on
  */
 public Synchronizer (Display display) {
+  this (display, RWTProperties.getAsyncExecBatchSize (1));
+}
+
+Synchronizer (Display display, int batchSize) {
   this.display = display;
+  this.batchSize = Math.max (1, batchSize);
 }
 
 void addLast (RunnableLock lock) {
@@ -74,19 +86,18 @@ void addLast (RunnableLock lock) {
       messages = new RunnableLock [GROW_SIZE];
     }
     if (messageCount == messages.length) {
-      RunnableLock[] newMessages = new RunnableLock [messageCount + GROW_SIZE];
-      System.arraycopy (messages, 0, newMessages, 0, messageCount);
+      RunnableLock[] newMessages = new RunnableLock [Math.max (GROW_SIZE, messageCount * 2)];
+      int headCount = messages.length - messageStart;
+      System.arraycopy (messages, messageStart, newMessages, 0, headCount);
+      System.arraycopy (messages, 0, newMessages, headCount, messageStart);
       messages = newMessages;
+      messageStart = 0;
     }
-    messages [messageCount++] = lock;
+    messages [(messageStart + messageCount) % messages.length] = lock;
+    messageCount++;
 // RAP [rst] Notify server push mechanism when runnable was added to empty queue
     if( messageCount == 1 ) {
-      RWT.getUISession( display ).exec( new Runnable() {
-        @Override
-        public void run() {
-          ServerPushManager.getInstance().setHasRunnables( true );
-        }
-      } );
+      reportHasRunnables( true );
     }
     runnableAdded( lock.runnable );
 // END RAP
@@ -149,61 +160,91 @@ void releaseSynchronizer () {
 }
 
 RunnableLock removeFirst () {
+  return removeFirst (true);
+}
+
+RunnableLock removeFirst (boolean reportEmpty) {
   synchronized (messageLock) {
     if (messageCount == 0) {
       return null;
     }
-    RunnableLock lock = messages [0];
-    System.arraycopy (messages, 1, messages, 0, --messageCount);
-    messages [messageCount] = null;
+    RunnableLock lock = messages [messageStart];
+    messages [messageStart] = null;
+    messageStart = (messageStart + 1) % messages.length;
+    messageCount--;
     if (messageCount == 0) {
+      messageStart = 0;
       if (messages.length > MESSAGE_LIMIT) {
         messages = null;
       }
     }
 // RAP [rst] Notify server push mechanism when last runnable has been removed
-    if( messageCount == 0 ) {
-      RWT.getUISession( display ).exec( new Runnable() {
-        @Override
-        public void run() {
-          ServerPushManager.getInstance().setHasRunnables( false );
-        }
-      } );
+    if( messageCount == 0 && reportEmpty ) {
+      reportHasRunnables( false );
     }
 // END RAP
     return lock;
   }
 }
 
+// RAP notify server push mechanism only when the reported state changes
+private void reportHasRunnables( final boolean hasRunnables ) {
+  if( hasRunnablesReported != hasRunnables ) {
+    hasRunnablesReported = hasRunnables;
+    RWT.getUISession( display ).exec( new Runnable() {
+      @Override
+      public void run() {
+        ServerPushManager.getInstance().setHasRunnables( hasRunnables );
+      }
+    } );
+  }
+}
+// END RAP
+
 boolean runAsyncMessages () {
   return runAsyncMessages (false);
 }
 
 boolean runAsyncMessages (boolean all) {
   boolean run = false;
-  do {
-    RunnableLock lock = removeFirst ();
-    if (lock == null) {
-      return run;
-    }
-    run = true;
-    synchronized (lock) {
-      syncThread = lock.thread;
-      try {
-        lock.run ();
-      }	catch( ThreadDeath t ) {
-        lock.throwable = t;
-        // Don't trap ThreadDeath, see bug 284202
-        throw t;
-      } catch (Throwable t) {
-        lock.throwable = t;
-        SWT.error (SWT.ERROR_FAILED_EXEC, t);
-      } finally {
-        syncThread = null;
-        lock.notifyAll ();
+// RAP run up to batchSize runnables and report an empty queue once at the end of the batch
+  boolean coalesce = batchSize > 1;
+  int count = 0;
+  try {
+    do {
+      RunnableLock lock = removeFirst (!coalesce);
+      if (lock == null) {
+        return run;
+      }
+      run = true;
+      count++;
+      synchronized (lock) {
+        syncThread = lock.thread;
+        try {
+          lock.run ();
+        }	catch( ThreadDeath t ) {
+          lock.throwable = t;
+          // Don't trap ThreadDeath, see bug 284202
+          throw t;
+        } catch (Throwable t) {
+          lock.throwable = t;
+          SWT.error (SWT.ERROR_FAILED_EXEC, t);
+        } finally {
+          syncThread = null;
+          lock.notifyAll ();
+        }
+      }
+    } while (all || count < batchSize);
+  } finally {
+    if (coalesce && run) {
+      synchronized (messageLock) {
+        if (messageCount == 0) {
+          reportHasRunnables( false );
+        }
       }
     }
-  } while (all);
+  }
+// END RAP
   return run;
 }
 
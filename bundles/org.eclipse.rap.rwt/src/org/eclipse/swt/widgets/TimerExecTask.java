@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2012 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,15 +10,25 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledFuture;
 
+import org.eclipse.rap.rwt.internal.util.SharedTimer;
 import org.eclipse.swt.internal.SerializableCompatibility;
 
 
-class TimerExecTask extends TimerTask implements SerializableCompatibility {
+/*
+ * A runnable of Display#timerExec(). Every schedule, reschedule and cancel starts a new
+ * generation under the device lock. An execution of the timer only runs if its generation is
+ * still the current one, so that an execution that was already started when the task was
+ * re-scheduled or canceled cannot remove the new schedule.
+ */
+class TimerExecTask implements SerializableCompatibility {
 
   private final TimerExecScheduler scheduler;
   private final Runnable runnable;
+  private long executionTime;
+  private transient ScheduledFuture<?> future;
+  private transient int generation;
 
   TimerExecTask( TimerExecScheduler scheduler, Runnable runnable ) {
     this.scheduler = scheduler;
@@ -26,9 +36,42 @@ class TimerExecTask extends TimerTask implements SerializableCompatibility {
     scheduler.serverPushManager.activateServerPushFor( this );
   }
 
-  @Override
-  public void run() {
+  void schedule( SharedTimer timer, long delay ) {
     synchronized( scheduler.display.getDeviceLock() ) {
+      cancelFuture();
+      executionTime = System.currentTimeMillis() + delay;
+      future = timer.schedule( new Execution( generation ), delay );
+    }
+  }
+
+  void reschedule( SharedTimer timer ) {
+    synchronized( scheduler.display.getDeviceLock() ) {
+      cancelFuture();
+      long delay = Math.max( 0, executionTime - System.currentTimeMillis() );
+      future = timer.schedule( new Execution( generation ), delay );
+    }
+  }
+
+  boolean cancel() {
+    boolean result;
+    synchronized( scheduler.display.getDeviceLock() ) {
+      result = cancelFuture();
+    }
+    scheduler.serverPushManager.deactivateServerPushFor( this );
+    return result;
+  }
+
+  Runnable getRunnable() {
+    return runnable;
+  }
+
+  private void execute( int scheduledGeneration ) {
+    synchronized( scheduler.display.getDeviceLock() ) {
+      if( scheduledGeneration != generation ) {
+        return;
+      }
+      generation++;
+      future = null;
       scheduler.removeTask( this );
       if( !scheduler.display.isDisposed() ) {
         scheduler.display.asyncExec( runnable );
@@ -37,14 +80,29 @@ class TimerExecTask extends TimerTask implements SerializableCompatibility {
     scheduler.serverPushManager.deactivateServerPushFor( this );
   }
 
-  @Override
-  public boolean cancel() {
-    scheduler.serverPushManager.deactivateServerPushFor( this );
-    return super.cancel();
+  private boolean cancelFuture() {
+    boolean result = false;
+    generation++;
+    if( future != null ) {
+      result = future.cancel( false );
+      future = null;
+    }
+    return result;
   }
 
-  Runnable getRunnable() {
-    return runnable;
+  private class Execution implements Runnable {
+
+    private final int scheduledGeneration;
+
+    Execution( int scheduledGeneration ) {
+      this.scheduledGeneration = scheduledGeneration;
+    }
+
+    @Override
+    public void run() {
+      execute( scheduledGeneration );
+    }
+
   }
 
 }
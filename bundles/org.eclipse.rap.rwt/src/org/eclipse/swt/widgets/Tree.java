@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -143,8 +143,8 @@ public class Tree extends Composite {
   private boolean hasHScrollBar;
   private Point itemImageSize;
   LayoutCache layoutCache;
-  boolean isFlatIndexValid;
-  private int visibleItemsCount;
+  private VisibleRows visibleRows;
+  private boolean isTopItemIndexValid;
   private int preloadedItems;
 
   /**
@@ -183,6 +183,7 @@ public class Tree extends Composite {
     super( parent, checkStyle( style ) );
     columnHolder = new ItemHolder<>( TreeColumn.class );
     treeAdapter = new InternalTreeAdapter();
+    visibleRows = new VisibleRows();
     setTreeEmpty();
     sortDirection = SWT.NONE;
     selection = EMPTY_SELECTION;
@@ -289,7 +290,8 @@ public class Tree extends Composite {
         }
       }
       itemCount = newItemCount;
-      invalidateFlatIndex();
+      visibleRows.reset( items, itemCount );
+      invalidateTopItemIndex();
       updateScrollBars();
       redraw();
     }
@@ -435,6 +437,7 @@ public class Tree extends Composite {
       }
     }
     setTreeEmpty();
+    visibleRows.reset( items, itemCount );
     selection = EMPTY_SELECTION;
   }
 
@@ -538,8 +541,7 @@ public class Tree extends Composite {
     checkWidget();
     TreeItem result = null;
     if( itemCount > 0 ) {
-      List<TreeItem> visibleItems = collectVisibleItems( null );
-      result = visibleItems.get( getTopItemIndex() );
+      result = getVisibleItem( getTopItemIndex() );
     }
     return result;
   }
@@ -548,12 +550,12 @@ public class Tree extends Composite {
     if( index != topItemIndex ) {
       topItemIndex = index;
       adjustTopItemIndex();
-      updateAllItems();
+      resolveVisibleItems();
     }
   }
 
   int getTopItemIndex() {
-    if( !isVisibleItemsCountValid() ) {
+    if( !isTopItemIndexValid ) {
       adjustTopItemIndex();
     }
     return topItemIndex;
@@ -1012,9 +1014,8 @@ public class Tree extends Composite {
     }
     TreeItem result = null;
     int index = ( point.y - getHeaderHeight() ) / getItemHeight() + getTopItemIndex();
-    List<TreeItem> visibleItems = collectVisibleItems( null );
-    if( 0 <= index && index < visibleItems.size() ) {
-      result = visibleItems.get( index );
+    if( 0 <= index && index < getVisibleItemsCount() ) {
+      result = getVisibleItem( index );
     }
     return result;
   }
@@ -2166,7 +2167,7 @@ public class Tree extends Composite {
   void notifyResize( Point oldSize ) {
     if( !oldSize.equals( getSize() ) && !TextSizeUtil.isTemporaryResize() ) {
       clearCachedHeights();
-      updateAllItems();
+      resolveVisibleItems();
       updateScrollBars();
       adjustTopItemIndex();
     }
@@ -2185,6 +2186,7 @@ public class Tree extends Composite {
     if( topItemIndex > visibleItems - visibleRows - correction ) {
       topItemIndex = Math.max( 0, visibleItems - visibleRows - correction );
     }
+    isTopItemIndexValid = true;
   }
 
   final int getVisibleRowCount( boolean includePartlyVisible ) {
@@ -2201,66 +2203,61 @@ public class Tree extends Composite {
   }
 
   private int getVisibleItemsCount() {
-    if( !isVisibleItemsCountValid() ) {
-      visibleItemsCount = collectVisibleItems( null ).size();
-    }
-    return visibleItemsCount;
-  }
-
-  private boolean isVisibleItemsCountValid() {
-    return visibleItemsCount != -1;
+    return visibleRows.getTotal();
   }
 
-  private List<TreeItem> collectVisibleItems( TreeItem parentItem ) {
-    List<TreeItem> result = new ArrayList<>();
-    TreeItem[] items = parentItem == null ? this.items : parentItem.items;
-    int itemCount = parentItem == null ? this.itemCount : parentItem.itemCount;
-    for( int i = 0; i < itemCount; i++ ) {
-      TreeItem item = items[ i ];
-      result.add( item );
-      if( item != null && item.getExpanded() ) {
-        result.addAll( collectVisibleItems( item ) );
-      }
-    }
-    return result;
+  void childRowsChanged( int index, int delta ) {
+    visibleRows.update( index, delta );
   }
 
-  void updateAllItems() {
-    int flatIndex = 0;
-    for( int index = 0; index < itemCount; index++ ) {
-      flatIndex = updateAllItemsRecursively( null, index, flatIndex );
-    }
-    isFlatIndexValid = true;
-    visibleItemsCount = flatIndex;
+  int getRowsBefore( int index ) {
+    return visibleRows.getRowsBefore( items, itemCount, index );
   }
 
-  private int updateAllItemsRecursively( TreeItem parent, int index, int flatIndex ) {
-    int newFlatIndex = flatIndex;
-    TreeItem item = parent == null ? items[ index ] : parent.items[ index ];
-    if( shouldResolveItem( flatIndex ) ) {
-      if( item == null ) {
-        item = parent == null ? _getItem( index ) : parent._getItem( index );
+  /*
+   * Returns the item at the given flat index, which must be less than the number of visible items.
+   * Descends from the tree to the item, each step takes logarithmic time in the number of siblings.
+   */
+  TreeItem getVisibleItem( int flatIndex ) {
+    TreeItem result = null;
+    TreeItem parentItem = null;
+    int row = flatIndex;
+    while( result == null ) {
+      TreeItem item;
+      if( parentItem == null ) {
+        int index = visibleRows.findIndex( items, itemCount, row );
+        row -= visibleRows.getRowsBefore( items, itemCount, index );
+        item = _getItem( index );
+      } else {
+        VisibleRows rows = parentItem.visibleRows;
+        int index = rows.findIndex( parentItem.items, parentItem.itemCount, row );
+        row -= rows.getRowsBefore( parentItem.items, parentItem.itemCount, index );
+        item = parentItem._getItem( index );
       }
-      checkData( item, index );
-    }
-    if( item != null ) {
-      item.setFlatIndex( newFlatIndex );
-    }
-    newFlatIndex++;
-    if( item != null && item.getExpanded() ) {
-      for( int i = 0; i < item.itemCount; i++ ) {
-        newFlatIndex = updateAllItemsRecursively( item, i, newFlatIndex );
+      if( row == 0 ) {
+        result = item;
+      } else {
+        row--;
+        parentItem = item;
       }
     }
-    return newFlatIndex;
+    return result;
   }
 
-  private boolean shouldResolveItem( int flatIndex ) {
-    int visibleRows = getVisibleRowCount( true );
-    int topIndex = getTopItemIndex();
-    int startIndex = topIndex - preloadedItems;
-    int endIndex = topIndex + visibleRows + preloadedItems;
-    return isVirtual() ? flatIndex >= startIndex && flatIndex < endIndex : false;
+  void resolveVisibleItems() {
+    if( isVirtual() ) {
+      int topIndex = getTopItemIndex();
+      int startIndex = Math.max( 0, topIndex - preloadedItems );
+      int endIndex = topIndex + getVisibleRowCount( true ) + preloadedItems;
+      // the item count may change while resolving items
+      for( int index = startIndex; index < Math.min( endIndex, getVisibleItemsCount() ); index++ ) {
+        TreeItem item = getVisibleItem( index );
+        checkData( item, item.index );
+        if( isDisposed() ) {
+          break;
+        }
+      }
+    }
   }
 
   final boolean checkData( TreeItem item, int index ) {
@@ -2279,9 +2276,8 @@ public class Tree extends Composite {
     return result;
   }
 
-  void invalidateFlatIndex() {
-    visibleItemsCount = -1;
-    isFlatIndexValid = false;
+  void invalidateTopItemIndex() {
+    isTopItemIndexValid = false;
   }
 
   private static int checkStyle( int style ) {
@@ -2411,9 +2407,11 @@ public class Tree extends Composite {
     items[ index ] = item;
     itemCount++;
     adjustItemIndices( index );
+    visibleRows.add( index, VisibleRows.getRows( item ), itemCount );
   }
 
   void destroyItem( int index ) {
+    int rows = VisibleRows.getRows( items[ index ] );
     itemCount--;
     if( itemCount == 0 ) {
       setTreeEmpty();
@@ -2422,6 +2420,7 @@ public class Tree extends Composite {
       items[ itemCount ] = null;
     }
     adjustItemIndices( index );
+    visibleRows.remove( index, rows, itemCount );
   }
 
   private void adjustItemIndices( int start ) {
@@ -2504,7 +2503,7 @@ public class Tree extends Composite {
 
     @Override
     public void checkData() {
-      updateAllItems();
+      resolveVisibleItems();
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -67,7 +67,7 @@ public class TreeItem extends Item {
   private boolean grayed;
   int depth;
   private boolean cached;
-  private int flatIndex;
+  VisibleRows visibleRows;
 
   /**
    * Constructs a new instance of this class given its parent (which must be a
@@ -222,7 +222,7 @@ public class TreeItem extends Item {
     if( parentItem != null ) {
       depth = parentItem.depth + 1;
     }
-    parent.invalidateFlatIndex();
+    parent.invalidateTopItemIndex();
     setEmpty();
     if( create ) {
       int numberOfItems;
@@ -247,6 +247,9 @@ public class TreeItem extends Item {
 
   private void setEmpty() {
     items = new TreeItem[ 4 ];
+    if( visibleRows == null ) {
+      visibleRows = new VisibleRows();
+    }
   }
 
   private void createItem( TreeItem item, int index ) {
@@ -266,9 +269,13 @@ public class TreeItem extends Item {
     items[ index ] = item;
     itemCount++;
     adjustItemIndices( index );
+    int rows = VisibleRows.getRows( item );
+    visibleRows.add( index, rows, itemCount );
+    childRowsChanged( rows );
   }
 
   private void destroyItem( int index ) {
+    int rows = VisibleRows.getRows( items[ index ] );
     itemCount--;
     if( itemCount == 0 ) {
       setEmpty();
@@ -277,6 +284,8 @@ public class TreeItem extends Item {
       items[ itemCount ] = null;
     }
     adjustItemIndices( index );
+    visibleRows.remove( index, rows, itemCount );
+    childRowsChanged( -rows );
   }
 
   private void adjustItemIndices( int start ) {
@@ -364,9 +373,11 @@ public class TreeItem extends Item {
         updateSelection();
       }
       markCached();
-      parent.invalidateFlatIndex();
+      int rows = visibleRows.getTotal();
+      visibleRowsChanged( expanded ? rows : -rows );
+      parent.invalidateTopItemIndex();
       parent.updateScrollBars();
-      parent.updateAllItems();
+      parent.resolveVisibleItems();
     }
   }
 
@@ -1391,6 +1402,7 @@ public class TreeItem extends Item {
       }
     }
     setEmpty();
+    childRowsChanged( visibleRows.reset( items, itemCount ) );
   }
 
   /**
@@ -1426,7 +1438,8 @@ public class TreeItem extends Item {
         }
       }
       itemCount = newItemCount;
-      parent.invalidateFlatIndex();
+      childRowsChanged( visibleRows.reset( items, itemCount ) );
+      parent.invalidateTopItemIndex();
       parent.updateScrollBars();
       parent.redraw();
     }
@@ -1452,7 +1465,7 @@ public class TreeItem extends Item {
       parent.destroyItem( index );
     }
     if( !parent.isInDispose() ) {
-      parent.invalidateFlatIndex();
+      parent.invalidateTopItemIndex();
       parent.removeFromSelection( this );
       parent.updateScrollBars();
     }
@@ -1478,14 +1491,37 @@ public class TreeItem extends Item {
   }
 
   int getFlatIndex() {
-    if( !parent.isFlatIndexValid ) {
-      parent.updateAllItems();
+    int result = 0;
+    TreeItem item = this;
+    while( item.parentItem != null ) {
+      TreeItem parentItem = item.parentItem;
+      result += parentItem.visibleRows.getRowsBefore( parentItem.items,
+                                                      parentItem.itemCount,
+                                                      item.index ) + 1;
+      item = parentItem;
+    }
+    return result + parent.getRowsBefore( item.index );
+  }
+
+  int getVisibleRows() {
+    return expanded ? visibleRows.getTotal() + 1 : 1;
+  }
+
+  private void visibleRowsChanged( int delta ) {
+    if( delta != 0 ) {
+      if( parentItem != null ) {
+        parentItem.visibleRows.update( index, delta );
+        parentItem.childRowsChanged( delta );
+      } else {
+        parent.childRowsChanged( index, delta );
+      }
     }
-    return flatIndex;
   }
 
-  void setFlatIndex( int flatIndex ) {
-    this.flatIndex = flatIndex;
+  private void childRowsChanged( int delta ) {
+    if( expanded ) {
+      visibleRowsChanged( delta );
+    }
   }
 
   boolean hasPreferredWidthBuffer( int index ) {
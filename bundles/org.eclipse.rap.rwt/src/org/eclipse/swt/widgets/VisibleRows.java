@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import java.util.Arrays;
+
+import org.eclipse.swt.internal.SerializableCompatibility;
+
+
+/**
+ * Counts the visible rows of the child items of a tree or tree item. A child item occupies one row
+ * for itself plus the rows of its own children if it is expanded. Items that have not been created
+ * yet (virtual trees) occupy a single row.
+ * <p>
+ * The total is always up to date. The row counts per child are kept in a Fenwick tree, so that the
+ * number of rows before a child and the child at a given row can be found in logarithmic time. The
+ * Fenwick tree is rebuilt lazily after children have been inserted or removed in the middle.
+ * </p>
+ */
+final class VisibleRows implements SerializableCompatibility {
+
+  private int total;
+  private int[] tree;
+  private int size;
+  private boolean valid;
+
+  VisibleRows() {
+    tree = new int[ 1 ];
+    valid = true;
+  }
+
+  static int getRows( TreeItem item ) {
+    return item == null ? 1 : item.getVisibleRows();
+  }
+
+  int getTotal() {
+    return total;
+  }
+
+  void add( int index, int rows, int count ) {
+    total += rows;
+    if( valid && index == count - 1 && size == index ) {
+      append( rows );
+    } else {
+      valid = false;
+    }
+  }
+
+  void remove( int index, int rows, int count ) {
+    total -= rows;
+    if( valid && index == count && size == index + 1 ) {
+      size--;
+    } else {
+      valid = false;
+    }
+  }
+
+  void update( int index, int delta ) {
+    total += delta;
+    if( valid ) {
+      for( int i = index + 1; i <= size; i += i & -i ) {
+        tree[ i ] += delta;
+      }
+    }
+  }
+
+  int reset( TreeItem[] items, int count ) {
+    int oldTotal = total;
+    total = 0;
+    for( int i = 0; i < count; i++ ) {
+      total += getRows( items[ i ] );
+    }
+    valid = false;
+    return total - oldTotal;
+  }
+
+  int getRowsBefore( TreeItem[] items, int count, int index ) {
+    ensureValid( items, count );
+    return sum( index );
+  }
+
+  /**
+   * Returns the index of the child that occupies the given row. The row must be less than the
+   * total.
+   */
+  int findIndex( TreeItem[] items, int count, int row ) {
+    ensureValid( items, count );
+    int result = 0;
+    int remaining = row;
+    for( int step = Integer.highestOneBit( size ); step > 0; step >>= 1 ) {
+      int next = result + step;
+      if( next <= size && tree[ next ] <= remaining ) {
+        result = next;
+        remaining -= tree[ next ];
+      }
+    }
+    return result;
+  }
+
+  private void append( int rows ) {
+    int position = size + 1;
+    if( position >= tree.length ) {
+      tree = Arrays.copyOf( tree, Math.max( 4, tree.length * 2 ) );
+    }
+    tree[ position ] = rows + sum( position - 1 ) - sum( position - ( position & -position ) );
+    size = position;
+  }
+
+  private int sum( int count ) {
+    int result = 0;
+    for( int i = count; i > 0; i -= i & -i ) {
+      result += tree[ i ];
+    }
+    return result;
+  }
+
+  private void ensureValid( TreeItem[] items, int count ) {
+    if( !valid ) {
+      if( tree.length <= count ) {
+        tree = new int[ count + 1 ];
+      } else {
+        Arrays.fill( tree, 0 );
+      }
+      for( int i = 1; i <= count; i++ ) {
+        tree[ i ] += getRows( items[ i - 1 ] );
+        int parent = i + ( i & -i );
+        if( parent <= count ) {
+          tree[ parent ] += tree[ i ];
+        }
+      }
+      size = count;
+      valid = true;
+    }
+  }
+
+}
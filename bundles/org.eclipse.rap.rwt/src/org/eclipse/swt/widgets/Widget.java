@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -158,6 +158,9 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
     display = parent.display;
     reskinWidget();
     remoteAdapter = new ParentHolderRemoteAdapter( parent );
+    if( display.dirtyWidgets != null ) {
+      display.dirtyWidgets.markCreated( this );
+    }
   }
 
   /**
@@ -182,6 +185,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
       return (T) themeManager.getThemeAdapterManager().getThemeAdapter( this );
     }
     if( adapter == IWidgetGraphicsAdapter.class ) {
+      markDirty();
       if( widgetGraphicsAdapter == null ) {
         widgetGraphicsAdapter = new WidgetGraphicsAdapter();
       }
@@ -318,6 +322,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
     if( key == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
+    markDirty();
     if( RWT.CUSTOM_VARIANT.equals( key ) ) {
       if( value != null ) {
         checkCustomVariant( value );
@@ -847,7 +852,9 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
         addState( RELEASED );
         releaseParent();
         releaseWidget();
-        getAdapter( RemoteAdapter.class ).markDisposed( this );
+        RemoteAdapter adapter = getAdapter( RemoteAdapter.class );
+        adapter.markDisposed( this );
+        display.removeWidget( adapter.getId(), this );
       }
     }
   }
@@ -960,6 +967,17 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
     }
   }
 
+  /*
+   * Marks the widget as changed, so that it is preserved, rendered and cleared by the next
+   * lifecycle phases. Must be called by every method that modifies rendered state, before the
+   * state is modified.
+   */
+  void markDirty() {
+    if( display.dirtyWidgets != null ) {
+      display.dirtyWidgets.markDirty( this );
+    }
+  }
+
   /*
    * Returns <code>true</code> when the current thread is
    * the thread that created the widget and <code>false</code>
@@ -1031,6 +1049,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
   }
 
   private void preserveListeners() {
+    markDirty();
     WidgetRemoteAdapter adapter = ( WidgetRemoteAdapter )ensureRemoteAdapter();
     if( !( adapter ).hasPreservedListeners() ) {
       WidgetLCAUtil.preserveListeners( this, eventTable != null ? eventTable.getEventList() : 0 );
@@ -1048,7 +1067,11 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
 
   private RemoteAdapter createRemoteAdapter( Widget parent ) {
     String id = IdGenerator.getInstance( RWT.getUISession( display ) ).createId( this );
-    return createRemoteAdapter( parent, id );
+    RemoteAdapter result = createRemoteAdapter( parent, id );
+    if( display != null ) {
+      display.addWidget( id, this );
+    }
+    return result;
   }
 
   RemoteAdapter createRemoteAdapter( Widget parent, String id ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -22,20 +22,26 @@ import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemot
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getRequest;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.client.WebClient;
 import org.eclipse.rap.rwt.client.service.ExitConfirmation;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.lifecycle.ControlLCAUtil;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.DisposedWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointRegistration;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.ReparentedControls;
 import org.eclipse.rap.rwt.internal.lifecycle.UITestUtil;
+import org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessage;
 import org.eclipse.rap.rwt.internal.protocol.Operation;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolUtil;
@@ -66,7 +72,7 @@ public class DisplayLCA {
 
   public void readData( Display display ) {
     handleOperations( display );
-    visitWidgets( display );
+    readWidgetData( display );
     DNDSupport.handleOperations();
     RemoteObjectLifeCycleAdapter.readData( ProtocolUtil.getClientMessage() );
   }
@@ -79,20 +85,37 @@ public class DisplayLCA {
     ActiveKeysUtil.preserveActiveKeys( display );
     ActiveKeysUtil.preserveCancelKeys( display );
     ActiveKeysUtil.preserveMnemonicActivator( display );
+    DirtyWidgets dirtyWidgets = getDirtyWidgets( display );
     if( adapter.isInitialized() ) {
-      for( Shell shell : getShells( display ) ) {
-        WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
-          @Override
-          public boolean visit( Widget widget ) {
-            getLCA( widget ).preserveValues( widget );
-            return true;
-          }
-        } );
+      if( dirtyWidgets != null ) {
+        // widgets that support dirty tracking are preserved when they are marked dirty
+        dirtyWidgets.preserveValues();
+      } else {
+        for( Shell shell : getShells( display ) ) {
+          WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
+            @Override
+            public boolean visit( Widget widget ) {
+              getLCA( widget ).preserveValues( widget );
+              return true;
+            }
+          } );
+        }
       }
     }
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.setTrackingChanges( true );
+    }
   }
 
   public void render( Display display ) throws IOException {
+    DirtyWidgets dirtyWidgets = getDirtyWidgets( display );
+    if( dirtyWidgets != null ) {
+      // tab indices are computed while changes are tracked, so that changed controls are rendered
+      for( Shell shell : dirtyWidgets.takeChangedTabOrders() ) {
+        ControlLCAUtil.recalculateTabIndex( shell );
+      }
+      dirtyWidgets.setTrackingChanges( false );
+    }
     renderOverflow( display );
     renderReparentControls();
     renderDisposeWidgets();
@@ -114,14 +137,19 @@ public class DisplayLCA {
 
   public void clearPreserved( Display display ) {
     ( ( WidgetRemoteAdapter )getAdapter( display ) ).clearPreserved();
-    for( Shell shell : getShells( display ) ) {
-      WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
-        @Override
-        public boolean visit( Widget widget ) {
-          ( ( WidgetRemoteAdapter )getAdapter( widget ) ).clearPreserved();
-          return true;
-        }
-      } );
+    DirtyWidgets dirtyWidgets = getDirtyWidgets( display );
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.clearPreserved();
+    } else {
+      for( Shell shell : getShells( display ) ) {
+        WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
+          @Override
+          public boolean visit( Widget widget ) {
+            ( ( WidgetRemoteAdapter )getAdapter( widget ) ).clearPreserved();
+            return true;
+          }
+        } );
+      }
     }
   }
 
@@ -136,17 +164,53 @@ public class DisplayLCA {
     }
   }
 
-  private static void visitWidgets( Display display ) {
+  /*
+   * Only widgets that are targeted by an operation of the current message are read. They are read
+   * in the order of a walk over the widget tree, as handlers rely on parents being read before
+   * their children. The walk descends only into the ancestors of these widgets.
+   */
+  private static void readWidgetData( Display display ) {
+    List<Widget> widgets = new ArrayList<>();
+    for( String target : ProtocolUtil.getClientMessage().getTargets() ) {
+      Widget widget = WidgetUtil.find( display, target );
+      if( widget != null ) {
+        widgets.add( widget );
+      }
+    }
+    if( widgets.size() > 1 ) {
+      widgets = sortInTreeOrder( display, widgets );
+    }
+    for( Widget widget : widgets ) {
+      if( !widget.isDisposed() ) {
+        getLCA( widget ).readData( widget );
+      }
+    }
+  }
+
+  private static List<Widget> sortInTreeOrder( Display display, List<Widget> widgets ) {
+    final Set<Widget> targets = Collections.newSetFromMap( new IdentityHashMap<Widget, Boolean>() );
+    final Set<Widget> ancestors = Collections.newSetFromMap( new IdentityHashMap<Widget, Boolean>() );
+    targets.addAll( widgets );
+    for( Widget widget : widgets ) {
+      Widget parent = getAdapter( widget ).getParent();
+      while( parent != null && ancestors.add( parent ) ) {
+        parent = getAdapter( parent ).getParent();
+      }
+    }
+    final List<Widget> result = new ArrayList<>( widgets.size() );
     WidgetTreeVisitor visitor = new WidgetTreeVisitor() {
       @Override
       public boolean visit( Widget widget ) {
-        getLCA( widget ).readData( widget );
-        return true;
+        if( targets.remove( widget ) ) {
+          result.add( widget );
+        }
+        return ancestors.contains( widget );
       }
     };
     for( Shell shell : getShells( display ) ) {
       WidgetTreeUtil.accept( shell, visitor );
     }
+    return result;
   }
 
   private static void renderOverflow( Display display ) {
@@ -169,8 +233,17 @@ public class DisplayLCA {
     return Collections.emptyMap();
   }
 
+  /*
+   * With dirty tracking, the walk over the widget tree descends only into the changed and
+   * untracked widgets and their ancestors, once the display has been rendered completely.
+   */
   private static void renderShells( Display display ) throws IOException {
-    RenderVisitor visitor = new RenderVisitor();
+    DirtyWidgets dirtyWidgets = getDirtyWidgets( display );
+    Set<Widget> scope = null;
+    if( dirtyWidgets != null && getAdapter( display ).isInitialized() ) {
+      scope = dirtyWidgets.getRenderScope();
+    }
+    RenderVisitor visitor = new RenderVisitor( dirtyWidgets, scope );
     for( Shell shell : getShells( display ) ) {
       WidgetTreeUtil.accept( shell, visitor );
       visitor.reThrowProblem();
@@ -287,25 +360,41 @@ public class DisplayLCA {
     return display.getAdapter( IDisplayAdapter.class );
   }
 
+  private static DirtyWidgets getDirtyWidgets( Display display ) {
+    return getDisplayAdapter( display ).getDirtyWidgets();
+  }
+
   private static Shell[] getShells( Display display ) {
     return getDisplayAdapter( display ).getShells();
   }
 
   private static final class RenderVisitor implements WidgetTreeVisitor {
 
+    private final DirtyWidgets dirtyWidgets;
+    private final Set<Widget> scope;
     private IOException ioProblem;
 
+    RenderVisitor( DirtyWidgets dirtyWidgets, Set<Widget> scope ) {
+      this.dirtyWidgets = dirtyWidgets;
+      this.scope = scope;
+    }
+
     @Override
     public boolean visit( Widget widget ) {
       ioProblem = null;
       try {
-        render( widget );
+        if( dirtyWidgets == null ) {
+          render( widget );
+        } else if( DirtyWidgets.needsRender( widget ) ) {
+          render( widget );
+          dirtyWidgets.markRendered( widget );
+        }
         runRenderRunnables( widget );
       } catch( IOException ioe ) {
         ioProblem = ioe;
         return false;
       }
-      return true;
+      return scope == null || scope.contains( widget );
     }
 
     private void reThrowProblem() throws IOException {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2015 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -25,7 +25,6 @@ import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
-import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.Widget;
 
 
@@ -97,17 +96,8 @@ public class DisplayOperationHandler extends AbstractOperationHandler {
     // the client may send 'null' to indicate that no control on the active
     // shell currently has the input focus.
     if( value != null && !value.isNull() ) {
-      String id = value.asString();
-      Control focusControl = null;
-      // TODO [rh] revise this: traversing the widget tree once more only to find
-      //      out which control is focused. Could that be optimized?
-      Shell[] shells = getDisplayAdapter( display ).getShells();
-      for( int i = 0; focusControl == null && i < shells.length; i++ ) {
-        Widget widget = WidgetUtil.find( shells[ i ], id );
-        if( widget instanceof Control ) {
-          focusControl = ( Control )widget;
-        }
-      }
+      Widget widget = WidgetUtil.find( display, value.asString() );
+      Control focusControl = widget instanceof Control ? ( Control )widget : null;
       if( focusControl != null && EventUtil.isAccessible( focusControl ) ) {
         getDisplayAdapter( display ).setFocusControl( focusControl, false );
       }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -29,6 +29,7 @@ import org.eclipse.swt.widgets.Widget;
 public class ShellThemeAdapter extends ControlThemeAdapterImpl {
 
   private static final int MENU_BAR_MIN_HEIGHT = 20;
+  private static final SimpleSelector ON_MENU_BAR = new SimpleSelector( ":onMenuBar" );
 
   @Override
   protected void configureMatcher( WidgetMatcher matcher ) {
@@ -72,8 +73,7 @@ public class ShellThemeAdapter extends ControlThemeAdapterImpl {
   }
 
   private static BoxDimensions getMenuBarItemPadding() {
-    SimpleSelector selector = new SimpleSelector( new String[] { ":onMenuBar" } );
-    CssValue cssValue = ThemeUtil.getCssValue( "MenuItem", "padding", selector );
+    CssValue cssValue = ThemeUtil.getCssValue( "MenuItem", "padding", ON_MENU_BAR );
     return ( ( CssBoxDimensions )cssValue ).dimensions;
   }
 
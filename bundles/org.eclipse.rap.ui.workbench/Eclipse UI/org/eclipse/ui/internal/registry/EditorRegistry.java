@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -153,6 +153,27 @@ public class EditorRegistry extends EventManager implements IEditorRegistry, IEx
 
 	public static final String EMPTY_EDITOR_ID = "org.eclipse.ui.internal.emptyEditorTab"; //$NON-NLS-1$
 
+	// RAP: an editor read from the extension registry, shared by all UI
+	// sessions of an application. The descriptor and the lists are never
+	// modified.
+	private static final class PluginEditor {
+
+		final EditorDescriptor editor;
+		final List extensions;
+		final List filenames;
+		final List contentTypes;
+		final boolean isDefault;
+
+		PluginEditor(EditorDescriptor editor, List extensions, List filenames,
+				List contentTypes, boolean isDefault) {
+			this.editor = editor;
+			this.extensions = extensions;
+			this.filenames = filenames;
+			this.contentTypes = contentTypes;
+			this.isDefault = isDefault;
+		}
+	}
+
     /**
      * Return an instance of the receiver. Adds listeners into the extension
      * registry for dynamic UI purposes.
@@ -178,6 +199,29 @@ public class EditorRegistry extends EventManager implements IEditorRegistry, IEx
     }
     // RAPEND: [bm]
 
+    // RAP: returns the editors read once per application. The file editor
+    // mappings of a session may change, so only the descriptors are shared.
+    private static List getPluginEditors() {
+        String extensionPoint = PlatformUI.PLUGIN_EXTENSION_NAME_SPACE + '.'
+                + IWorkbenchRegistryConstants.PL_EDITOR;
+        return (List) RegistrySnapshots.getInstance().get(extensionPoint,
+                new RegistrySnapshots.Reader() {
+                    public Object read() {
+                        final List result = new ArrayList();
+                        EditorRegistryReader reader = new EditorRegistryReader() {
+                            protected void addEditor(EditorDescriptor editor,
+                                    List extensions, List filenames,
+                                    List contentTypes, boolean bDefault) {
+                                result.add(new PluginEditor(editor, extensions,
+                                        filenames, contentTypes, bDefault));
+                            }
+                        };
+                        reader.readEditors();
+                        return Collections.unmodifiableList(result);
+                    }
+                });
+    }
+
     /**
      * Add an editor for the given extensions with the specified (possibly null)
      * extended type. The editor is being registered from a plugin
@@ -572,8 +616,15 @@ public class EditorRegistry extends EventManager implements IEditorRegistry, IEx
         extensionImages = new HashMap();
 
         //Get editors from the registry
-        EditorRegistryReader registryReader = new EditorRegistryReader();
-        registryReader.addEditors(this);
+        // RAP: add the editors read once per application
+        Iterator pluginEditors = getPluginEditors().iterator();
+        while (pluginEditors.hasNext()) {
+            PluginEditor pluginEditor = (PluginEditor) pluginEditors.next();
+            addEditorFromPlugin(pluginEditor.editor, pluginEditor.extensions,
+                    pluginEditor.filenames, pluginEditor.contentTypes,
+                    pluginEditor.isDefault);
+        }
+        // RAPEND
         sortInternalEditors();
         rebuildInternalEditorMap();
 
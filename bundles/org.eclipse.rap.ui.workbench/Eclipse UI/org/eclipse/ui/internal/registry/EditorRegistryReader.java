@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2007 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -37,12 +37,27 @@ public class EditorRegistryReader extends RegistryReader {
      * safely setup with the plugin.
      */
     protected void addEditors(EditorRegistry registry) {
-        IExtensionRegistry extensionRegistry = Platform.getExtensionRegistry();
         this.editorRegistry = registry;
+        readEditors();
+    }
+
+    // RAP: reads the editors without a registry, see addEditor
+    void readEditors() {
+        IExtensionRegistry extensionRegistry = Platform.getExtensionRegistry();
         readRegistry(extensionRegistry, PlatformUI.PLUGIN_EXTENSION_NAME_SPACE,
                 IWorkbenchRegistryConstants.PL_EDITOR);
     }
 
+    /**
+     * Adds an editor that was read to the registry. Readers that collect the
+     * editors for all UI sessions override this method.
+     */
+    protected void addEditor(EditorDescriptor editor, List extensions,
+            List filenames, List contentTypes, boolean bDefault) {
+        editorRegistry.addEditorFromPlugin(editor, extensions, filenames,
+                contentTypes, bDefault);
+    }
+
     /**
      * Implementation of the abstract method that
      * processes one configuration element.
@@ -105,8 +120,8 @@ public class EditorRegistryReader extends RegistryReader {
 		}
 
         // Add the editor to the manager.	
-        editorRegistry.addEditorFromPlugin(editor, extensionsVector,
-                filenamesVector, contentTypeVector, defaultEditor);
+        addEditor(editor, extensionsVector, filenamesVector,
+                contentTypeVector, defaultEditor);
         return true;
     }
 
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.registry;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IRegistryChangeEvent;
+import org.eclipse.core.runtime.IRegistryChangeListener;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.service.ApplicationContextEvent;
+import org.eclipse.rap.rwt.service.ApplicationContextListener;
+
+/**
+ * Application scoped cache of the descriptors read from the extension
+ * registry. The session scoped registries of an application share the
+ * descriptors of an extension point, so that the extension registry is read
+ * only once per extension point. The cache is cleared whenever the extension
+ * registry changes.
+ * <p>
+ * The snapshots must not be modified. Registries that need to change their
+ * contents read a private copy instead.
+ * </p>
+ */
+public final class RegistrySnapshots {
+
+	/**
+	 * Reads the snapshot of one extension point.
+	 */
+	public interface Reader {
+
+		/**
+		 * Read the descriptors from the extension registry.
+		 *
+		 * @return the snapshot, must not be <code>null</code>
+		 */
+		Object read();
+	}
+
+	private final Map snapshots = new HashMap();
+
+	private final IRegistryChangeListener registryListener = new IRegistryChangeListener() {
+		public void registryChanged(IRegistryChangeEvent event) {
+			clear();
+		}
+	};
+
+	/**
+	 * Return the application scoped instance.
+	 *
+	 * @return the instance of the current application
+	 */
+	public static RegistrySnapshots getInstance() {
+		return SingletonUtil.getUniqueInstance(RegistrySnapshots.class, RWT
+				.getApplicationContext());
+	}
+
+	private RegistrySnapshots() {
+		Platform.getExtensionRegistry().addRegistryChangeListener(
+				registryListener);
+		RWT.getApplicationContext().addApplicationContextListener(
+				new ApplicationContextListener() {
+					public void beforeDestroy(ApplicationContextEvent event) {
+						Platform.getExtensionRegistry()
+								.removeRegistryChangeListener(registryListener);
+						clear();
+					}
+				});
+	}
+
+	/**
+	 * Return the snapshot of the given extension point, using the reader if
+	 * there is none yet.
+	 *
+	 * @param extensionPoint
+	 *            the unique id of the extension point
+	 * @param reader
+	 *            reads the snapshot if there is none
+	 * @return the snapshot
+	 */
+	public synchronized Object get(String extensionPoint, Reader reader) {
+		Object result = snapshots.get(extensionPoint);
+		if (result == null) {
+			result = reader.read();
+			snapshots.put(extensionPoint, result);
+		}
+		return result;
+	}
+
+	synchronized void clear() {
+		snapshots.clear();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -22,6 +22,7 @@ import java.util.TreeSet;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtension;
 import org.eclipse.core.runtime.IExtensionPoint;
+import org.eclipse.core.runtime.IExtensionRegistry;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Platform;
@@ -158,7 +159,7 @@ public class ViewRegistry implements IViewRegistry, IExtensionChangeHandler {
 	/**
 	 * A set that will only ever contain ViewDescriptors.
 	 */
-    private SortedSet views = new TreeSet(new ViewDescriptorComparator());
+    private SortedSet views;
 
     private List categories;
 
@@ -172,14 +173,61 @@ public class ViewRegistry implements IViewRegistry, IExtensionChangeHandler {
 
 	private boolean dirtyViewCategoryMappings = true;
 
+	// RAP: true while the descriptors are shared with other UI sessions
+	private boolean shared;
+
+	// RAP: false for the registry that reads the shared descriptors, it is
+	// not bound to the extension tracker of a workbench
+	private final boolean tracked;
+
     /**
      * Create a new ViewRegistry.
      */
     public ViewRegistry() {
         super();    
-        categories = new ArrayList();       
-        sticky = new ArrayList();        
+        tracked = true;
         PlatformUI.getWorkbench().getExtensionTracker().registerHandler(this, ExtensionTracker.createExtensionPointFilter(getExtensionPointFilter()));
+        // RAP: use the descriptors read once per application
+        ViewRegistry snapshot = getSnapshot();
+        views = snapshot.views;
+        categories = snapshot.categories;
+        sticky = snapshot.sticky;
+        miscCategory = snapshot.miscCategory;
+        dirtyViewCategoryMappings = false;
+        shared = true;
+        // RAPEND
+    }
+
+    // RAP: creates the registry that holds the shared descriptors, the
+    // categories are mapped once so that the sessions never modify them
+    private ViewRegistry(IExtensionRegistry registry) {
+        super();
+        tracked = false;
+        views = new TreeSet(new ViewDescriptorComparator());
+        categories = new ArrayList();
+        sticky = new ArrayList();
+        reader.readViews(registry, this);
+        mapViewsToCategories();
+    }
+
+    // RAP: returns the application scoped registry with the shared descriptors
+    private static ViewRegistry getSnapshot() {
+        return (ViewRegistry) RegistrySnapshots.getInstance().get(
+                EXTENSIONPOINT_UNIQUE_ID, new RegistrySnapshots.Reader() {
+                    public Object read() {
+                        return new ViewRegistry(Platform.getExtensionRegistry());
+                    }
+                });
+    }
+
+    // RAP: replaces the shared descriptors with a copy owned by this registry
+    private void readPrivateCopy() {
+        views = new TreeSet(new ViewDescriptorComparator());
+        categories = new ArrayList();
+        sticky = new ArrayList();
+        miscCategory = null;
+        dirtyViewCategoryMappings = true;
+        shared = false;
         reader.readViews(Platform.getExtensionRegistry(), this);
     }
 
@@ -195,7 +243,7 @@ public class ViewRegistry implements IViewRegistry, IExtensionChangeHandler {
 			// Mark categories list as dirty
 			categories.add(desc);
 			IConfigurationElement element = (IConfigurationElement) Util.getAdapter(desc, IConfigurationElement.class);
-			if (element == null) {
+			if (element == null || !tracked) {
 				return;
 			}
 			PlatformUI.getWorkbench().getExtensionTracker()
@@ -214,6 +262,9 @@ public class ViewRegistry implements IViewRegistry, IExtensionChangeHandler {
     public void add(ViewDescriptor desc) {
     	if (views.add(desc)) {
             dirtyViewCategoryMappings = true;
+            if (!tracked) {
+                return;
+            }
             PlatformUI.getWorkbench().getExtensionTracker().registerObject(
                     desc.getConfigurationElement().getDeclaringExtension(),
                     desc, IExtensionTracker.REF_WEAK);
@@ -228,6 +279,9 @@ public class ViewRegistry implements IViewRegistry, IExtensionChangeHandler {
     public void add(StickyViewDescriptor desc) {
     	if (!sticky.contains(desc)) {
 	        sticky.add(desc);
+	        if (!tracked) {
+	        	return;
+	        }
 	        PlatformUI.getWorkbench().getExtensionTracker()
 			.registerObject(
 					desc.getConfigurationElement().getDeclaringExtension(),
@@ -423,6 +477,12 @@ public class ViewRegistry implements IViewRegistry, IExtensionChangeHandler {
      * @see org.eclipse.core.runtime.dynamicHelpers.IExtensionChangeHandler#removeExtension(org.eclipse.core.runtime.IExtension, java.lang.Object[])
      */
     public void removeExtension(IExtension extension,Object[] objects) {
+        // RAP: never modify the shared descriptors, a private copy no longer
+        // contains the removed extension
+        if (shared) {
+            readPrivateCopy();
+            return;
+        }
         for (int i = 0; i < objects.length; i++) {
             if (objects[i] instanceof StickyViewDescriptor) {           
                 sticky.remove(objects[i]);
@@ -447,6 +507,12 @@ public class ViewRegistry implements IViewRegistry, IExtensionChangeHandler {
      * @see org.eclipse.core.runtime.dynamicHelpers.IExtensionChangeHandler#addExtension(org.eclipse.core.runtime.dynamicHelpers.IExtensionTracker, org.eclipse.core.runtime.IExtension)
      */
     public void addExtension(IExtensionTracker tracker,IExtension addedExtension){
+        // RAP: never modify the shared descriptors, a private copy already
+        // contains the added extension
+        if (shared) {
+            readPrivateCopy();
+            return;
+        }
         IConfigurationElement[] addedElements = addedExtension.getConfigurationElements();
         for (int i = 0; i < addedElements.length; i++) {
             IConfigurationElement element = addedElements[i];
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2006 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import org.eclipse.core.runtime.dynamichelpers.ExtensionTracker;
 import org.eclipse.core.runtime.dynamichelpers.IExtensionChangeHandler;
 import org.eclipse.core.runtime.dynamichelpers.IExtensionTracker;
 import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.activities.WorkbenchActivityHelper;
 import org.eclipse.ui.internal.dialogs.WizardCollectionElement;
 import org.eclipse.ui.internal.dialogs.WorkbenchWizardElement;
 import org.eclipse.ui.internal.registry.WizardsRegistryReader;
@@ -31,6 +32,9 @@ import org.eclipse.ui.wizards.IWizardDescriptor;
 public abstract class AbstractExtensionWizardRegistry extends
 		AbstractWizardRegistry implements IExtensionChangeHandler{
 
+	// RAP: true while the wizard elements are shared with other UI sessions
+	private boolean shared;
+
 	/**
 	 * Create a new instance of this class.
 	 */
@@ -42,6 +46,12 @@ public abstract class AbstractExtensionWizardRegistry extends
 	 * @see org.eclipse.core.runtime.dynamicHelpers.IExtensionChangeHandler#addExtension(org.eclipse.core.runtime.dynamicHelpers.IExtensionTracker, org.eclipse.core.runtime.IExtension)
 	 */
 	public void addExtension(IExtensionTracker tracker, IExtension extension) {
+		// RAP: never modify the shared elements, a private copy already
+		// contains the added extension
+		if (shared) {
+			readPrivateCopy();
+			return;
+		}
 		WizardsRegistryReader reader = new WizardsRegistryReader(getPlugin(),
 				getExtensionPoint());
 		reader.setInitialCollection(getWizardElements());
@@ -78,6 +88,7 @@ public abstract class AbstractExtensionWizardRegistry extends
 	 */
 	public void dispose() {
 		super.dispose();
+		shared = false;
 		PlatformUI.getWorkbench().getExtensionTracker()
 				.unregisterHandler(this);
 	}
@@ -91,10 +102,25 @@ public abstract class AbstractExtensionWizardRegistry extends
         
 		PlatformUI.getWorkbench().getExtensionTracker().registerHandler(this, ExtensionTracker.createExtensionPointFilter(getExtensionPointFilter()));
 
+		// RAP: use the wizard elements read once per application
+		WizardRegistrySnapshots.Snapshot snapshot = WizardRegistrySnapshots
+				.getInstance().get(getPlugin(), getExtensionPoint());
+		setWizardElements(snapshot.getWizardElements());
+		setPrimaryWizards((WorkbenchWizardElement[]) WorkbenchActivityHelper
+				.restrictArray(snapshot.getPrimaryWizards()));
+		shared = true;
+		// RAPEND
+		registerWizards(getWizardElements());
+	}
+
+	// RAP: replaces the shared wizard elements with a copy owned by this
+	// registry
+	private void readPrivateCopy() {
 		WizardsRegistryReader reader = new WizardsRegistryReader(getPlugin(),
 				getExtensionPoint());
 		setWizardElements(reader.getWizardElements());
 		setPrimaryWizards(reader.getPrimaryWizards());
+		shared = false;
 		registerWizards(getWizardElements());
 	}
 
@@ -174,6 +200,12 @@ public abstract class AbstractExtensionWizardRegistry extends
 				getExtensionPointFilter().getUniqueIdentifier())) {
 			return;
 		}
+		// RAP: never modify the shared elements, a private copy no longer
+		// contains the removed extension
+		if (shared) {
+			readPrivateCopy();
+			return;
+		}
 		for (int i = 0; i < objects.length; i++) {
 			Object object = objects[i];
 			if (object instanceof WizardCollectionElement) {
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.wizards;
+
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.ui.internal.dialogs.WizardCollectionElement;
+import org.eclipse.ui.internal.dialogs.WorkbenchWizardElement;
+import org.eclipse.ui.internal.registry.RegistrySnapshots;
+import org.eclipse.ui.internal.registry.WizardsRegistryReader;
+
+/**
+ * Application scoped cache of the wizard descriptors read from the extension
+ * registry. All UI sessions of an application share the same descriptors, so
+ * that the extension registry is read only once per wizard extension point.
+ * The snapshots are kept in the {@link RegistrySnapshots} and cleared whenever
+ * the extension registry changes.
+ * <p>
+ * The snapshots must not be modified. Registries that need to change their
+ * contents read a private copy instead, see
+ * {@link AbstractExtensionWizardRegistry}.
+ * </p>
+ */
+public final class WizardRegistrySnapshots {
+
+	/**
+	 * The wizard descriptors of one extension point.
+	 */
+	public static final class Snapshot {
+
+		private final WizardCollectionElement wizardElements;
+
+		private final WorkbenchWizardElement[] primaryWizards;
+
+		Snapshot(WizardCollectionElement wizardElements,
+				WorkbenchWizardElement[] primaryWizards) {
+			this.wizardElements = wizardElements;
+			this.primaryWizards = primaryWizards;
+		}
+
+		/**
+		 * Return the root of the shared wizard tree.
+		 *
+		 * @return the wizard elements
+		 */
+		public WizardCollectionElement getWizardElements() {
+			return wizardElements;
+		}
+
+		/**
+		 * Return all primary wizards, without activity filtering.
+		 *
+		 * @return the primary wizards
+		 */
+		public WorkbenchWizardElement[] getPrimaryWizards() {
+			return primaryWizards;
+		}
+	}
+
+	/**
+	 * Return the application scoped instance.
+	 *
+	 * @return the instance of the current application
+	 */
+	public static WizardRegistrySnapshots getInstance() {
+		return SingletonUtil.getUniqueInstance(WizardRegistrySnapshots.class,
+				RWT.getApplicationContext());
+	}
+
+	private WizardRegistrySnapshots() {
+	}
+
+	/**
+	 * Return the snapshot of the given extension point, reading the extension
+	 * registry if there is none yet.
+	 *
+	 * @param plugin
+	 *            the namespace of the extension point
+	 * @param extensionPoint
+	 *            the simple id of the extension point
+	 * @return the snapshot
+	 */
+	public Snapshot get(final String plugin, final String extensionPoint) {
+		RegistrySnapshots snapshots = RegistrySnapshots.getInstance();
+		return (Snapshot) snapshots.get(plugin + '.' + extensionPoint,
+				new RegistrySnapshots.Reader() {
+					public Object read() {
+						WizardsRegistryReader reader = new WizardsRegistryReader(
+								plugin, extensionPoint);
+						return new Snapshot(reader.getWizardElements(), reader
+								.getAllPrimaryWizards());
+					}
+				});
+	}
+}
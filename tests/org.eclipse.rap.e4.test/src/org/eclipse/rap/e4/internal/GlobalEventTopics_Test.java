@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+
+public class GlobalEventTopics_Test {
+
+  @Test
+  public void testContains_withoutValue() {
+    GlobalEventTopics topics = new GlobalEventTopics( null );
+
+    assertFalse( topics.contains( "a/b" ) );
+  }
+
+  @Test
+  public void testContains_withBlankValue() {
+    GlobalEventTopics topics = new GlobalEventTopics( " " );
+
+    assertFalse( topics.contains( "a/b" ) );
+  }
+
+  @Test
+  public void testContains_exactTopic() {
+    GlobalEventTopics topics = new GlobalEventTopics( "a/b" );
+
+    assertTrue( topics.contains( "a/b" ) );
+    assertFalse( topics.contains( "a/b/c" ) );
+    assertFalse( topics.contains( "a" ) );
+  }
+
+  @Test
+  public void testContains_wildcardTopic() {
+    GlobalEventTopics topics = new GlobalEventTopics( "a/b/*" );
+
+    assertTrue( topics.contains( "a/b/c" ) );
+    assertTrue( topics.contains( "a/b/c/d" ) );
+    assertTrue( topics.contains( "a/b/*" ) );
+    assertFalse( topics.contains( "a/b" ) );
+    assertFalse( topics.contains( "a/bc" ) );
+  }
+
+  @Test
+  public void testContains_rootWildcard() {
+    GlobalEventTopics topics = new GlobalEventTopics( "*" );
+
+    assertTrue( topics.contains( "a" ) );
+    assertTrue( topics.contains( "a/b/c" ) );
+  }
+
+  @Test
+  public void testContains_trimsListOfTopics() {
+    GlobalEventTopics topics = new GlobalEventTopics( "a/b, c/* " );
+
+    assertTrue( topics.contains( "a/b" ) );
+    assertTrue( topics.contains( "c/d" ) );
+    assertFalse( topics.contains( "d" ) );
+  }
+
+}
@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import java.util.HashMap;
+
+import org.eclipse.e4.ui.di.UISynchronize;
+import org.eclipse.rap.e4.internal.RAPEventDispatcher.Registration;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+
+
+public class RAPEventDispatcher_Test {
+
+  private RAPEventDispatcher dispatcher;
+  private EventHandler handler;
+
+  @Before
+  public void setUp() {
+    dispatcher = new RAPEventDispatcher();
+    handler = mock( EventHandler.class );
+  }
+
+  @Test
+  public void testSend_exactTopic() {
+    dispatcher.subscribe( "a/b/c", null, handler, false );
+    Event event = createEvent( "a/b/c" );
+
+    dispatcher.send( event );
+
+    verify( handler ).handleEvent( event );
+  }
+
+  @Test
+  public void testSend_exactTopic_doesNotMatchOtherTopic() {
+    dispatcher.subscribe( "a/b/c", null, handler, false );
+
+    dispatcher.send( createEvent( "a/b/d" ) );
+
+    verify( handler, never() ).handleEvent( any( Event.class ) );
+  }
+
+  @Test
+  public void testSend_exactTopic_doesNotMatchSubTopic() {
+    dispatcher.subscribe( "a/b/c", null, handler, false );
+
+    dispatcher.send( createEvent( "a/b/c/d" ) );
+
+    verify( handler, never() ).handleEvent( any( Event.class ) );
+  }
+
+  @Test
+  public void testSend_exactTopic_doesNotMatchParentTopic() {
+    dispatcher.subscribe( "a/b/c", null, handler, false );
+
+    dispatcher.send( createEvent( "a/b" ) );
+
+    verify( handler, never() ).handleEvent( any( Event.class ) );
+  }
+
+  @Test
+  public void testSend_wildcard_matchesSubTopic() {
+    dispatcher.subscribe( "a/b/*", null, handler, false );
+    Event event = createEvent( "a/b/c" );
+
+    dispatcher.send( event );
+
+    verify( handler ).handleEvent( event );
+  }
+
+  @Test
+  public void testSend_wildcard_matchesNestedSubTopic() {
+    dispatcher.subscribe( "a/b/*", null, handler, false );
+    Event event = createEvent( "a/b/c/d" );
+
+    dispatcher.send( event );
+
+    verify( handler ).handleEvent( event );
+  }
+
+  @Test
+  public void testSend_wildcard_doesNotMatchItsParent() {
+    dispatcher.subscribe( "a/b/*", null, handler, false );
+
+    dispatcher.send( createEvent( "a/b" ) );
+
+    verify( handler, never() ).handleEvent( any( Event.class ) );
+  }
+
+  @Test
+  public void testSend_wildcard_doesNotMatchSiblingTopic() {
+    dispatcher.subscribe( "a/b/*", null, handler, false );
+
+    dispatcher.send( createEvent( "a/c/d" ) );
+
+    verify( handler, never() ).handleEvent( any( Event.class ) );
+  }
+
+  @Test
+  public void testSend_wildcardAndExactTopic() {
+    EventHandler exactHandler = mock( EventHandler.class );
+    dispatcher.subscribe( "a/b/*", null, handler, false );
+    dispatcher.subscribe( "a/b/c", null, exactHandler, false );
+    Event event = createEvent( "a/b/c" );
+
+    dispatcher.send( event );
+
+    verify( handler ).handleEvent( event );
+    verify( exactHandler ).handleEvent( event );
+  }
+
+  @Test
+  public void testSend_rootWildcard_matchesAllTopics() {
+    dispatcher.subscribe( "*", null, handler, false );
+    Event event1 = createEvent( "a" );
+    Event event2 = createEvent( "a/b/c" );
+
+    dispatcher.send( event1 );
+    dispatcher.send( event2 );
+
+    verify( handler ).handleEvent( event1 );
+    verify( handler ).handleEvent( event2 );
+  }
+
+  @Test
+  public void testSend_continuesAfterFailingHandler() {
+    EventHandler failingHandler = mock( EventHandler.class );
+    doThrow( new RuntimeException() ).when( failingHandler ).handleEvent( any( Event.class ) );
+    dispatcher.subscribe( "a/b", null, failingHandler, false );
+    dispatcher.subscribe( "a/b", null, handler, false );
+    Event event = createEvent( "a/b" );
+
+    dispatcher.send( event );
+
+    verify( handler ).handleEvent( event );
+  }
+
+  @Test
+  public void testPost_withoutUISynchronize_deliversImmediately() {
+    dispatcher.subscribe( "a/b", null, handler, false );
+    Event event = createEvent( "a/b" );
+
+    dispatcher.post( event );
+
+    verify( handler ).handleEvent( event );
+  }
+
+  @Test
+  public void testPost_deliversHeadlessHandlerImmediately() {
+    dispatcher.uiSync = mock( UISynchronize.class );
+    dispatcher.subscribe( "a/b", null, handler, true );
+    Event event = createEvent( "a/b" );
+
+    dispatcher.post( event );
+
+    verify( handler ).handleEvent( event );
+    verifyZeroInteractions( dispatcher.uiSync );
+  }
+
+  @Test
+  public void testPost_deliversUIHandlerAsynchronously() {
+    dispatcher.uiSync = mock( UISynchronize.class );
+    dispatcher.subscribe( "a/b", null, handler, false );
+    Event event = createEvent( "a/b" );
+
+    dispatcher.post( event );
+
+    verify( handler, never() ).handleEvent( any( Event.class ) );
+    captureAsyncRunnable().run();
+    verify( handler ).handleEvent( event );
+  }
+
+  @Test
+  public void testPost_deliversHeadlessHandlerOnlyOnce() {
+    EventHandler uiHandler = mock( EventHandler.class );
+    dispatcher.uiSync = mock( UISynchronize.class );
+    dispatcher.subscribe( "a/b", null, handler, true );
+    dispatcher.subscribe( "a/b", null, uiHandler, false );
+    Event event = createEvent( "a/b" );
+
+    dispatcher.post( event );
+    captureAsyncRunnable().run();
+
+    verify( handler ).handleEvent( event );
+    verify( uiHandler ).handleEvent( event );
+  }
+
+  @Test
+  public void testUnregister_removesHandler() {
+    Registration registration = dispatcher.subscribe( "a/b/c", null, handler, false );
+
+    registration.unregister();
+    dispatcher.send( createEvent( "a/b/c" ) );
+
+    verify( handler, never() ).handleEvent( any( Event.class ) );
+  }
+
+  @Test
+  public void testUnregister_removesWildcardHandler() {
+    Registration registration = dispatcher.subscribe( "a/b/*", null, handler, false );
+
+    registration.unregister();
+    dispatcher.send( createEvent( "a/b/c" ) );
+
+    verify( handler, never() ).handleEvent( any( Event.class ) );
+  }
+
+  @Test
+  public void testUnregister_keepsOtherHandlersOfSameTopic() {
+    EventHandler otherHandler = mock( EventHandler.class );
+    Registration registration = dispatcher.subscribe( "a/b/c", null, handler, false );
+    dispatcher.subscribe( "a/b/c", null, otherHandler, false );
+    Event event = createEvent( "a/b/c" );
+
+    registration.unregister();
+    dispatcher.send( event );
+
+    verify( handler, never() ).handleEvent( any( Event.class ) );
+    verify( otherHandler ).handleEvent( event );
+  }
+
+  private Runnable captureAsyncRunnable() {
+    ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass( Runnable.class );
+    verify( dispatcher.uiSync ).asyncExec( captor.capture() );
+    return captor.getValue();
+  }
+
+  private static Event createEvent( String topic ) {
+    return new Event( topic, new HashMap<String, Object>() );
+  }
+
+}
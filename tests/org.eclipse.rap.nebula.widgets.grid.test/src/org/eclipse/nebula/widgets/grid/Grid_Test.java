@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -281,6 +281,43 @@ public class Grid_Test {
     assertEquals( 2, grid.indexOf( items[ 4 ] ) );
   }
 
+  @Test
+  public void testIndexOf_AfterInsert() {
+    GridItem[] items = createGridItems( grid, 3, 1 );
+    grid.indexOf( items[ 5 ] );
+
+    GridItem item = new GridItem( grid, SWT.NONE, 1 );
+
+    assertEquals( 0, grid.indexOf( items[ 0 ] ) );
+    assertEquals( 2, grid.indexOf( item ) );
+    assertEquals( 3, grid.indexOf( items[ 2 ] ) );
+    assertEquals( 6, grid.indexOf( items[ 5 ] ) );
+  }
+
+  @Test
+  public void testIndexOf_AfterInsertChild() {
+    GridItem[] items = createGridItems( grid, 3, 1 );
+    grid.indexOf( items[ 5 ] );
+
+    GridItem item = new GridItem( items[ 2 ], SWT.NONE, 0 );
+
+    assertEquals( 3, grid.indexOf( item ) );
+    assertEquals( 4, grid.indexOf( items[ 3 ] ) );
+    assertEquals( 6, grid.indexOf( items[ 5 ] ) );
+  }
+
+  @Test
+  public void testIndexOf_AfterRemoveRange() {
+    GridItem[] items = createGridItems( grid, 5, 1 );
+    grid.indexOf( items[ 9 ] );
+
+    grid.remove( 2, 5 );
+
+    assertEquals( 1, grid.indexOf( items[ 1 ] ) );
+    assertEquals( 2, grid.indexOf( items[ 6 ] ) );
+    assertEquals( 5, grid.indexOf( items[ 9 ] ) );
+  }
+
   @Test
   public void testGetColumnCount() {
     createGridColumns( grid, 5, SWT.NONE );
@@ -1540,6 +1577,17 @@ public class Grid_Test {
     assertEquals( 0, grid.getSelectionCount() );
   }
 
+  @Test
+  public void testRemoveByRange_UpdatesSelectionIndices() {
+    grid = new Grid( shell, SWT.MULTI );
+    createGridItems( grid, 10, 0 );
+    grid.selectAll();
+
+    grid.remove( 2, 5 );
+
+    assertArrayEquals( new int[] { 0, 1, 2, 3, 4, 5 }, grid.getSelectionIndices() );
+  }
+
   @Test
   public void testRemoveByRange() {
     createGridItems( grid, 3, 3 );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -45,6 +45,7 @@ import org.eclipse.rap.rwt.cluster.testfixture.server.IServletEngineCluster;
 import org.eclipse.rap.rwt.cluster.testfixture.server.IServletEngineFactory;
 import org.eclipse.rap.rwt.cluster.testfixture.server.JettyFactory;
 import org.eclipse.rap.rwt.cluster.testfixture.server.TomcatFactory;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.service.UISessionImpl;
 import org.eclipse.rap.rwt.service.UISession;
@@ -96,6 +97,7 @@ public class SessionFailover_Test {
   @After
   public void tearDown() throws Exception {
     cluster.stop();
+    System.clearProperty( RWTProperties.REPLICATE_CHANGED_UI_SESSIONS_ONLY );
   }
 
   @Test
@@ -122,6 +124,20 @@ public class SessionFailover_Test {
     assertNotSame( primaryDisplay, secondaryDisplay );
   }
 
+  @Test
+  public void testButtonEntryPoint_withChangedUISessionsOnly() throws Exception {
+    System.setProperty( RWTProperties.REPLICATE_CHANGED_UI_SESSIONS_ONLY, "true" );
+    initializeClient( ButtonEntryPoint.class );
+    clickCenterButton( 1, 4 );
+
+    cluster.removeServletEngine( primary );
+    client.changeServletEngine( secondary );
+    clickCenterButton( 5, 8 );
+
+    HttpSession secondarySession = ClusterTestHelper.getFirstHttpSession( secondary );
+    assertSessionIsIntact( secondarySession, client );
+  }
+
   @Test
   public void testResourcesEntryPoint() throws Exception {
     initializeClient( ResourcesEntryPoint.class );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2013 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -77,6 +77,38 @@ rwt.qx.Class.define( "org.eclipse.rap.clientscripting.Function_Test", {
       assertTrue( result instanceof Function );
     },
 
+    testFunctionByProtocolSharesTopLevelVariables : function() {
+      // the server shares one remote function between listeners with identical code
+      // (org.eclipse.rap.rwt.shareClientFunctions), these listeners share its top-level variables
+      var ObjectManager = rwt.remote.ObjectRegistry;
+      var processor = rwt.remote.MessageProcessor;
+      var code = "var count = 0; var handleEvent = function(){ return ++count; };";
+
+      processor.processOperation( {
+        "target" : "w4",
+        "action" : "create",
+        "type" : "rwt.scripting.Function",
+        "properties" : {
+          "scriptCode" : code,
+          "name" : "handleEvent"
+        }
+      } );
+      var listener = ObjectManager.getObject( "w4" );
+
+      assertEquals( 1, listener() );
+      assertEquals( 2, listener() );
+    },
+
+    testCreateFunctionTwiceSeparatesTopLevelVariables : function() {
+      var code = "var count = 0; var handleEvent = function(){ return ++count; };";
+      var listener1 = FunctionFactory.createFunction( code, "handleEvent" );
+      var listener2 = FunctionFactory.createFunction( code, "handleEvent" );
+
+      listener1();
+
+      assertEquals( 1, listener2() );
+    },
+
     testCallWithArgument : function() {
       var code = "function handleEvent( e ){ e.x++; }";
       var listener = FunctionFactory.createFunction( code, "handleEvent" );
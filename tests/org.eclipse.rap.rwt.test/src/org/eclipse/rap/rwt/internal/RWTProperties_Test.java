@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2016 EclipseSource and others.
+ * Copyright (c) 2013, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,8 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal;
 
+import static org.eclipse.rap.rwt.internal.RWTProperties.COMPRESSION;
+import static org.eclipse.rap.rwt.internal.RWTProperties.PRECOMPRESS_RESOURCES;
 import static org.eclipse.rap.rwt.internal.RWTProperties.SERVICE_HANDLER_BASE_URL;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -34,6 +36,8 @@ public class RWTProperties_Test {
   public void tearDown() {
     System.getProperties().remove( TEST_PROPERTY );
     System.getProperties().remove( SERVICE_HANDLER_BASE_URL );
+    System.getProperties().remove( COMPRESSION );
+    System.getProperties().remove( PRECOMPRESS_RESOURCES );
   }
 
   @Test
@@ -102,4 +106,24 @@ public class RWTProperties_Test {
     assertEquals( "http://foo/bar", RWTProperties.getServiceHandlerBaseUrl() );
   }
 
+  @Test
+  public void testPrecompressResources_isDisabledByDefault() {
+    assertFalse( RWTProperties.precompressResources() );
+  }
+
+  @Test
+  public void testPrecompressResources_isIndependentOfCompression() {
+    System.setProperty( COMPRESSION, "true" );
+
+    assertTrue( RWTProperties.isCompressionEnabled() );
+    assertFalse( RWTProperties.precompressResources() );
+  }
+
+  @Test
+  public void testPrecompressResources_whenEnabled() {
+    System.setProperty( PRECOMPRESS_RESOURCES, "true" );
+
+    assertTrue( RWTProperties.precompressResources() );
+  }
+
 }
@@ -0,0 +1,416 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.rap.rwt.testfixture.internal.TestMessage;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.internal.widgets.ControlUtil;
+import org.eclipse.swt.internal.widgets.IDisplayAdapter;
+import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
+import org.eclipse.swt.internal.widgets.displaykit.DisplayLCA;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Text;
+import org.eclipse.swt.widgets.Widget;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class DirtyWidgets_Test {
+
+  private Display display;
+  private DirtyWidgets dirtyWidgets;
+  private Shell shell;
+  private Composite composite;
+  private Label label;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    System.setProperty( RWTProperties.DIRTY_TRACKING, "true" );
+    display = new Display();
+    dirtyWidgets = display.getAdapter( IDisplayAdapter.class ).getDirtyWidgets();
+    shell = new Shell( display );
+    composite = new Composite( shell, SWT.NONE );
+    label = new Label( composite, SWT.NONE );
+    label.setText( "foo" );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( composite );
+    Fixture.markInitialized( label );
+    dirtyWidgets.clearPreserved();
+    dirtyWidgets.takeChangedTabOrders();
+  }
+
+  @After
+  public void tearDown() {
+    System.getProperties().remove( RWTProperties.DIRTY_TRACKING );
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testMarkDirty_marksAncestors() {
+    setTrackingChanges( true );
+
+    dirtyWidgets.markDirty( label );
+
+    assertTrue( getRemoteAdapter( label ).isDirty() );
+    assertTrue( getRemoteAdapter( composite ).isDirty() );
+    assertTrue( getRemoteAdapter( shell ).isDirty() );
+  }
+
+  @Test
+  public void testMarkDirty_stopsAtDirtyAncestor() {
+    getRemoteAdapter( composite ).markDirty();
+    setTrackingChanges( true );
+
+    dirtyWidgets.markDirty( label );
+
+    assertTrue( getRemoteAdapter( label ).isDirty() );
+    assertFalse( getRemoteAdapter( shell ).isDirty() );
+  }
+
+  @Test
+  public void testMarkDirty_preservesValuesBeforeChange() {
+    setTrackingChanges( true );
+
+    label.setText( "bar" );
+
+    assertEquals( "foo", getRemoteAdapter( label ).getPreserved( "text" ) );
+  }
+
+  @Test
+  public void testMarkDirty_withoutTrackingChanges() {
+    label.setText( "bar" );
+
+    assertFalse( getRemoteAdapter( label ).isDirty() );
+  }
+
+  @Test
+  public void testGetter_doesNotMarkDirty() {
+    setTrackingChanges( true );
+
+    label.getText();
+    label.getBounds();
+
+    assertFalse( getRemoteAdapter( label ).isDirty() );
+    assertFalse( getRemoteAdapter( composite ).isDirty() );
+  }
+
+  @Test
+  public void testSetParent_marksNewParentDirty() {
+    Composite newParent = new Composite( shell, SWT.NONE );
+    Label otherLabel = new Label( newParent, SWT.NONE );
+    Fixture.markInitialized( newParent );
+    Fixture.markInitialized( otherLabel );
+    setTrackingChanges( true );
+
+    label.setParent( newParent );
+
+    assertTrue( getRemoteAdapter( newParent ).isDirty() );
+    assertTrue( getRemoteAdapter( composite ).isDirty() );
+    assertFalse( getRemoteAdapter( otherLabel ).isDirty() );
+  }
+
+  @Test
+  public void testMoveAbove_marksParentDirty() {
+    Label otherLabel = new Label( composite, SWT.NONE );
+    Fixture.markInitialized( otherLabel );
+    setTrackingChanges( true );
+
+    otherLabel.moveAbove( label );
+
+    assertTrue( getRemoteAdapter( composite ).isDirty() );
+    assertFalse( getRemoteAdapter( label ).isDirty() );
+  }
+
+  @Test
+  public void testDispose_marksParentDirty() {
+    setTrackingChanges( true );
+
+    label.dispose();
+
+    assertTrue( getRemoteAdapter( composite ).isDirty() );
+  }
+
+  @Test
+  public void testRecalculateTabIndex_marksControlsWithChangedTabIndex() {
+    Button button1 = new Button( shell, SWT.PUSH );
+    Button button2 = new Button( shell, SWT.PUSH );
+    Fixture.markInitialized( button1 );
+    Fixture.markInitialized( button2 );
+    ControlLCAUtil.recalculateTabIndex( shell );
+    getRemoteAdapter( button1 ).clearPreserved();
+    getRemoteAdapter( button2 ).clearPreserved();
+    int tabIndex1 = getTabIndex( button1 );
+    int tabIndex2 = getTabIndex( button2 );
+    shell.setTabList( new Control[] { button2, button1, composite } );
+    setTrackingChanges( true );
+
+    ControlLCAUtil.recalculateTabIndex( shell );
+
+    assertTrue( getRemoteAdapter( button1 ).isDirty() );
+    assertTrue( getRemoteAdapter( button2 ).isDirty() );
+    assertEquals( tabIndex1, getTabIndex( button2 ) );
+    assertEquals( tabIndex2, getTabIndex( button1 ) );
+  }
+
+  @Test
+  public void testRecalculateTabIndex_keepsControlsWithUnchangedTabIndexClean() {
+    Button button = new Button( shell, SWT.PUSH );
+    Fixture.markInitialized( button );
+    ControlLCAUtil.recalculateTabIndex( shell );
+    getRemoteAdapter( button ).clearPreserved();
+    setTrackingChanges( true );
+
+    ControlLCAUtil.recalculateTabIndex( shell );
+
+    assertFalse( getRemoteAdapter( button ).isDirty() );
+  }
+
+  @Test
+  public void testClearPreserved_resetsDirty() {
+    setTrackingChanges( true );
+    dirtyWidgets.markDirty( label );
+
+    getRemoteAdapter( label ).clearPreserved();
+
+    assertFalse( getRemoteAdapter( label ).isDirty() );
+  }
+
+  @Test
+  public void testNeedsRender_withCleanWidget() {
+    assertFalse( DirtyWidgets.needsRender( label ) );
+  }
+
+  @Test
+  public void testNeedsRender_withDirtyWidget() {
+    setTrackingChanges( true );
+    dirtyWidgets.markDirty( label );
+
+    assertTrue( DirtyWidgets.needsRender( label ) );
+  }
+
+  @Test
+  public void testNeedsRender_withUninitializedWidget() {
+    Label newLabel = new Label( composite, SWT.NONE );
+
+    assertTrue( DirtyWidgets.needsRender( newLabel ) );
+  }
+
+  @Test
+  public void testNeedsRender_withNonParticipatingLCA() {
+    assertTrue( DirtyWidgets.needsRender( shell ) );
+  }
+
+  @Test
+  public void testGetRenderScope_withoutChanges() {
+    assertTrue( dirtyWidgets.getRenderScope().isEmpty() );
+  }
+
+  @Test
+  public void testGetRenderScope_containsChangedWidgetsAndAncestors() {
+    Label otherLabel = new Label( shell, SWT.NONE );
+    Fixture.markInitialized( otherLabel );
+    dirtyWidgets.clearPreserved();
+    setTrackingChanges( true );
+
+    label.setText( "bar" );
+
+    assertEquals( asSet( shell, composite, label ), dirtyWidgets.getRenderScope() );
+  }
+
+  @Test
+  public void testGetRenderScope_containsCreatedWidgets() {
+    Label newLabel = new Label( composite, SWT.NONE );
+
+    assertEquals( asSet( shell, composite, newLabel ), dirtyWidgets.getRenderScope() );
+  }
+
+  @Test
+  public void testGetRenderScope_containsUntrackedWidgets() {
+    Text text = new Text( composite, SWT.NONE );
+    Fixture.markInitialized( text );
+    dirtyWidgets.markRendered( text );
+    dirtyWidgets.markRendered( label );
+    dirtyWidgets.clearPreserved();
+
+    assertEquals( asSet( shell, composite, text ), dirtyWidgets.getRenderScope() );
+  }
+
+  @Test
+  public void testPreserveValues_preservesUntrackedWidgets() {
+    Text text = new Text( composite, SWT.NONE );
+    text.setText( "foo" );
+    Fixture.markInitialized( text );
+    dirtyWidgets.markRendered( text );
+    dirtyWidgets.clearPreserved();
+
+    dirtyWidgets.preserveValues();
+
+    assertEquals( "foo", getRemoteAdapter( text ).getPreserved( "text" ) );
+    assertNull( getRemoteAdapter( label ).getPreserved( "text" ) );
+  }
+
+  @Test
+  public void testClearPreserved_clearsValuesPreservedWithoutTracking() {
+    label.setText( "bar" );
+
+    dirtyWidgets.clearPreserved();
+
+    assertTrue( dirtyWidgets.getRenderScope().isEmpty() );
+  }
+
+  @Test
+  public void testClearPreserved_keepsWidgetsThatWereNotRendered() {
+    Label newLabel = new Label( composite, SWT.NONE );
+
+    dirtyWidgets.clearPreserved();
+
+    assertTrue( dirtyWidgets.getRenderScope().contains( newLabel ) );
+  }
+
+  @Test
+  public void testClearPreserved_forgetsDisposedWidgets() {
+    Text text = new Text( composite, SWT.NONE );
+    Fixture.markInitialized( text );
+    dirtyWidgets.markRendered( text );
+    text.dispose();
+
+    dirtyWidgets.clearPreserved();
+
+    assertTrue( dirtyWidgets.getRenderScope().isEmpty() );
+  }
+
+  @Test
+  public void testTakeChangedTabOrders_withoutChanges() {
+    assertTrue( dirtyWidgets.takeChangedTabOrders().isEmpty() );
+  }
+
+  @Test
+  public void testTakeChangedTabOrders_afterAddingControl() {
+    new Button( composite, SWT.PUSH );
+
+    assertEquals( Arrays.asList( shell ), dirtyWidgets.takeChangedTabOrders() );
+    assertTrue( dirtyWidgets.takeChangedTabOrders().isEmpty() );
+  }
+
+  @Test
+  public void testTakeChangedTabOrders_afterMovingControl() {
+    Label otherLabel = new Label( composite, SWT.NONE );
+    dirtyWidgets.takeChangedTabOrders();
+
+    otherLabel.moveAbove( label );
+
+    assertEquals( Arrays.asList( shell ), dirtyWidgets.takeChangedTabOrders() );
+  }
+
+  @Test
+  public void testTakeChangedTabOrders_afterSetTabList() {
+    composite.setTabList( new Control[ 0 ] );
+
+    assertEquals( Arrays.asList( shell ), dirtyWidgets.takeChangedTabOrders() );
+  }
+
+  @Test
+  public void testTakeChangedTabOrders_afterChangingProperties() {
+    composite.setBounds( 1, 2, 3, 4 );
+    label.setText( "bar" );
+
+    assertTrue( dirtyWidgets.takeChangedTabOrders().isEmpty() );
+  }
+
+  @Test
+  public void testRender_rendersDirtyWidget() throws IOException {
+    DisplayLCA displayLCA = new DisplayLCA();
+    Fixture.markInitialized( display );
+    displayLCA.preserveValues( display );
+
+    label.setText( "bar" );
+    displayLCA.render( display );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertEquals( "bar", message.findSetProperty( label, "text" ).asString() );
+  }
+
+  @Test
+  public void testRender_registersUntrackedWidgets() throws IOException {
+    DisplayLCA displayLCA = new DisplayLCA();
+    Fixture.markInitialized( display );
+    displayLCA.preserveValues( display );
+    Text text = new Text( composite, SWT.NONE );
+
+    displayLCA.render( display );
+    displayLCA.clearPreserved( display );
+
+    assertEquals( asSet( shell, composite, text ), dirtyWidgets.getRenderScope() );
+  }
+
+  @Test
+  public void testRender_recalculatesTabIndexAfterAddingControl() throws IOException {
+    DisplayLCA displayLCA = new DisplayLCA();
+    Fixture.markInitialized( display );
+    displayLCA.preserveValues( display );
+
+    Button button = new Button( composite, SWT.PUSH );
+    displayLCA.render( display );
+
+    assertTrue( getTabIndex( button ) > 0 );
+  }
+
+  @Test
+  public void testRender_keepsTabIndexWithoutTabOrderChange() throws IOException {
+    DisplayLCA displayLCA = new DisplayLCA();
+    Button button = new Button( composite, SWT.PUSH );
+    Fixture.markInitialized( button );
+    Fixture.markInitialized( display );
+    dirtyWidgets.takeChangedTabOrders();
+    ControlUtil.getControlAdapter( button ).setTabIndex( 42 );
+    displayLCA.preserveValues( display );
+
+    displayLCA.render( display );
+
+    assertEquals( 42, getTabIndex( button ) );
+  }
+
+  private void setTrackingChanges( boolean tracking ) {
+    dirtyWidgets.setTrackingChanges( tracking );
+  }
+
+  private static Set<Widget> asSet( Widget... widgets ) {
+    return new HashSet<Widget>( Arrays.asList( widgets ) );
+  }
+
+  private static int getTabIndex( Control control ) {
+    return ControlUtil.getControlAdapter( control ).getTabIndex();
+  }
+
+  private static WidgetRemoteAdapter getRemoteAdapter( Widget widget ) {
+    return ( WidgetRemoteAdapter )WidgetUtil.getAdapter( widget );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -30,6 +30,7 @@ import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -518,9 +519,9 @@ public class RWTLifeCycle_Test {
       @Override
       public void run() {
         while( continueLoop.get() ) {
-          IUIThreadHolder uiThread = ( IUIThreadHolder )Thread.currentThread();
-          synchronized( uiThread.getLock() ) {
-          }
+          IUIThreadHolder uiThread = UIThread.getCurrent();
+          uiThread.getLock().lock();
+          uiThread.getLock().unlock();
           uiThread.updateServiceContext();
           uiContext.set( ContextProvider.getContext() );
           log.append( "executedInUIThread" );
@@ -544,7 +545,7 @@ public class RWTLifeCycle_Test {
     }
     assertSame( originContext, uiContext.get() );
     assertEquals( "executedInUIThread", log.toString() );
-    assertTrue( getUIThread().isAlive() );
+    assertTrue( getUIThread().getThread().isAlive() );
     // simulates subsequent request
     log.setLength( 0 );
     uiContext.set( null );
@@ -559,7 +560,7 @@ public class RWTLifeCycle_Test {
     }
     assertSame( secondContext, uiContext.get() );
     assertEquals( "executedInUIThread", log.toString() );
-    assertTrue( getUIThread().isAlive() );
+    assertTrue( getUIThread().getThread().isAlive() );
     // simulates request that ends event loop
     UIThread endingUIThread = getUIThread();
     continueLoop.set( false );
@@ -569,7 +570,7 @@ public class RWTLifeCycle_Test {
         throw error.get();
       }
     }
-    assertFalse( endingUIThread.isAlive() );
+    assertFalse( endingUIThread.getThread().isAlive() );
     assertNull( getUIThread() );
     // clean up
     ContextProvider.releaseContextHolder();
@@ -612,7 +613,7 @@ public class RWTLifeCycle_Test {
     lifeCycle.addPhaseListener( new LoggingPhaseListener() );
     UIThread thread = new UIThread( lifeCycle.uiRunnable );
     thread.setServiceContext( ContextProvider.getContext() );
-    thread.start();
+    thread.getThread().start();
     // TODO [rh] Find more failsafe solution
     Thread.sleep( 200 );
 
@@ -647,9 +648,9 @@ public class RWTLifeCycle_Test {
       @Override
       public void run() {
         try {
-          synchronized( uiThread.get().getLock() ) {
-          }
-          IUIThreadHolder uiThread = ( IUIThreadHolder )Thread.currentThread();
+          uiThread.get().getLock().lock();
+          uiThread.get().getLock().unlock();
+          IUIThreadHolder uiThread = UIThread.getCurrent();
           uiThread.updateServiceContext();
           lifeCycle.continueLifeCycle();
           log.setLength( 0 );
@@ -667,9 +668,12 @@ public class RWTLifeCycle_Test {
     LifeCycleUtil.setUIThread( ContextProvider.getUISession(), uiThread.get() );
 
     uiThread.get().setServiceContext( ContextProvider.getContext() );
-    synchronized( uiThread.get().getLock() ) {
-      uiThread.get().start();
+    uiThread.get().getLock().lock();
+    try {
+      uiThread.get().getThread().start();
       uiThread.get().switchThread();
+    } finally {
+      uiThread.get().getLock().unlock();
     }
 
     if( error.get() != null ) {
@@ -745,7 +749,7 @@ public class RWTLifeCycle_Test {
              + PhaseId.PROCESS_ACTION
              + "readAndDispatch";
     assertEquals( expected, log.toString() );
-    assertFalse( uiThread.get().isAlive() );
+    assertFalse( uiThread.get().getThread().isAlive() );
   }
 
   @Test
@@ -905,14 +909,13 @@ public class RWTLifeCycle_Test {
         }
       }
     } ) );
-    uiThread.get().start();
+    uiThread.get().getThread().start();
     Thread.sleep( 100 );
-    uiThread.get().interrupt();
+    uiThread.get().getThread().interrupt();
     assertNull( "switchThread must not unblock when thread is interrupted", errorInUIThread.get() );
     // unblock ui thread, see bug 351277
-    synchronized( uiThread.get().getLock() ) {
-      uiThread.get().getLock().notifyAll();
-    }
+    uiThread.get().setUISession( ContextProvider.getUISession() );
+    uiThread.get().terminateThread();
   }
 
   @Test
@@ -953,6 +956,54 @@ public class RWTLifeCycle_Test {
     assertNotNull( uiThread );
   }
 
+  @Test
+  public void testCreateUIThread_usesUIThreadFactory() throws IOException {
+    entryPointManager.register( TestRequest.DEFAULT_SERVLET_PATH, TestEntryPoint.class, null );
+    RWTLifeCycle lifeCycle = new RWTLifeCycle( getApplicationContext() );
+    final List<Thread> createdThreads = new ArrayList<>();
+    lifeCycle.setUIThreadFactory( new UIThreadFactory() {
+      @Override
+      public Thread createThread( Runnable runnable, String name ) {
+        Thread result = new PlatformUIThreadFactory().createThread( runnable, name );
+        createdThreads.add( result );
+        return result;
+      }
+    } );
+
+    lifeCycle.execute();
+
+    Thread uiThread = LifeCycleUtil.getUIThread( ContextProvider.getUISession() ).getThread();
+    assertEquals( 1, createdThreads.size() );
+    assertSame( createdThreads.get( 0 ), uiThread );
+    assertTrue( uiThread.getName().startsWith( "UIThread [" ) );
+  }
+
+  @Test
+  public void testGetCurrentUIThread() throws IOException {
+    entryPointManager.register( TestRequest.DEFAULT_SERVLET_PATH, TestEntryPoint.class, null );
+    RWTLifeCycle lifeCycle = new RWTLifeCycle( getApplicationContext() );
+    final AtomicReference<UIThread> currentUIThread = new AtomicReference<>();
+    lifeCycle.addPhaseListener( new PhaseListener() {
+      private static final long serialVersionUID = 1L;
+      @Override
+      public PhaseId getPhaseId() {
+        return PhaseId.PREPARE_UI_ROOT;
+      }
+      @Override
+      public void beforePhase( PhaseEvent event ) {
+      }
+      @Override
+      public void afterPhase( PhaseEvent event ) {
+        currentUIThread.set( UIThread.getCurrent() );
+      }
+    } );
+
+    lifeCycle.execute();
+
+    assertSame( LifeCycleUtil.getUIThread( ContextProvider.getUISession() ), currentUIThread.get() );
+    assertNull( UIThread.getCurrent() );
+  }
+
   @Test
   public void testNotifyUIThreadListeners() throws IOException {
     entryPointManager.register( TestRequest.DEFAULT_SERVLET_PATH, TestPhasesEntryPoint.class, null );
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class VirtualUIThreadFactory_Test {
+
+  private VirtualUIThreadFactory factory;
+
+  @Before
+  public void setUp() {
+    factory = new VirtualUIThreadFactory();
+  }
+
+  @Test
+  public void testCreateThread_isNotStarted() {
+    Thread thread = factory.createThread( new Runnable() {
+      @Override
+      public void run() {
+      }
+    }, "name" );
+
+    assertFalse( thread.isAlive() );
+  }
+
+  @Test
+  public void testCreateThread_hasName() {
+    Thread thread = factory.createThread( new Runnable() {
+      @Override
+      public void run() {
+      }
+    }, "UIThread [foo]" );
+
+    assertEquals( "UIThread [foo]", thread.getName() );
+  }
+
+  @Test
+  public void testCreateThread_isDaemon() {
+    Thread thread = factory.createThread( new Runnable() {
+      @Override
+      public void run() {
+      }
+    }, "name" );
+
+    assertTrue( thread.isDaemon() );
+  }
+
+  @Test
+  public void testCreateThread_runsRunnable() throws InterruptedException {
+    final AtomicBoolean executed = new AtomicBoolean();
+    Thread thread = factory.createThread( new Runnable() {
+      @Override
+      public void run() {
+        executed.set( true );
+      }
+    }, "name" );
+
+    thread.start();
+    thread.join();
+
+    assertTrue( executed.get() );
+  }
+
+  @Test
+  public void testIsSupported_dependsOnJavaVersion() {
+    boolean hasVirtualThreads;
+    try {
+      Thread.class.getMethod( "ofVirtual" );
+      hasVirtualThreads = true;
+    } catch( @SuppressWarnings( "unused" ) NoSuchMethodException e ) {
+      hasVirtualThreads = false;
+    }
+
+    assertEquals( Boolean.valueOf( hasVirtualThreads ), Boolean.valueOf( factory.isSupported() ) );
+  }
+
+}
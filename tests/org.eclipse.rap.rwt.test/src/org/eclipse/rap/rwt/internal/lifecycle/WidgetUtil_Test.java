@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -25,6 +25,8 @@ import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -61,6 +63,78 @@ public class WidgetUtil_Test {
     assertNull( WidgetUtil.find( composite, shellId ) );
   }
 
+  @Test
+  public void testFind_withNullId() {
+    assertNull( WidgetUtil.find( shell, null ) );
+  }
+
+  @Test
+  public void testFind_withUnknownId() {
+    assertNull( WidgetUtil.find( shell, "w999" ) );
+  }
+
+  @Test
+  public void testFind_withItem() {
+    Tree tree = new Tree( shell, SWT.NONE );
+    TreeItem item = new TreeItem( tree, SWT.NONE );
+    TreeItem subItem = new TreeItem( item, SWT.NONE );
+
+    assertSame( subItem, WidgetUtil.find( tree, WidgetUtil.getId( subItem ) ) );
+    assertSame( subItem, WidgetUtil.find( shell, WidgetUtil.getId( subItem ) ) );
+  }
+
+  @Test
+  public void testFind_excludesChildShells() {
+    Shell childShell = new Shell( shell );
+    Button button = new Button( childShell, SWT.PUSH );
+
+    assertNull( WidgetUtil.find( shell, WidgetUtil.getId( button ) ) );
+    assertSame( button, WidgetUtil.find( childShell, WidgetUtil.getId( button ) ) );
+  }
+
+  @Test
+  public void testFind_afterDispose() {
+    Button button = new Button( shell, SWT.PUSH );
+    String buttonId = WidgetUtil.getId( button );
+
+    button.dispose();
+
+    assertNull( WidgetUtil.find( shell, buttonId ) );
+    assertNull( WidgetUtil.find( display, buttonId ) );
+  }
+
+  @Test
+  public void testFind_afterParentDispose() {
+    Composite composite = new Composite( shell, SWT.NONE );
+    Button button = new Button( composite, SWT.PUSH );
+    String buttonId = WidgetUtil.getId( button );
+
+    composite.dispose();
+
+    assertNull( WidgetUtil.find( display, buttonId ) );
+  }
+
+  @Test
+  public void testFind_afterReparent() {
+    Composite composite1 = new Composite( shell, SWT.NONE );
+    Composite composite2 = new Composite( shell, SWT.NONE );
+    Button button = new Button( composite1, SWT.PUSH );
+    String buttonId = WidgetUtil.getId( button );
+
+    button.setParent( composite2 );
+
+    assertNull( WidgetUtil.find( composite1, buttonId ) );
+    assertSame( button, WidgetUtil.find( composite2, buttonId ) );
+  }
+
+  @Test
+  public void testFind_onDisplay() {
+    Button button = new Button( shell, SWT.PUSH );
+
+    assertSame( button, WidgetUtil.find( display, WidgetUtil.getId( button ) ) );
+    assertSame( shell, WidgetUtil.find( display, WidgetUtil.getId( shell ) ) );
+  }
+
   @Test
   public void testGetVariant() {
     shell.setData( RWT.CUSTOM_VARIANT, "foo" );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,9 @@ package org.eclipse.rap.rwt.internal.protocol;
 import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
 import static org.junit.Assert.assertEquals;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
@@ -180,6 +183,23 @@ public class Operation_Test {
     assertEquals( new JsonObject().add( "prop", false ), operation.getProperties() );
   }
 
+  @Test
+  public void testWriteTo_isEqualToJson() throws IOException {
+    JsonObject properties = new JsonObject().add( "foo", "\u2028" ).add( "bar", 23 );
+    Operation[] operations = {
+      new CreateOperation( "target", "type", properties ),
+      new DestroyOperation( "target" ),
+      new SetOperation( "target", properties ),
+      new CallOperation( "target", "method", properties ),
+      new ListenOperation( "target", properties ),
+      new NotifyOperation( "target", "event", properties )
+    };
+
+    for( Operation operation : operations ) {
+      assertEquals( operation.toJson().toString(), writeToString( operation ) );
+    }
+  }
+
   @Test
   public void testOperationsAreSerializable() throws Exception {
     SetOperation operation = new SetOperation( "target", new JsonObject().add( "foo", 23 ) );
@@ -189,4 +209,10 @@ public class Operation_Test {
     assertEquals( operation.toJson(), deserialized.toJson() );
   }
 
+  private static String writeToString( Operation operation ) throws IOException {
+    StringWriter writer = new StringWriter();
+    operation.writeTo( writer );
+    return writer.toString();
+  }
+
 }
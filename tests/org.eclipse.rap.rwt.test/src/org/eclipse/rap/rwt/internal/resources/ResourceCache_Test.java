@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ResourceCache_Test {
+
+  private File tempDir;
+  private ResourceCache cache;
+
+  @Before
+  public void setUp() {
+    tempDir = FileUtil.createTempDir();
+    cache = new ResourceCache( new File( tempDir, "cache" ) );
+  }
+
+  @After
+  public void tearDown() {
+    FileUtil.delete( tempDir );
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testCreate_withNullDirectory() {
+    new ResourceCache( null );
+  }
+
+  @Test
+  public void testToKey_isStableForSameContent() {
+    assertEquals( key( new byte[] { 1, 2, 3 } ), key( new byte[] { 1, 2, 3 } ) );
+  }
+
+  @Test
+  public void testToKey_differsForDifferentContent() {
+    assertNotEquals( key( new byte[] { 1, 2, 3 } ), key( new byte[] { 1, 2, 4 } ) );
+  }
+
+  @Test
+  public void testToKey_isHexString() {
+    String key = key( new byte[] { 1, 2, 3 } );
+
+    assertEquals( 64, key.length() );
+    assertTrue( key.matches( "[0-9a-f]+" ) );
+  }
+
+  @Test
+  public void testCopyTo_withMissingEntry() {
+    File target = new File( tempDir, "target" );
+
+    boolean copied = cache.copyTo( "missing", target );
+
+    assertFalse( copied );
+    assertFalse( target.exists() );
+  }
+
+  @Test
+  public void testCopyTo_afterStore() throws IOException {
+    File source = createFile( "source", new byte[] { 1, 2, 3 } );
+    File target = new File( tempDir, "target" );
+    cache.store( "key", source );
+
+    boolean copied = cache.copyTo( "key", target );
+
+    assertTrue( copied );
+    assertArrayEquals( new byte[] { 1, 2, 3 }, Files.readAllBytes( target.toPath() ) );
+  }
+
+  @Test
+  public void testStore_replacesEntry() throws IOException {
+    File target = new File( tempDir, "target" );
+    cache.store( "key", createFile( "source1", new byte[] { 1 } ) );
+
+    cache.store( "key", createFile( "source2", new byte[] { 2 } ) );
+
+    cache.copyTo( "key", target );
+    assertArrayEquals( new byte[] { 2 }, Files.readAllBytes( target.toPath() ) );
+    assertEquals( 1, cache.getDirectory().list().length );
+  }
+
+  @Test
+  public void testStore_withMissingSource() {
+    cache.store( "key", new File( tempDir, "missing" ) );
+
+    assertFalse( cache.copyTo( "key", new File( tempDir, "target" ) ) );
+  }
+
+  @Test
+  public void testPrune_removesUnusedEntries() throws IOException {
+    String oldKey = createKey( "old" );
+    String newKey = createKey( "new" ) + ".gz";
+    cache.store( oldKey, createFile( "source", new byte[] { 1 } ) );
+    cache.store( newKey, createFile( "source", new byte[] { 1 } ) );
+    new File( cache.getDirectory(), oldKey ).setLastModified( getUnusedTime() );
+
+    cache.prune();
+
+    assertFalse( cache.copyTo( oldKey, new File( tempDir, "target" ) ) );
+    assertTrue( cache.copyTo( newKey, new File( tempDir, "target" ) ) );
+  }
+
+  @Test
+  public void testPrune_removesUnusedCompressedEntries() throws IOException {
+    String key = createKey( "old" ) + ".gz";
+    cache.store( key, createFile( "source", new byte[] { 1 } ) );
+    new File( cache.getDirectory(), key ).setLastModified( getUnusedTime() );
+
+    cache.prune();
+
+    assertFalse( new File( cache.getDirectory(), key ).exists() );
+  }
+
+  @Test
+  public void testPrune_removesLeftOverTempFiles() throws IOException {
+    cache.getDirectory().mkdirs();
+    File tempFile = new File( cache.getDirectory(), "." + createKey( "old" ) + ".gz.123.tmp" );
+    Files.write( tempFile.toPath(), new byte[] { 1 } );
+    tempFile.setLastModified( getUnusedTime() );
+
+    cache.prune();
+
+    assertFalse( tempFile.exists() );
+  }
+
+  @Test
+  public void testPrune_keepsForeignFiles() throws IOException {
+    cache.getDirectory().mkdirs();
+    File foreignFile = new File( cache.getDirectory(), "foo.txt" );
+    Files.write( foreignFile.toPath(), new byte[] { 1 } );
+    foreignFile.setLastModified( getUnusedTime() );
+
+    cache.prune();
+
+    assertTrue( foreignFile.exists() );
+  }
+
+  @Test
+  public void testIsCacheFile() {
+    String key = createKey( "foo" );
+
+    assertTrue( ResourceCache.isCacheFile( key ) );
+    assertTrue( ResourceCache.isCacheFile( key + ".gz" ) );
+    assertTrue( ResourceCache.isCacheFile( "." + key + ".123.tmp" ) );
+    assertFalse( ResourceCache.isCacheFile( key + ".js" ) );
+    assertFalse( ResourceCache.isCacheFile( key.substring( 1 ) ) );
+    assertFalse( ResourceCache.isCacheFile( "foo.tmp" ) );
+  }
+
+  @Test
+  public void testPrune_withoutDirectory() {
+    cache.prune();
+
+    assertFalse( cache.getDirectory().exists() );
+  }
+
+  private static String createKey( String content ) {
+    MessageDigest digest = ResourceCache.createDigest();
+    digest.update( content.getBytes( StandardCharsets.UTF_8 ) );
+    return ResourceCache.toKey( digest );
+  }
+
+  private static long getUnusedTime() {
+    return System.currentTimeMillis() - TimeUnit.DAYS.toMillis( 31 );
+  }
+
+  private File createFile( String name, byte[] content ) throws IOException {
+    File result = new File( tempDir, name );
+    Files.write( result.toPath(), content );
+    return result;
+  }
+
+  private static String key( byte[] content ) {
+    MessageDigest digest = ResourceCache.createDigest();
+    digest.update( content );
+    return ResourceCache.toKey( digest );
+  }
+
+}
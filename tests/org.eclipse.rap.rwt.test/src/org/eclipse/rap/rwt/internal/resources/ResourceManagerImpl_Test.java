@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -31,6 +31,7 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.zip.GZIPInputStream;
 
 import org.eclipse.rap.rwt.service.ResourceLoader;
 import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
@@ -391,6 +392,92 @@ public class ResourceManagerImpl_Test {
     }
   }
 
+  @Test
+  public void testRegister_withoutPrecompression() {
+    String resource = "path/to/script.js";
+
+    resourceManager.register( resource, createInputStream() );
+
+    assertFalse( getCompressedFile( resource ).exists() );
+  }
+
+  @Test
+  public void testRegister_withPrecompression() throws IOException {
+    ResourceDirectory resourceDirectory = getApplicationContext().getResourceDirectory();
+    resourceManager = new ResourceManagerImpl( resourceDirectory, true );
+    String resource = "path/to/script.js";
+    byte[] bytes = new byte[] { 1, 2, 3 };
+
+    resourceManager.register( resource, new ByteArrayInputStream( bytes ) );
+
+    InputStream inputStream = new GZIPInputStream( new FileInputStream( getCompressedFile( resource ) ) );
+    try {
+      assertArrayEquals( bytes, read( inputStream ) );
+    } finally {
+      inputStream.close();
+    }
+  }
+
+  @Test
+  public void testRegister_withPrecompression_skipsBinaryResources() {
+    ResourceDirectory resourceDirectory = getApplicationContext().getResourceDirectory();
+    resourceManager = new ResourceManagerImpl( resourceDirectory, true );
+    String resource = "path/to/image.png";
+
+    resourceManager.register( resource, createInputStream() );
+
+    assertFalse( getCompressedFile( resource ).exists() );
+  }
+
+  @Test
+  public void testRegister_withPrecompressionAndCache_storesCompressedResource() {
+    File cacheDir = new File( getWebContextDirectory(), "cache" );
+    ResourceCache cache = new ResourceCache( cacheDir );
+    ResourceDirectory resourceDirectory = getApplicationContext().getResourceDirectory();
+    resourceManager = new ResourceManagerImpl( resourceDirectory, true, cache );
+
+    resourceManager.register( "path/to/script.js", createInputStream() );
+
+    assertEquals( 1, cacheDir.list().length );
+    FileUtil.delete( cacheDir );
+  }
+
+  @Test
+  public void testRegister_withPrecompressionAndCache_reusesCompressedResource()
+    throws IOException
+  {
+    File cacheDir = new File( getWebContextDirectory(), "cache" );
+    ResourceCache cache = new ResourceCache( cacheDir );
+    ResourceDirectory resourceDirectory = getApplicationContext().getResourceDirectory();
+    new ResourceManagerImpl( resourceDirectory, true, cache )
+      .register( "path/to/script.js", createInputStream() );
+    resourceManager = new ResourceManagerImpl( resourceDirectory, true, cache );
+
+    resourceManager.register( "path/to/other.js", createInputStream() );
+
+    assertEquals( 1, cacheDir.list().length );
+    InputStream inputStream
+      = new GZIPInputStream( new FileInputStream( getCompressedFile( "path/to/other.js" ) ) );
+    try {
+      assertArrayEquals( new byte[] { 1, 2, 3 }, read( inputStream ) );
+    } finally {
+      inputStream.close();
+    }
+    FileUtil.delete( cacheDir );
+  }
+
+  @Test
+  public void testUnregister_deletesCompressedResource() {
+    ResourceDirectory resourceDirectory = getApplicationContext().getResourceDirectory();
+    resourceManager = new ResourceManagerImpl( resourceDirectory, true );
+    String resource = "path/to/script.js";
+    resourceManager.register( resource, createInputStream() );
+
+    resourceManager.unregister( resource );
+
+    assertFalse( getCompressedFile( resource ).exists() );
+  }
+
   private static byte[] read( File file ) throws IOException {
     FileInputStream inputStream = new FileInputStream( file );
     try {
@@ -436,6 +523,11 @@ public class ResourceManagerImpl_Test {
     return new File( path );
   }
 
+  private static File getCompressedFile( String resourceName ) {
+    File file = getResourceCopyFile( resourceName );
+    return new File( file.getPath() + ResourceManagerImpl.GZIP_SUFFIX );
+  }
+
   private static String getWebContextDirectory() {
     return Fixture.WEB_CONTEXT_DIR.getPath();
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2014 EclipseSource and others.
+ * Copyright (c) 2013, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,11 +11,14 @@
 package org.eclipse.rap.rwt.internal.scripting;
 
 import static org.junit.Assert.*;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.remote.Connection;
 import org.eclipse.rap.rwt.remote.RemoteObject;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
@@ -35,6 +38,7 @@ public class ClientFunction_Test {
 
   @After
   public void tearDown() {
+    System.clearProperty( RWTProperties.SHARE_CLIENT_FUNCTIONS );
     Fixture.tearDown();
   }
 
@@ -67,6 +71,56 @@ public class ClientFunction_Test {
     verify( remoteObject ).set( eq( "scriptCode" ), eq( "script code" ) );
   }
 
+  @Test
+  public void testCreation_withSameScriptCode_createsSeparateRemoteObjectsByDefault() {
+    Connection connection = fakeConnection( mock( RemoteObject.class ) );
+
+    new ClientFunction( "script code" );
+    new ClientFunction( "script code" );
+
+    verify( connection, times( 2 ) ).createRemoteObject( CLIENT_LISTENER_TYPE );
+  }
+
+  @Test
+  public void testCreation_withSharedClientFunctions_sharesRemoteObject() {
+    System.setProperty( RWTProperties.SHARE_CLIENT_FUNCTIONS, "true" );
+    RemoteObject remoteObject = mock( RemoteObject.class );
+    when( remoteObject.getId() ).thenReturn( "foo" );
+    Connection connection = fakeConnection( remoteObject );
+
+    ClientFunction clientFunction1 = new ClientFunction( "script code" );
+    ClientFunction clientFunction2 = new ClientFunction( "script code" );
+
+    verify( connection, times( 1 ) ).createRemoteObject( CLIENT_LISTENER_TYPE );
+    verify( remoteObject, times( 1 ) ).set( eq( "scriptCode" ), eq( "script code" ) );
+    assertEquals( clientFunction1.getRemoteId(), clientFunction2.getRemoteId() );
+  }
+
+  @Test
+  public void testCreation_withSharedClientFunctions_sharesScriptScope() {
+    System.setProperty( RWTProperties.SHARE_CLIENT_FUNCTIONS, "true" );
+    RemoteObject remoteObject = mock( RemoteObject.class );
+    fakeConnection( remoteObject );
+
+    new ClientFunction( "var count = 0; function handleEvent() { count++; }" );
+    new ClientFunction( "var count = 0; function handleEvent() { count++; }" );
+
+    // the client evaluates the script code once per remote function, the top-level variable
+    // count is thus shared by both functions
+    verify( remoteObject, times( 1 ) ).set( eq( "scriptCode" ), anyString() );
+  }
+
+  @Test
+  public void testCreation_withSharedClientFunctions_andDifferentScriptCode() {
+    System.setProperty( RWTProperties.SHARE_CLIENT_FUNCTIONS, "true" );
+    Connection connection = fakeConnection( mock( RemoteObject.class ) );
+
+    new ClientFunction( "script code" );
+    new ClientFunction( "other script code" );
+
+    verify( connection, times( 2 ) ).createRemoteObject( CLIENT_LISTENER_TYPE );
+  }
+
   @Test
   public void testGetRemoteId() {
     RemoteObject remoteObject = mock( RemoteObject.class );
@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
+import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
+import org.eclipse.rap.rwt.testfixture.internal.TestServletOutputStream;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ResponseCompressor_Test {
+
+  private byte[] content;
+  private TestRequest request;
+  private TestResponse response;
+
+  @Before
+  public void setUp() {
+    content = new byte[ 2048 ];
+    Arrays.fill( content, ( byte )'a' );
+    request = new TestRequest();
+    response = new TestResponse();
+  }
+
+  @Test
+  public void testWrite_withoutAcceptEncoding() throws IOException {
+    ResponseCompressor compressor = new ResponseCompressor( true, 1024 );
+
+    compressor.write( content, request, response );
+
+    assertNull( response.getHeader( "Content-Encoding" ) );
+    assertEquals( "Accept-Encoding", response.getHeader( "Vary" ) );
+    assertArrayEquals( content, getWrittenBytes() );
+  }
+
+  @Test
+  public void testWrite_withGzipAccepted() throws IOException {
+    request.setHeader( "Accept-Encoding", "deflate, gzip" );
+    ResponseCompressor compressor = new ResponseCompressor( true, 1024 );
+
+    compressor.write( content, request, response );
+
+    assertEquals( "gzip", response.getHeader( "Content-Encoding" ) );
+    assertArrayEquals( content, decompress( getWrittenBytes() ) );
+  }
+
+  @Test
+  public void testWrite_belowThreshold() throws IOException {
+    request.setHeader( "Accept-Encoding", "gzip" );
+    ResponseCompressor compressor = new ResponseCompressor( true, 4096 );
+
+    compressor.write( content, request, response );
+
+    assertNull( response.getHeader( "Content-Encoding" ) );
+    assertArrayEquals( content, getWrittenBytes() );
+  }
+
+  @Test
+  public void testWrite_whenDisabled() throws IOException {
+    request.setHeader( "Accept-Encoding", "gzip" );
+    ResponseCompressor compressor = new ResponseCompressor( false, 1024 );
+
+    compressor.write( content, request, response );
+
+    assertNull( response.getHeader( "Content-Encoding" ) );
+    assertNull( response.getHeader( "Vary" ) );
+    assertArrayEquals( content, getWrittenBytes() );
+  }
+
+  @Test
+  public void testWrite_notifiesMonitor() throws IOException {
+    request.setHeader( "Accept-Encoding", "gzip" );
+    ResponseCompressor compressor = new ResponseCompressor( true, 1024 );
+    CompressionMonitor monitor = mock( CompressionMonitor.class );
+    compressor.setMonitor( monitor );
+
+    compressor.write( content, request, response );
+
+    verify( monitor ).responseCompressed( eq( 2048 ), eq( getWrittenBytes().length ), anyLong() );
+  }
+
+  @Test
+  public void testWrite_doesNotNotifyMonitorWithoutCompression() throws IOException {
+    ResponseCompressor compressor = new ResponseCompressor( true, 1024 );
+    CompressionMonitor monitor = mock( CompressionMonitor.class );
+    compressor.setMonitor( monitor );
+
+    compressor.write( content, request, response );
+
+    verifyZeroInteractions( monitor );
+  }
+
+  @Test
+  public void testCreateOutputStream_compressesContentExceedingThreshold() throws IOException {
+    request.setHeader( "Accept-Encoding", "gzip" );
+    ResponseCompressor compressor = new ResponseCompressor( true, 1024 );
+
+    OutputStream outputStream = compressor.createOutputStream( request, response );
+    outputStream.write( content, 0, 1000 );
+    outputStream.write( content, 1000, 1048 );
+    outputStream.close();
+
+    assertEquals( "gzip", response.getHeader( "Content-Encoding" ) );
+    assertArrayEquals( content, decompress( getWrittenBytes() ) );
+  }
+
+  @Test
+  public void testCreateOutputStream_holdsBackContentBelowThreshold() throws IOException {
+    request.setHeader( "Accept-Encoding", "gzip" );
+    ResponseCompressor compressor = new ResponseCompressor( true, 4096 );
+
+    OutputStream outputStream = compressor.createOutputStream( request, response );
+    outputStream.write( content );
+
+    assertEquals( 0, getWrittenBytes().length );
+    outputStream.close();
+    assertNull( response.getHeader( "Content-Encoding" ) );
+    assertArrayEquals( content, getWrittenBytes() );
+  }
+
+  @Test
+  public void testCreateOutputStream_writesThroughWithoutCompression() throws IOException {
+    ResponseCompressor compressor = new ResponseCompressor( false, 1024 );
+
+    OutputStream outputStream = compressor.createOutputStream( request, response );
+    outputStream.write( content );
+
+    assertArrayEquals( content, getWrittenBytes() );
+  }
+
+  @Test
+  public void testAcceptsGzip() {
+    assertFalse( acceptsGzip( null ) );
+    assertFalse( acceptsGzip( "deflate" ) );
+    assertFalse( acceptsGzip( "gzip;q=0" ) );
+    assertFalse( acceptsGzip( "gzip; q=0.0, deflate" ) );
+    assertTrue( acceptsGzip( "gzip" ) );
+    assertTrue( acceptsGzip( "GZIP" ) );
+    assertTrue( acceptsGzip( "x-gzip" ) );
+    assertTrue( acceptsGzip( "deflate, gzip;q=0.5" ) );
+  }
+
+  private boolean acceptsGzip( String acceptEncoding ) {
+    TestRequest testRequest = new TestRequest();
+    if( acceptEncoding != null ) {
+      testRequest.setHeader( "Accept-Encoding", acceptEncoding );
+    }
+    return ResponseCompressor.acceptsGzip( testRequest );
+  }
+
+  private byte[] getWrittenBytes() throws IOException {
+    TestServletOutputStream outputStream = ( TestServletOutputStream )response.getOutputStream();
+    return outputStream.getContent().toByteArray();
+  }
+
+  private static byte[] decompress( byte[] bytes ) throws IOException {
+    InputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( bytes ) );
+    ByteArrayOutputStream result = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 512 ];
+    int read = inputStream.read( buffer );
+    while( read != -1 ) {
+      result.write( buffer, 0, read );
+      read = inputStream.read( buffer );
+    }
+    inputStream.close();
+    return result.toByteArray();
+  }
+
+}
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ResponseContent_Test {
+
+  private ByteArrayOutputStream target;
+  private ResponseContent content;
+
+  @Before
+  public void setUp() {
+    target = new ByteArrayOutputStream();
+    content = new ResponseContent( target, 2 );
+  }
+
+  @Test
+  public void testWrite_passesBytesToTarget() throws IOException {
+    content.write( new byte[] { 1, 2, 3 } );
+    content.write( 4 );
+
+    assertArrayEquals( new byte[] { 1, 2, 3, 4 }, target.toByteArray() );
+  }
+
+  @Test
+  public void testWriteTo_writesCollectedBytes() throws IOException {
+    content.write( new byte[] { 1, 2, 3 } );
+    content.write( 4 );
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    content.writeTo( outputStream );
+
+    assertEquals( 4, content.getLength() );
+    assertArrayEquals( new byte[] { 1, 2, 3, 4 }, outputStream.toByteArray() );
+  }
+
+  @Test
+  public void testSerialize() throws Exception {
+    content.write( new byte[] { 1, 2, 3 } );
+
+    ResponseContent deserialized = serializeAndDeserialize( content );
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    deserialized.writeTo( outputStream );
+    assertArrayEquals( new byte[] { 1, 2, 3 }, outputStream.toByteArray() );
+  }
+
+}
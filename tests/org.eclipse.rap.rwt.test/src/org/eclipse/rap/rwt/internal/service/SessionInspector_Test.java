@@ -0,0 +1,355 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getUISession;
+import static org.eclipse.rap.rwt.internal.service.SessionFootprint.ATTRIBUTES;
+import static org.eclipse.rap.rwt.testfixture.internal.TestUtil.createImage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.swt.widgets.TableItem;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class SessionInspector_Test {
+
+  private Display display;
+  private Shell shell;
+  private SessionInspector inspector;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    display = new Display();
+    shell = new Shell( display );
+    inspector = new SessionInspector( true, 60000 );
+  }
+
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testIsDisabledByDefault() {
+    assertFalse( new SessionInspector().isEnabled() );
+  }
+
+  @Test
+  public void testSample_whenDisabled() {
+    inspector = new SessionInspector( false, 0 );
+
+    inspector.sample( getUISession(), display );
+
+    assertNull( inspector.getFootprint( getUISession().getId() ) );
+    assertEquals( 0, inspector.getSessionCount() );
+  }
+
+  @Test
+  public void testSample_countsWidgetsByType() {
+    new Button( shell, SWT.PUSH );
+    new Button( shell, SWT.PUSH );
+
+    inspector.sample( getUISession(), display );
+
+    SessionFootprint footprint = inspector.getFootprint( getUISession().getId() );
+    assertEquals( Integer.valueOf( 1 ), footprint.getWidgetCounts().get( Shell.class.getName() ) );
+    assertEquals( Integer.valueOf( 2 ), footprint.getWidgetCounts().get( Button.class.getName() ) );
+    long expected = 3 * SessionFootprintEstimator.WIDGET_SIZE;
+    assertEquals( expected, footprint.getSize( SessionFootprint.WIDGETS ) );
+  }
+
+  @Test
+  public void testSample_includesPreservedValuesAndImages() throws IOException {
+    Label label = new Label( shell, SWT.NONE );
+    Image image = createImage( display, Fixture.IMAGE1 );
+    label.setImage( image );
+    Fixture.markInitialized( label );
+    Fixture.preserveWidgets();
+
+    inspector.sample( getUISession(), display );
+
+    SessionFootprint footprint = inspector.getFootprint( getUISession().getId() );
+    assertTrue( footprint.getSize( SessionFootprint.PRESERVED_VALUES ) > 0 );
+    Rectangle bounds = image.getBounds();
+    long expected = SessionFootprintEstimator.IMAGE_SIZE
+                  + bounds.width * bounds.height * SessionFootprintEstimator.BYTES_PER_PIXEL;
+    assertEquals( expected, footprint.getSize( SessionFootprint.IMAGES ) );
+  }
+
+  @Test
+  public void testSample_includesImagesOfWidgetsWithoutPreservedValues() throws IOException {
+    Label label = new Label( shell, SWT.NONE );
+    Image image = createImage( display, Fixture.IMAGE1 );
+    label.setImage( image );
+
+    inspector.sample( getUISession(), display );
+
+    SessionFootprint footprint = inspector.getFootprint( getUISession().getId() );
+    assertEquals( 0, footprint.getSize( SessionFootprint.PRESERVED_VALUES ) );
+    long expected = SessionFootprintEstimator.estimateImageSize( image.internalImage );
+    assertEquals( expected, footprint.getSize( SessionFootprint.IMAGES ) );
+  }
+
+  @Test
+  public void testSample_includesImagesOfAllTableItemColumns() throws IOException {
+    Table table = new Table( shell, SWT.NONE );
+    new TableColumn( table, SWT.NONE );
+    new TableColumn( table, SWT.NONE );
+    TableItem item = new TableItem( table, SWT.NONE );
+    Image image1 = createImage( display, Fixture.IMAGE1 );
+    Image image2 = createImage( display, Fixture.IMAGE2 );
+    item.setImage( new Image[] { image1, image2 } );
+
+    inspector.sample( getUISession(), display );
+
+    SessionFootprint footprint = inspector.getFootprint( getUISession().getId() );
+    long expected = SessionFootprintEstimator.estimateImageSize( image1.internalImage )
+                  + SessionFootprintEstimator.estimateImageSize( image2.internalImage );
+    assertEquals( expected, footprint.getSize( SessionFootprint.IMAGES ) );
+  }
+
+  @Test
+  public void testSample_countsSharedImagesOnce() throws IOException {
+    Image image = createImage( display, Fixture.IMAGE1 );
+    new Label( shell, SWT.NONE ).setImage( image );
+    new Label( shell, SWT.NONE ).setImage( image );
+
+    inspector.sample( getUISession(), display );
+
+    SessionFootprint footprint = inspector.getFootprint( getUISession().getId() );
+    long expected = SessionFootprintEstimator.estimateImageSize( image.internalImage );
+    assertEquals( expected, footprint.getSize( SessionFootprint.IMAGES ) );
+  }
+
+  @Test
+  public void testSample_weightsAttributesByValueSize() {
+    inspector.sample( getUISession(), display );
+    long sizeBefore = inspector.getFootprint( getUISession().getId() ).getSize( ATTRIBUTES );
+    getUISession().setAttribute( "data", new byte[ 10000 ] );
+
+    inspector = new SessionInspector( true, 60000 );
+    inspector.sample( getUISession(), display );
+
+    long sizeAfter = inspector.getFootprint( getUISession().getId() ).getSize( ATTRIBUTES );
+    assertTrue( sizeAfter - sizeBefore > 10000 );
+  }
+
+  @Test
+  public void testEstimateValueSize_byteArray() {
+    long size = SessionFootprintEstimator.estimateValueSize( new byte[ 1000 ] );
+
+    assertEquals( SessionFootprintEstimator.OBJECT_SIZE + 1000, size );
+  }
+
+  @Test
+  public void testEstimateValueSize_string() {
+    long size = SessionFootprintEstimator.estimateValueSize( "foo" );
+
+    assertEquals( SessionFootprintEstimator.STRING_SIZE + 6, size );
+  }
+
+  @Test
+  public void testEstimateValueSize_collection() {
+    List<Object> list = Arrays.<Object>asList( new byte[ 1000 ], "foo" );
+
+    long size = SessionFootprintEstimator.estimateValueSize( list );
+
+    long expected = SessionFootprintEstimator.OBJECT_SIZE
+                  + 2 * SessionFootprintEstimator.ENTRY_SIZE
+                  + SessionFootprintEstimator.estimateValueSize( new byte[ 1000 ] )
+                  + SessionFootprintEstimator.estimateValueSize( "foo" );
+    assertEquals( expected, size );
+  }
+
+  @Test
+  public void testEstimateValueSize_map() {
+    Map<String, byte[]> map = new HashMap<>();
+    map.put( "foo", new byte[ 1000 ] );
+
+    long size = SessionFootprintEstimator.estimateValueSize( map );
+
+    long expected = SessionFootprintEstimator.OBJECT_SIZE
+                  + SessionFootprintEstimator.ENTRY_SIZE
+                  + SessionFootprintEstimator.estimateValueSize( "foo" )
+                  + SessionFootprintEstimator.estimateValueSize( new byte[ 1000 ] );
+    assertEquals( expected, size );
+  }
+
+  @Test
+  public void testEstimateValueSize_cyclicCollection() {
+    List<Object> list = new ArrayList<>();
+    list.add( list );
+
+    long size = SessionFootprintEstimator.estimateValueSize( list );
+
+    assertTrue( size > 0 );
+  }
+
+  @Test
+  public void testEstimateValueSize_extrapolatesLargeCollection() {
+    int count = 10 * SessionFootprintEstimator.MAX_ELEMENTS;
+    List<Object> list = new ArrayList<>();
+    for( int i = 0; i < count; i++ ) {
+      list.add( "foo" );
+    }
+
+    long size = SessionFootprintEstimator.estimateValueSize( list );
+
+    long expected = SessionFootprintEstimator.OBJECT_SIZE
+                  + count * ( SessionFootprintEstimator.ENTRY_SIZE
+                              + SessionFootprintEstimator.estimateValueSize( "foo" ) );
+    assertEquals( expected, size );
+  }
+
+  @Test
+  public void testEstimateValueSize_concurrentlyModifiedCollection() {
+    Collection<Object> collection = new AbstractCollection<Object>() {
+      @Override
+      public Iterator<Object> iterator() {
+        throw new ConcurrentModificationException();
+      }
+      @Override
+      public int size() {
+        return 10;
+      }
+    };
+
+    long size = SessionFootprintEstimator.estimateValueSize( collection );
+
+    long expected = SessionFootprintEstimator.OBJECT_SIZE
+                  + 10 * SessionFootprintEstimator.ENTRY_SIZE;
+    assertEquals( expected, size );
+  }
+
+  @Test
+  public void testEstimateValueSize_failingCollection() {
+    Collection<Object> collection = new AbstractCollection<Object>() {
+      @Override
+      public Iterator<Object> iterator() {
+        throw new IllegalStateException();
+      }
+      @Override
+      public int size() {
+        throw new IllegalStateException();
+      }
+    };
+
+    long size = SessionFootprintEstimator.estimateValueSize( collection );
+
+    assertEquals( SessionFootprintEstimator.OBJECT_SIZE, size );
+  }
+
+  @Test
+  public void testEstimateValueSize_otherObject() {
+    long size = SessionFootprintEstimator.estimateValueSize( new Object() );
+
+    assertEquals( SessionFootprintEstimator.OBJECT_SIZE, size );
+  }
+
+  @Test
+  public void testSample_includesResponseBuffer() throws IOException {
+    ResponseContent content = new ResponseContent( new ByteArrayOutputStream(), 8192 );
+    content.write( new byte[ 100 ] );
+    getUISession().setAttribute( LifeCycleServiceHandler.class.getName() + "#lastResponseMessage",
+                                 content );
+
+    inspector.sample( getUISession(), display );
+
+    SessionFootprint footprint = inspector.getFootprint( getUISession().getId() );
+    assertEquals( 100, footprint.getSize( SessionFootprint.RESPONSE_BUFFER ) );
+  }
+
+  @Test
+  public void testSample_respectsInterval() {
+    inspector.sample( getUISession(), display );
+    SessionFootprint footprint = inspector.getFootprint( getUISession().getId() );
+
+    inspector.sample( getUISession(), display );
+
+    assertSame( footprint, inspector.getFootprint( getUISession().getId() ) );
+  }
+
+  @Test
+  public void testSample_afterInterval() {
+    inspector = new SessionInspector( true, 0 );
+    inspector.sample( getUISession(), display );
+    SessionFootprint footprint = inspector.getFootprint( getUISession().getId() );
+
+    inspector.sample( getUISession(), display );
+
+    assertNotNull( inspector.getFootprint( getUISession().getId() ) );
+    assertFalse( footprint == inspector.getFootprint( getUISession().getId() ) );
+  }
+
+  @Test
+  public void testTotals() {
+    inspector.sample( getUISession(), display );
+
+    SessionFootprint footprint = inspector.getFootprint( getUISession().getId() );
+    assertEquals( 1, inspector.getSessionCount() );
+    assertEquals( footprint.getTotalSize(), inspector.getTotalSize() );
+    assertEquals( footprint.getTotalSize(), inspector.getLargestSessionSize() );
+  }
+
+  @Test
+  public void testGetReport() {
+    inspector.sample( getUISession(), display );
+
+    JsonArray report = JsonArray.readFrom( inspector.getReport() );
+
+    assertEquals( 1, report.size() );
+    JsonObject footprint = report.get( 0 ).asObject();
+    assertEquals( getUISession().getId(), footprint.get( "id" ).asString() );
+    assertNotNull( footprint.get( "sizes" ).asObject().get( SessionFootprint.WIDGETS ) );
+  }
+
+  @Test
+  public void testDeactivate_clearsFootprints() {
+    inspector.sample( getUISession(), display );
+
+    inspector.deactivate();
+
+    assertEquals( 0, inspector.getSessionCount() );
+  }
+
+}
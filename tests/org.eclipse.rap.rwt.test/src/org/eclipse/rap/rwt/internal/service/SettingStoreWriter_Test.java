@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static java.util.Collections.singletonMap;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+import org.eclipse.rap.rwt.internal.util.SharedTimer;
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+
+public class SettingStoreWriter_Test {
+
+  private File tempDir;
+  private SharedTimer timer;
+  private File file;
+
+  @Before
+  public void setUp() {
+    tempDir = FileUtil.createTempDir();
+    timer = mock( SharedTimer.class );
+    file = new File( tempDir, "store" );
+  }
+
+  @After
+  public void tearDown() {
+    FileUtil.delete( tempDir );
+  }
+
+  @Test
+  public void testWrite_synchronous() throws IOException {
+    SettingStoreWriter writer = new SettingStoreWriter( timer, 0 );
+
+    writer.write( file, singletonMap( "key", "value" ) );
+
+    assertEquals( "value", load( file ).getProperty( "key" ) );
+    verifyZeroInteractions( timer );
+  }
+
+  @Test
+  public void testWrite_replacesFile() throws IOException {
+    SettingStoreWriter writer = new SettingStoreWriter( timer, 0 );
+    writer.write( file, singletonMap( "key", "value" ) );
+
+    writer.write( file, singletonMap( "key", "value2" ) );
+
+    assertEquals( "value2", load( file ).getProperty( "key" ) );
+    assertEquals( 1, tempDir.list().length );
+  }
+
+  @Test
+  public void testWrite_writeBehindDefersWrite() throws IOException {
+    SettingStoreWriter writer = new SettingStoreWriter( timer, 1000 );
+
+    writer.write( file, singletonMap( "key", "value" ) );
+
+    assertFalse( file.exists() );
+    assertTrue( writer.hasPendingWrites() );
+    verify( timer ).schedule( any( Runnable.class ), anyLong() );
+  }
+
+  @Test
+  public void testWrite_writeBehindCoalescesChanges() throws IOException {
+    SettingStoreWriter writer = new SettingStoreWriter( timer, 1000 );
+
+    writer.write( file, singletonMap( "key", "value" ) );
+    writer.write( file, singletonMap( "key", "value2" ) );
+    runScheduledTask();
+
+    assertEquals( "value2", load( file ).getProperty( "key" ) );
+    assertFalse( writer.hasPendingWrites() );
+    verify( timer, times( 1 ) ).schedule( any( Runnable.class ), anyLong() );
+  }
+
+  @Test
+  public void testWrite_writeBehindReschedulesAfterFlush() throws IOException {
+    SettingStoreWriter writer = new SettingStoreWriter( timer, 1000 );
+    writer.write( file, singletonMap( "key", "value" ) );
+    runScheduledTask();
+
+    writer.write( file, singletonMap( "key", "value2" ) );
+
+    verify( timer, times( 2 ) ).schedule( any( Runnable.class ), anyLong() );
+  }
+
+  @Test
+  public void testFlush() throws IOException {
+    SettingStoreWriter writer = new SettingStoreWriter( timer, 1000 );
+    writer.write( file, singletonMap( "key", "value" ) );
+
+    writer.flush( file );
+
+    assertEquals( "value", load( file ).getProperty( "key" ) );
+    assertFalse( writer.hasPendingWrites() );
+  }
+
+  @Test
+  public void testFlush_withoutPendingWrites() {
+    SettingStoreWriter writer = new SettingStoreWriter( timer, 1000 );
+
+    writer.flush( file );
+
+    assertFalse( file.exists() );
+  }
+
+  @Test
+  public void testShutdown_flushesPendingWrites() throws IOException {
+    SettingStoreWriter writer = new SettingStoreWriter( timer, 1000 );
+    writer.write( file, singletonMap( "key", "value" ) );
+
+    writer.shutdown();
+
+    assertEquals( "value", load( file ).getProperty( "key" ) );
+    verify( timer ).shutdown();
+  }
+
+  private void runScheduledTask() {
+    ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass( Runnable.class );
+    verify( timer ).schedule( captor.capture(), anyLong() );
+    captor.getValue().run();
+  }
+
+  private static Properties load( File file ) throws IOException {
+    Properties result = new Properties();
+    InputStream inputStream = new FileInputStream( file );
+    try {
+      result.load( inputStream );
+    } finally {
+      inputStream.close();
+    }
+    return result;
+  }
+
+}
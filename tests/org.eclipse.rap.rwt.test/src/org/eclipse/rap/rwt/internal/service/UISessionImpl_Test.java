@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -114,6 +114,45 @@ public class UISessionImpl_Test {
     assertSame( result, uiSession );
   }
 
+  @Test
+  public void testIsChanged_isFalseAfterAttachToSession() {
+    uiSession.setAttribute( "name", "value" );
+
+    uiSession.attachToHttpSession();
+
+    assertFalse( uiSession.isChanged() );
+  }
+
+  @Test
+  public void testIsChanged_afterSetAttribute() {
+    uiSession.setAttribute( "name", "value" );
+
+    assertTrue( uiSession.isChanged() );
+  }
+
+  @Test
+  public void testIsChanged_afterRemoveAttribute() {
+    uiSession.removeAttribute( "name" );
+
+    assertTrue( uiSession.isChanged() );
+  }
+
+  @Test
+  public void testIsChanged_afterExec() {
+    uiSession.exec( mock( Runnable.class ) );
+
+    assertTrue( uiSession.isChanged() );
+  }
+
+  @Test
+  public void testIsChanged_isFalseAfterDeserialization() throws Exception {
+    uiSession.setAttribute( "name", "value" );
+
+    UISessionImpl deserializedUISession = serializeAndDeserialize( uiSession );
+
+    assertFalse( deserializedUISession.isChanged() );
+  }
+
   @Test
   public void testGetInstanceFromSession() {
     UISessionImpl result = UISessionImpl.getInstanceFromSession( httpSession, null );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -117,6 +117,58 @@ public class TextSizeStorage_Test {
     assertEquals( 20000, storage.getMaximumStoreSize() );
   }
 
+  @Test
+  public void testCounters() {
+    storage.storeTextSize( KEY_FIRST, SIZE_FIRST );
+
+    storage.lookupTextSize( KEY_FIRST );
+    storage.lookupTextSize( KEY_FIRST );
+    storage.lookupTextSize( KEY_OVERFLOW );
+
+    assertEquals( 2, storage.getHitCount() );
+    assertEquals( 1, storage.getMissCount() );
+    assertEquals( 0, storage.getEvictionCount() );
+  }
+
+  @Test
+  public void testEvictionCount() {
+    populateUntilOverflowThresholdIsReached();
+
+    forceOverflow();
+
+    assertEquals( 100, storage.getEvictionCount() );
+  }
+
+  @Test
+  public void testStorageOverflowHandling_withReplacedEntry() {
+    populateUntilOverflowThresholdIsReached();
+    storage.storeTextSize( KEY_FIRST, SIZE_OVERFLOW );
+
+    forceOverflow();
+
+    assertEquals( SIZE_OVERFLOW, storage.lookupTextSize( KEY_FIRST ) );
+    assertNull( storage.lookupTextSize( new Integer( 100 ) ) );
+    assertEquals( new Point( 101, 101 ), storage.lookupTextSize( new Integer( 101 ) ) );
+  }
+
+  @Test
+  public void testStoreTextSize_withExistingKey_replacesSize() {
+    storage.storeTextSize( KEY_FIRST, SIZE_FIRST );
+
+    storage.storeTextSize( KEY_FIRST, SIZE_OVERFLOW );
+
+    assertEquals( SIZE_OVERFLOW, storage.lookupTextSize( KEY_FIRST ) );
+  }
+
+  @Test
+  public void testStoreTextSize_withExistingKey_doesNotGrowEvictionQueue() {
+    for( int i = 0; i < 100; i++ ) {
+      storage.storeTextSize( KEY_FIRST, new Point( i, i ) );
+    }
+
+    assertEquals( 1, storage.getEvictionQueueSize() );
+  }
+
   private void populateUntilOverflowThresholdIsReached() {
     storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
     for( int i = 0; i < TextSizeStorage.MIN_STORE_SIZE - 1; i++ ) {
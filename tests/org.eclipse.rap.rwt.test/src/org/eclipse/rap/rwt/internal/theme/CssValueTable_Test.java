@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.theme;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import org.eclipse.rap.rwt.internal.theme.css.ConditionalValue;
+import org.eclipse.rap.rwt.internal.theme.css.CssFileReader;
+import org.eclipse.rap.rwt.internal.theme.css.StyleSheet;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Widget;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class CssValueTable_Test {
+
+  private ThemeableWidget[] themeableWidgets;
+  private WidgetMatcher matcher;
+
+  @Before
+  public void setUp() {
+    themeableWidgets = new ThemeableWidget[] {
+      themeableWidget( cssElement( "*" ).addProperty( "color" ) ),
+      themeableWidget(
+        cssElement( "Button" ).addProperty( "color" ).addProperty( "font" ).addStyle( "BORDER" ) )
+    };
+    matcher = new WidgetMatcher();
+    matcher.addStyle( "BORDER", SWT.BORDER );
+  }
+
+  @Test
+  public void testGetValue() {
+    CssValueTable table = new CssValueTable( valuesMap( "Button { color: black }" ), null );
+
+    CssValue value = table.getValue( "Button", "color", SimpleSelector.DEFAULT, null );
+
+    assertEquals( CssColor.valueOf( "black" ), value );
+  }
+
+  @Test
+  public void testGetValue_resortsToFallbackValues() {
+    CssValuesMap valuesMap = valuesMap( "Button[BORDER] { color: blue }" );
+    CssValuesMap fallbackValuesMap = valuesMap( "Button { color: black }" );
+    CssValueTable table = new CssValueTable( valuesMap, fallbackValuesMap );
+
+    CssValue value = table.getValue( "Button", "color", SimpleSelector.DEFAULT, null );
+
+    assertEquals( CssColor.valueOf( "black" ), value );
+  }
+
+  @Test
+  public void testGetValue_prefersThemeValues() {
+    CssValuesMap valuesMap = valuesMap( "Button { color: red }" );
+    CssValuesMap fallbackValuesMap = valuesMap( "Button { color: black }" );
+    CssValueTable table = new CssValueTable( valuesMap, fallbackValuesMap );
+
+    CssValue value = table.getValue( "Button", "color", SimpleSelector.DEFAULT, null );
+
+    assertEquals( CssColor.valueOf( "red" ), value );
+  }
+
+  @Test
+  public void testGetValue_withoutMatchingValue() {
+    CssValueTable table = new CssValueTable( valuesMap( "Button[BORDER] { color: blue }" ), null );
+
+    CssValue value = table.getValue( "Button", "color", SimpleSelector.DEFAULT, null );
+
+    assertNull( value );
+  }
+
+  @Test
+  public void testGetValue_withWidgetMatcher() {
+    CssValuesMap valuesMap = valuesMap( "Button { color: black }",
+                                        "Button[BORDER] { color: blue }" );
+    CssValueTable table = new CssValueTable( valuesMap, null );
+
+    CssValue borderValue = table.getValue( "Button", "color", matcher, widget( SWT.BORDER ) );
+    CssValue plainValue = table.getValue( "Button", "color", matcher, widget( SWT.NONE ) );
+
+    assertEquals( CssColor.valueOf( "blue" ), borderValue );
+    assertEquals( CssColor.valueOf( "black" ), plainValue );
+  }
+
+  @Test
+  public void testGetValue_withWidgetMatcherAndVariant() {
+    CssValuesMap valuesMap = valuesMap( "Button { color: black }",
+                                        "Button.special { color: red }" );
+    CssValueTable table = new CssValueTable( valuesMap, null );
+
+    CssValue value = table.getValue( "Button", "color", matcher, widget( SWT.NONE ) );
+
+    assertEquals( CssColor.valueOf( "black" ), value );
+  }
+
+  @Test
+  public void testGetValue_withWidgetMatcherSkipsUnknownConstraints() {
+    CssValuesMap valuesMap = valuesMap( "Button { color: black }",
+                                        "Button[BORDER] { color: blue }" );
+    CssValueTable table = new CssValueTable( valuesMap, null );
+
+    CssValue value = table.getValue( "Button", "color", new WidgetMatcher(), widget( SWT.BORDER ) );
+
+    assertEquals( CssColor.valueOf( "black" ), value );
+  }
+
+  @Test
+  public void testGetValue_withSimpleSelectorRepeatedly() {
+    CssValuesMap valuesMap = valuesMap( "Button { color: black }",
+                                        "Button[BORDER] { color: blue }" );
+    CssValueTable table = new CssValueTable( valuesMap, null );
+    SimpleSelector selector = new SimpleSelector( "[BORDER" );
+
+    table.getValue( "Button", "color", selector, null );
+    CssValue value = table.getValue( "Button", "color", selector, null );
+
+    assertEquals( CssColor.valueOf( "blue" ), value );
+  }
+
+  @Test
+  public void testGetValue_withSimpleSelectorRepeatedlyWithoutMatchingValue() {
+    CssValueTable table = new CssValueTable( valuesMap( "Button[BORDER] { color: blue }" ), null );
+
+    table.getValue( "Button", "color", SimpleSelector.DEFAULT, null );
+    CssValue value = table.getValue( "Button", "color", SimpleSelector.DEFAULT, null );
+
+    assertNull( value );
+  }
+
+  @Test
+  public void testGetValue_withCustomSelector() {
+    CssValueTable table = new CssValueTable( valuesMap( "Button { color: black }" ), null );
+    ValueSelector selector = mock( ValueSelector.class );
+
+    table.getValue( "Button", "color", selector, null );
+    table.getValue( "Button", "color", selector, null );
+
+    verify( selector, times( 2 ) ).select( any( Widget.class ), any( ConditionalValue[].class ) );
+  }
+
+  private CssValuesMap valuesMap( String... lines ) {
+    return new CssValuesMap( styleSheet( lines ), themeableWidgets );
+  }
+
+  private static Widget widget( int style ) {
+    Widget widget = mock( Widget.class );
+    when( widget.getStyle() ).thenReturn( style );
+    return widget;
+  }
+
+  private static ThemeableWidget themeableWidget( CssElementImpl... elements ) {
+    ThemeableWidget themeableWidget = new ThemeableWidget( null, null );
+    themeableWidget.elements = elements;
+    return themeableWidget;
+  }
+
+  private static CssElementImpl cssElement( String name ) {
+    return new CssElementImpl( name );
+  }
+
+  private static StyleSheet styleSheet( String... lines ) {
+    StringBuilder builder = new StringBuilder();
+    for( String line : lines ) {
+      builder.append( line );
+      builder.append( '\n' );
+    }
+    String string = builder.toString();
+    try {
+      ByteArrayInputStream inputStream = new ByteArrayInputStream( string.getBytes( "UTF-8" ) );
+      return CssFileReader.readStyleSheet( inputStream, "string", null );
+    } catch( IOException exception ) {
+      throw new RuntimeException( "Failed to parse stylesheet", exception );
+    }
+  }
+
+}
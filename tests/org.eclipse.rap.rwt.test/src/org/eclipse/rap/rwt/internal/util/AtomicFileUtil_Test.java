@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class AtomicFileUtil_Test {
+
+  private File tempDir;
+
+  @Before
+  public void setUp() {
+    tempDir = FileUtil.createTempDir();
+  }
+
+  @After
+  public void tearDown() {
+    FileUtil.delete( tempDir );
+  }
+
+  @Test
+  public void testMove() throws IOException {
+    File source = createFile( "source", new byte[] { 1, 2 } );
+    File target = new File( tempDir, "target" );
+
+    AtomicFileUtil.move( source, target );
+
+    assertFalse( source.exists() );
+    assertArrayEquals( new byte[] { 1, 2 }, Files.readAllBytes( target.toPath() ) );
+  }
+
+  @Test
+  public void testMove_replacesTarget() throws IOException {
+    File source = createFile( "source", new byte[] { 1, 2 } );
+    File target = createFile( "target", new byte[] { 3 } );
+
+    AtomicFileUtil.move( source, target );
+
+    assertArrayEquals( new byte[] { 1, 2 }, Files.readAllBytes( target.toPath() ) );
+  }
+
+  @Test( expected = IOException.class )
+  public void testMove_withMissingSource() throws IOException {
+    AtomicFileUtil.move( new File( tempDir, "missing" ), new File( tempDir, "target" ) );
+  }
+
+  private File createFile( String name, byte[] content ) throws IOException {
+    File result = new File( tempDir, name );
+    Files.write( result.toPath(), content );
+    return result;
+  }
+
+}
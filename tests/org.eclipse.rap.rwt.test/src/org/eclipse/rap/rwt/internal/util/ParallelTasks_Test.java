@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+
+public class ParallelTasks_Test {
+
+  @Test
+  public void testRunAll_runsAllTasks() {
+    AtomicInteger counter = new AtomicInteger();
+    List<Runnable> tasks = new ArrayList<>();
+    for( int i = 0; i < 10; i++ ) {
+      tasks.add( () -> counter.incrementAndGet() );
+    }
+
+    ParallelTasks.runAll( "test", tasks );
+
+    assertEquals( 10, counter.get() );
+  }
+
+  @Test
+  public void testRunAll_withoutTasks() {
+    ParallelTasks.runAll( "test", Collections.<Runnable>emptyList() );
+  }
+
+  @Test
+  public void testRunAll_rethrowsFirstFailure() {
+    RuntimeException exception = new IllegalStateException();
+    AtomicInteger counter = new AtomicInteger();
+    List<Runnable> tasks = new ArrayList<>();
+    tasks.add( () -> counter.incrementAndGet() );
+    tasks.add( () -> { throw exception; } );
+    tasks.add( () -> counter.incrementAndGet() );
+
+    try {
+      ParallelTasks.runAll( "test", tasks );
+      fail();
+    } catch( IllegalStateException expected ) {
+      assertSame( exception, expected );
+    }
+    assertEquals( 2, counter.get() );
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testRunAll_withNullTasks() {
+    ParallelTasks.runAll( "test", null );
+  }
+
+}
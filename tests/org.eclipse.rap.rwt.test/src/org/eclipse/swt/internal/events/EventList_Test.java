@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@ package org.eclipse.swt.internal.events;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
@@ -102,6 +103,76 @@ public class EventList_Test {
     assertSame( lateEvent, events[ 1 ] );
   }
 
+  @Test
+  public void testGetAllWithSameEventTypeAndTime() {
+    Event event1 = creatEvent( FIRST_EVENT );
+    Event event2 = creatEvent( FIRST_EVENT );
+    Event event3 = creatEvent( FIRST_EVENT );
+    eventList.add( event1 );
+    eventList.add( event2 );
+    eventList.add( event3 );
+
+    Event[] events = eventList.getAll();
+
+    assertSame( event1, events[ 0 ] );
+    assertSame( event2, events[ 1 ] );
+    assertSame( event3, events[ 2 ] );
+  }
+
+  @Test
+  public void testRemoveFirst() {
+    Event secondEvent = creatEvent( SECOND_EVENT );
+    eventList.add( secondEvent );
+    Event firstEvent = creatEvent( FIRST_EVENT );
+    eventList.add( firstEvent );
+
+    assertSame( firstEvent, eventList.removeFirst() );
+    assertSame( secondEvent, eventList.removeFirst() );
+    assertNull( eventList.removeFirst() );
+  }
+
+  @Test
+  public void testRemoveFirstWithEventAddedMeanwhile() {
+    Event secondEvent1 = creatEvent( SECOND_EVENT );
+    eventList.add( secondEvent1 );
+    Event secondEvent2 = creatEvent( SECOND_EVENT );
+    eventList.add( secondEvent2 );
+    eventList.removeFirst();
+
+    Event firstEvent = creatEvent( FIRST_EVENT );
+    eventList.add( firstEvent );
+
+    assertSame( firstEvent, eventList.removeFirst() );
+    assertSame( secondEvent2, eventList.removeFirst() );
+  }
+
+  @Test
+  public void testRemoveFirstWithSameEventAddedTwice() {
+    Event event = creatEvent( FIRST_EVENT );
+    eventList.add( event );
+    eventList.add( event );
+
+    assertSame( event, eventList.removeFirst() );
+    assertSame( event, eventList.removeFirst() );
+    assertNull( eventList.removeFirst() );
+  }
+
+  @Test
+  public void testRemoveFirstWithManyEvents() {
+    for( int i = 0; i < 10000; i++ ) {
+      Event event = creatEvent( i % 2 == 0 ? SECOND_EVENT : FIRST_EVENT );
+      event.detail = i;
+      eventList.add( event );
+    }
+
+    for( int i = 0; i < 10000; i++ ) {
+      Event event = eventList.removeFirst();
+      int expectedDetail = i < 5000 ? 2 * i + 1 : 2 * ( i - 5000 );
+      assertEquals( expectedDetail, event.detail );
+    }
+    assertNull( eventList.removeFirst() );
+  }
+
 
   @Test
   public void testRemoveExistingEvent() {
@@ -113,6 +184,17 @@ public class EventList_Test {
     assertEquals( 0, eventList.getAll().length );
   }
 
+  @Test
+  public void testRemoveSameEventAddedTwice() {
+    Event event = creatEvent( FIRST_EVENT );
+    eventList.add( event );
+    eventList.add( event );
+
+    eventList.remove( event );
+
+    assertEquals( 1, eventList.getAll().length );
+  }
+
   @Test
   public void testRemoveNonExistingEvent() {
     Event event = creatEvent( FIRST_EVENT );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,8 +13,10 @@
 package org.eclipse.swt.internal.graphics;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
@@ -88,6 +90,126 @@ public class ImageDataCache_Test {
     assertEqualsImageData( copyData1, copyData2 );
   }
 
+  @Test
+  public void testSharedImageDataIsNotCopied() throws IOException {
+    ImageDataCache cache = new ImageDataCache();
+    ImageData originalData = getImageData( Fixture.IMAGE1 );
+    InternalImage internalImage = createInternalImage( originalData );
+    cache.putImageData( internalImage, originalData );
+
+    ImageData sharedData1 = cache.getSharedImageData( internalImage );
+    ImageData sharedData2 = cache.getSharedImageData( internalImage );
+
+    assertNotSame( originalData, sharedData1 );
+    assertSame( sharedData1, sharedData2 );
+  }
+
+  @Test
+  public void testSizeAccounting() throws IOException {
+    ImageDataCache cache = new ImageDataCache();
+    ImageData imageData = getImageData( Fixture.IMAGE1 );
+    InternalImage internalImage = createInternalImage( imageData );
+
+    cache.putImageData( internalImage, imageData );
+    cache.putImageData( internalImage, imageData );
+
+    assertEquals( 1, cache.getEntryCount() );
+    assertEquals( getWeight( imageData ), cache.getSize() );
+  }
+
+  @Test
+  public void testPutAgain_replacesImageData() throws IOException {
+    ImageDataCache cache = new ImageDataCache();
+    ImageData imageData = getImageData( Fixture.IMAGE1 );
+    InternalImage internalImage = createInternalImage( imageData );
+    ImageData changedData = ( ImageData )imageData.clone();
+    changedData.setPixel( 0, 0, 23 );
+
+    cache.putImageData( internalImage, imageData );
+    cache.putImageData( internalImage, changedData );
+
+    assertEqualsImageData( changedData, cache.getImageData( internalImage ) );
+  }
+
+  @Test
+  public void testPutAgain_doesNotQueueEntryAgain() throws IOException {
+    ImageDataCache cache = new ImageDataCache();
+    ImageData imageData = getImageData( Fixture.IMAGE1 );
+    InternalImage internalImage = createInternalImage( imageData );
+
+    for( int i = 0; i < 10; i++ ) {
+      cache.putImageData( internalImage, imageData );
+    }
+
+    assertEquals( 1, cache.getEvictionQueueSize() );
+  }
+
+  @Test
+  public void testEvictsWhenCapacityIsExceeded() throws IOException {
+    ImageData imageData = getImageData( Fixture.IMAGE1 );
+    ImageDataCache cache = new ImageDataCache( 2 * getWeight( imageData ) );
+    InternalImage internalImage1 = createInternalImage( imageData );
+    InternalImage internalImage2 = createInternalImage( imageData );
+    InternalImage internalImage3 = createInternalImage( imageData );
+
+    cache.putImageData( internalImage1, imageData );
+    cache.putImageData( internalImage2, imageData );
+    cache.putImageData( internalImage3, imageData );
+
+    assertEquals( 2, cache.getEntryCount() );
+    assertEquals( 1, cache.getEvictionCount() );
+    assertEquals( 2 * getWeight( imageData ), cache.getSize() );
+    assertNull( cache.getImageData( internalImage1 ) );
+  }
+
+  @Test
+  public void testRecentlyUsedEntriesAreSpared() throws IOException {
+    ImageData imageData = getImageData( Fixture.IMAGE1 );
+    ImageDataCache cache = new ImageDataCache( 2 * getWeight( imageData ) );
+    InternalImage internalImage1 = createInternalImage( imageData );
+    InternalImage internalImage2 = createInternalImage( imageData );
+    InternalImage internalImage3 = createInternalImage( imageData );
+    cache.putImageData( internalImage1, imageData );
+    cache.putImageData( internalImage2, imageData );
+
+    cache.getImageData( internalImage1 );
+    cache.putImageData( internalImage3, imageData );
+
+    assertNotNull( cache.getImageData( internalImage1 ) );
+    assertNull( cache.getImageData( internalImage2 ) );
+    assertNotNull( cache.getImageData( internalImage3 ) );
+  }
+
+  @Test
+  public void testHitAndMissCount() throws IOException {
+    ImageDataCache cache = new ImageDataCache();
+    ImageData imageData = getImageData( Fixture.IMAGE1 );
+    InternalImage internalImage = createInternalImage( imageData );
+
+    cache.getImageData( internalImage );
+    cache.putImageData( internalImage, imageData );
+    cache.getImageData( internalImage );
+    cache.getSharedImageData( internalImage );
+
+    assertEquals( 2, cache.getHitCount() );
+    assertEquals( 1, cache.getMissCount() );
+  }
+
+  private static InternalImage createInternalImage( ImageData imageData ) {
+    return new InternalImage( "testpath", imageData.width, imageData.height, false );
+  }
+
+  private static long getWeight( ImageData imageData ) {
+    long result = imageData.data.length;
+    if( imageData.alphaData != null ) {
+      result += imageData.alphaData.length;
+    }
+    if( imageData.maskData != null ) {
+      result += imageData.maskData.length;
+    }
+    return result;
+  }
+
   private ImageData getImageData( String resource ) throws IOException {
     InputStream inputStream = getClass().getClassLoader().getResourceAsStream( resource );
     try {
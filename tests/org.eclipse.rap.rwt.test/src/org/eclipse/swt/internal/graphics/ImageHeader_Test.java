@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.graphics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.junit.Test;
+
+
+public class ImageHeader_Test {
+
+  @Test
+  public void testRead_PNG() {
+    ImageHeader header = ImageHeader.read( encode( SWT.IMAGE_PNG ) );
+
+    assertHeader( SWT.IMAGE_PNG, header );
+  }
+
+  @Test
+  public void testRead_GIF() {
+    ImageHeader header = ImageHeader.read( encode( SWT.IMAGE_GIF ) );
+
+    assertHeader( SWT.IMAGE_GIF, header );
+  }
+
+  @Test
+  public void testRead_JPEG() {
+    ImageHeader header = ImageHeader.read( encode( SWT.IMAGE_JPEG ) );
+
+    assertHeader( SWT.IMAGE_JPEG, header );
+  }
+
+  @Test
+  public void testRead_BMP() {
+    ImageHeader header = ImageHeader.read( encode( SWT.IMAGE_BMP ) );
+
+    assertHeader( SWT.IMAGE_BMP, header );
+  }
+
+  @Test
+  public void testRead_withUnsupportedFormat() {
+    assertNull( ImageHeader.read( encode( SWT.IMAGE_ICO ) ) );
+  }
+
+  @Test
+  public void testRead_withEmptyContent() {
+    assertNull( ImageHeader.read( new byte[ 0 ] ) );
+  }
+
+  @Test
+  public void testRead_withTruncatedContent() {
+    assertNull( ImageHeader.read( Arrays.copyOf( encode( SWT.IMAGE_PNG ), 20 ) ) );
+    assertNull( ImageHeader.read( Arrays.copyOf( encode( SWT.IMAGE_GIF ), 12 ) ) );
+    assertNull( ImageHeader.read( Arrays.copyOf( encode( SWT.IMAGE_JPEG ), 4 ) ) );
+    assertNull( ImageHeader.read( Arrays.copyOf( encode( SWT.IMAGE_BMP ), 20 ) ) );
+  }
+
+  @Test
+  public void testRead_withZeroSize() {
+    byte[] bytes = encode( SWT.IMAGE_PNG );
+    Arrays.fill( bytes, 16, 20, ( byte )0 );
+
+    assertNull( ImageHeader.read( bytes ) );
+  }
+
+  private static void assertHeader( int expectedType, ImageHeader header ) {
+    assertEquals( expectedType, header.type );
+    assertEquals( 30, header.width );
+    assertEquals( 20, header.height );
+  }
+
+  private static byte[] encode( int format ) {
+    PaletteData paletteData = new PaletteData( new RGB[] {
+      new RGB( 255, 0, 0 ), new RGB( 0, 255, 0 )
+    } );
+    ImageData imageData = new ImageData( 30, 20, 8, paletteData );
+    imageData.setPixel( 10, 10, 1 );
+    ImageLoader imageLoader = new ImageLoader();
+    imageLoader.data = new ImageData[] { imageData };
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    imageLoader.save( outputStream, format );
+    return outputStream.toByteArray();
+  }
+
+}
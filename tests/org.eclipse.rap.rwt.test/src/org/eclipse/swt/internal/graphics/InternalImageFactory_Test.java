@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,24 +13,33 @@
 package org.eclipse.swt.internal.graphics;
 
 import static org.eclipse.rap.rwt.testfixture.internal.TestUtil.createImage;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.Arrays;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.resources.ResourceCache;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.PaletteData;
 import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.internal.graphics.InternalImageFactory.EncodedImage;
 import org.eclipse.swt.widgets.Display;
 import org.junit.After;
 import org.junit.Before;
@@ -72,13 +81,74 @@ public class InternalImageFactory_Test {
   }
 
   @Test
-  public void testReadImageData() throws IOException {
+  public void testReadEncodedImage() throws IOException {
     InputStream inputStream = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_100x50 );
-    ImageData data = InternalImageFactory.readImageData( new BufferedInputStream( inputStream ) );
+    EncodedImage image = InternalImageFactory.readEncodedImage( inputStream );
     inputStream.close();
 
-    assertEquals( 100, data.width );
-    assertEquals( 50, data.height );
+    assertEquals( 100, image.width );
+    assertEquals( 50, image.height );
+  }
+
+  @Test
+  public void testReadEncodedImage_keepsRawBytes() throws IOException {
+    ImageData imageData = createImageDataWithoutType();
+    byte[] bytes = readBytes( InternalImageFactory.createInputStream( imageData ) );
+
+    EncodedImage image = InternalImageFactory.readEncodedImage( new ByteArrayInputStream( bytes ) );
+
+    assertArrayEquals( bytes, Arrays.copyOf( image.bytes, image.length ) );
+  }
+
+  @Test
+  public void testReadEncodedImage_usesContentHashAsPath() throws IOException {
+    byte[] bytes = readBytes( CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_100x50 ) );
+    MessageDigest digest = ResourceCache.createDigest();
+    digest.update( bytes );
+
+    EncodedImage image = InternalImageFactory.readEncodedImage( new ByteArrayInputStream( bytes ) );
+
+    assertEquals( "generated/" + ResourceCache.toKey( digest ) + ".png", image.path );
+  }
+
+  @Test
+  public void testReadEncodedImage_closesStream() throws IOException {
+    byte[] bytes = readBytes( CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_100x50 ) );
+    InputStream stream = spy( new ByteArrayInputStream( bytes ) );
+
+    InternalImageFactory.readEncodedImage( stream );
+
+    verify( stream ).close();
+  }
+
+  @Test
+  public void testReadEncodedImage_withUnsupportedHeader() {
+    ImageData imageData = createImageDataWithoutType();
+    imageData.type = SWT.IMAGE_ICO;
+    InputStream stream = InternalImageFactory.createInputStream( imageData );
+
+    EncodedImage image = InternalImageFactory.readEncodedImage( stream );
+
+    assertEquals( 48, image.width );
+    assertEquals( 48, image.height );
+    assertTrue( image.path.endsWith( ".ico" ) );
+  }
+
+  @Test( expected = SWTException.class )
+  public void testReadEncodedImage_withInvalidContent() {
+    InternalImageFactory.readEncodedImage( new ByteArrayInputStream( new byte[] { 1, 2, 3 } ) );
+  }
+
+  @Test
+  public void testFindInternalImage_registersRawBytes() throws IOException {
+    byte[] bytes = readBytes( CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_100x50 ) );
+
+    InputStream stream = new ByteArrayInputStream( bytes );
+    InternalImage internalImage = internalImageFactory.findInternalImage( stream );
+
+    String resourceName = internalImage.getResourceName();
+    InputStream content = RWT.getResourceManager().getRegisteredContent( resourceName );
+    assertArrayEquals( bytes, readBytes( content ) );
   }
 
   @Test
@@ -215,6 +285,21 @@ public class InternalImageFactory_Test {
     assertTrue( internalImage.getResourceName().endsWith( ".png" ) );
   }
 
+  private static byte[] readBytes( InputStream stream ) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try {
+      byte[] buffer = new byte[ 8192 ];
+      int read = stream.read( buffer );
+      while( read != -1 ) {
+        outputStream.write( buffer, 0, read );
+        read = stream.read( buffer );
+      }
+    } finally {
+      stream.close();
+    }
+    return outputStream.toByteArray();
+  }
+
   private ImageData createImageDataWithoutType() {
     PaletteData paletteData = new PaletteData( new RGB[]{
       new RGB( 255, 0, 0 ), new RGB( 0, 255, 0 )
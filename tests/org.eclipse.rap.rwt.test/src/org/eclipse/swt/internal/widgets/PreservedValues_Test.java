@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class PreservedValues_Test {
+
+  private PreservedValues values;
+
+  @Before
+  public void setUp() {
+    values = new PreservedValues();
+  }
+
+  @Test
+  public void testGet_initial() {
+    assertNull( values.get( "foo" ) );
+  }
+
+  @Test
+  public void testPut() {
+    values.put( "foo", "a" );
+    values.put( "bar", "b" );
+
+    assertEquals( "a", values.get( "foo" ) );
+    assertEquals( "b", values.get( "bar" ) );
+  }
+
+  @Test
+  public void testPut_overridesValue() {
+    values.put( "foo", "a" );
+    values.put( "foo", "b" );
+
+    assertEquals( "b", values.get( "foo" ) );
+    assertEquals( 1, values.getSlotCount() );
+  }
+
+  @Test
+  public void testPut_withNullValue() {
+    values.put( "foo", "a" );
+    values.put( "foo", null );
+
+    assertNull( values.get( "foo" ) );
+  }
+
+  @Test
+  public void testGet_withEqualKey() {
+    values.put( "foo", "a" );
+
+    assertEquals( "a", values.get( new String( "foo" ) ) );
+  }
+
+  @Test
+  public void testPut_growsCapacity() {
+    for( int i = 0; i < 20; i++ ) {
+      values.put( "key" + i, Integer.valueOf( i ) );
+    }
+
+    for( int i = 0; i < 20; i++ ) {
+      assertEquals( Integer.valueOf( i ), values.get( "key" + i ) );
+    }
+  }
+
+  @Test
+  public void testClear() {
+    values.put( "foo", "a" );
+
+    values.clear();
+
+    assertNull( values.get( "foo" ) );
+  }
+
+  @Test
+  public void testClear_keepsSlots() {
+    values.put( "foo", "a" );
+    values.put( "bar", "b" );
+
+    values.clear();
+    values.put( "bar", "c" );
+    values.put( "foo", "d" );
+
+    assertEquals( 2, values.getSlotCount() );
+    assertEquals( "c", values.get( "bar" ) );
+    assertEquals( "d", values.get( "foo" ) );
+  }
+
+}
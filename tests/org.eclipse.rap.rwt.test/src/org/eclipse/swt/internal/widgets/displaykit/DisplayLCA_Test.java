@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -29,6 +29,7 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -165,6 +166,9 @@ public class DisplayLCA_Test {
     Composite shell = new CustomLCAShell( display, lca );
     Widget button = new CustomLCAWidget( shell, lca );
     Widget text = new CustomLCAWidget( shell, lca );
+    Fixture.fakeSetProperty( getId( text ), "foo", "bar" );
+    Fixture.fakeSetProperty( getId( button ), "foo", "bar" );
+    Fixture.fakeSetProperty( getId( shell ), "foo", "bar" );
 
     displayLCA.readData( display );
 
@@ -175,6 +179,69 @@ public class DisplayLCA_Test {
     verifyNoMoreInteractions( lca );
   }
 
+  @Test
+  public void testReadData_inTreeOrder() {
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Composite shell = new CustomLCAShell( display, lca );
+    Composite composite = new CustomLCAWidget( shell, lca );
+    Widget nested = new CustomLCAWidget( composite, lca );
+    Widget sibling = new CustomLCAWidget( shell, lca );
+    Fixture.fakeSetProperty( getId( sibling ), "foo", "bar" );
+    Fixture.fakeSetProperty( getId( nested ), "foo", "bar" );
+
+    displayLCA.readData( display );
+
+    InOrder inOrder = inOrder( lca );
+    inOrder.verify( lca ).readData( nested );
+    inOrder.verify( lca ).readData( sibling );
+    verifyNoMoreInteractions( lca );
+  }
+
+  @Test
+  public void testReadData_acrossShells() {
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Composite shell1 = new CustomLCAShell( display, lca );
+    Widget widget1 = new CustomLCAWidget( shell1, lca );
+    Composite shell2 = new CustomLCAShell( display, lca );
+    Widget widget2 = new CustomLCAWidget( shell2, lca );
+    Fixture.fakeSetProperty( getId( widget2 ), "foo", "bar" );
+    Fixture.fakeSetProperty( getId( widget1 ), "foo", "bar" );
+
+    displayLCA.readData( display );
+
+    InOrder inOrder = inOrder( lca );
+    inOrder.verify( lca ).readData( widget1 );
+    inOrder.verify( lca ).readData( widget2 );
+    verifyNoMoreInteractions( lca );
+  }
+
+  @Test
+  public void testReadData_skipsWidgetsWithoutOperations() {
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Composite shell = new CustomLCAShell( display, lca );
+    Widget button = new CustomLCAWidget( shell, lca );
+    new CustomLCAWidget( shell, lca );
+    Fixture.fakeSetProperty( getId( button ), "foo", "bar" );
+
+    displayLCA.readData( display );
+
+    verify( lca ).readData( button );
+    verifyNoMoreInteractions( lca );
+  }
+
+  @Test
+  public void testReadData_withDisposedTarget() {
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Composite shell = new CustomLCAShell( display, lca );
+    Widget button = new CustomLCAWidget( shell, lca );
+    Fixture.fakeSetProperty( getId( button ), "foo", "bar" );
+    button.dispose();
+
+    displayLCA.readData( display );
+
+    verify( lca, never() ).readData( button );
+  }
+
   @Test
   public void testReadDisplayBounds() {
     Fixture.fakeSetProperty( getId( display ), "bounds", createJsonArray( 0, 0, 30, 70 ) );
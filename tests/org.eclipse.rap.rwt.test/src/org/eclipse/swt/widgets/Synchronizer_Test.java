@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class Synchronizer_Test {
+
+  private Display display;
+  private List<Integer> log;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    display = new Display();
+    log = new ArrayList<>();
+  }
+
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testRunAsyncMessages_runsInOrderAcrossBufferWrapAround() {
+    Synchronizer synchronizer = new Synchronizer( display, 1 );
+    addRunnables( synchronizer, 0, 3 );
+    synchronizer.runAsyncMessages();
+    synchronizer.runAsyncMessages();
+
+    addRunnables( synchronizer, 3, 100 );
+    synchronizer.runAsyncMessages( true );
+
+    assertEquals( 100, log.size() );
+    for( int i = 0; i < log.size(); i++ ) {
+      assertEquals( Integer.valueOf( i ), log.get( i ) );
+    }
+  }
+
+  @Test
+  public void testRunAsyncMessages_runsSingleRunnableByDefault() {
+    Synchronizer synchronizer = new Synchronizer( display, 1 );
+    addRunnables( synchronizer, 0, 3 );
+
+    synchronizer.runAsyncMessages();
+
+    assertEquals( 1, log.size() );
+    assertEquals( 2, synchronizer.getMessageCount() );
+  }
+
+  @Test
+  public void testRunAsyncMessages_runsBatch() {
+    Synchronizer synchronizer = new Synchronizer( display, 2 );
+    addRunnables( synchronizer, 0, 3 );
+
+    synchronizer.runAsyncMessages();
+
+    assertEquals( 2, log.size() );
+    assertEquals( 1, synchronizer.getMessageCount() );
+  }
+
+  @Test
+  public void testRunAsyncMessages_withEmptyQueue() {
+    Synchronizer synchronizer = new Synchronizer( display, 2 );
+
+    assertFalse( synchronizer.runAsyncMessages() );
+  }
+
+  @Test
+  public void testAsyncExec_notifiesServerPush() {
+    Synchronizer synchronizer = new Synchronizer( display, 1 );
+
+    addRunnables( synchronizer, 0, 1 );
+
+    assertTrue( ServerPushManager.getInstance().hasRunnables() );
+  }
+
+  @Test
+  public void testRunAsyncMessages_notifiesServerPushWhenEmpty() {
+    Synchronizer synchronizer = new Synchronizer( display, 1 );
+    addRunnables( synchronizer, 0, 2 );
+
+    synchronizer.runAsyncMessages();
+    boolean hasRunnablesAfterFirst = ServerPushManager.getInstance().hasRunnables();
+    synchronizer.runAsyncMessages();
+
+    assertTrue( hasRunnablesAfterFirst );
+    assertFalse( ServerPushManager.getInstance().hasRunnables() );
+  }
+
+  @Test
+  public void testRunAsyncMessages_withBatchKeepsServerPushStateWhileRunning() {
+    final Synchronizer synchronizer = new Synchronizer( display, 3 );
+    final List<Boolean> states = new ArrayList<>();
+    synchronizer.asyncExec( new Runnable() {
+      @Override
+      public void run() {
+        synchronizer.asyncExec( new Runnable() {
+          @Override
+          public void run() {
+            states.add( Boolean.valueOf( ServerPushManager.getInstance().hasRunnables() ) );
+          }
+        } );
+      }
+    } );
+
+    synchronizer.runAsyncMessages();
+
+    assertEquals( 1, states.size() );
+    assertTrue( states.get( 0 ).booleanValue() );
+    assertFalse( ServerPushManager.getInstance().hasRunnables() );
+  }
+
+  private void addRunnables( Synchronizer synchronizer, int from, int to ) {
+    for( int i = from; i < to; i++ ) {
+      final int value = i;
+      synchronizer.asyncExec( new Runnable() {
+        @Override
+        public void run() {
+          log.add( Integer.valueOf( value ) );
+        }
+      } );
+    }
+  }
+
+}
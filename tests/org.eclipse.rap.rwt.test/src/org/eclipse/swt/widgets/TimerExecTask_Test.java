@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,17 +14,26 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.concurrent.ScheduledFuture;
+
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
+import org.eclipse.rap.rwt.internal.util.SharedTimer;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 
 public class TimerExecTask_Test {
@@ -67,7 +76,7 @@ public class TimerExecTask_Test {
     Runnable runnable = mock( Runnable.class );
     TimerExecTask task = new TimerExecTask( scheduler, runnable );
 
-    task.run();
+    runScheduled( task );
 
     verify( scheduler ).removeTask( same( task ) );
   }
@@ -77,7 +86,7 @@ public class TimerExecTask_Test {
     Runnable runnable = mock( Runnable.class );
     TimerExecTask task = new TimerExecTask( scheduler, runnable );
 
-    task.run();
+    runScheduled( task );
 
     verify( display ).asyncExec( same( runnable ) );
   }
@@ -89,7 +98,7 @@ public class TimerExecTask_Test {
     TimerExecTask task = new TimerExecTask( scheduler, runnable );
     display.dispose();
 
-    task.run();
+    runScheduled( task );
 
     verify( display, times( 0 ) ).asyncExec( any( Runnable.class ) );
   }
@@ -99,7 +108,7 @@ public class TimerExecTask_Test {
     Runnable runnable = mock( Runnable.class );
     TimerExecTask task = new TimerExecTask( scheduler, runnable );
 
-    task.run();
+    runScheduled( task );
 
     assertFalse( ServerPushManager.getInstance().isServerPushActive() );
   }
@@ -114,4 +123,124 @@ public class TimerExecTask_Test {
     assertFalse( ServerPushManager.getInstance().isServerPushActive() );
   }
 
+  @Test
+  public void testSchedule_schedulesOnTimer() {
+    SharedTimer timer = mock( SharedTimer.class );
+    TimerExecTask task = new TimerExecTask( scheduler, mock( Runnable.class ) );
+
+    task.schedule( timer, 23 );
+
+    verify( timer ).schedule( any( Runnable.class ), eq( 23L ) );
+  }
+
+  @Test
+  public void testSchedule_cancelsPreviousSchedule() {
+    SharedTimer timer = mock( SharedTimer.class );
+    ScheduledFuture<?> future = mock( ScheduledFuture.class );
+    doReturn( future ).when( timer ).schedule( any( Runnable.class ), anyLong() );
+    TimerExecTask task = new TimerExecTask( scheduler, mock( Runnable.class ) );
+    task.schedule( timer, 23 );
+
+    task.schedule( timer, 42 );
+
+    verify( future ).cancel( false );
+  }
+
+  @Test
+  public void testCancel_cancelsSchedule() {
+    SharedTimer timer = mock( SharedTimer.class );
+    ScheduledFuture<?> future = mock( ScheduledFuture.class );
+    doReturn( future ).when( timer ).schedule( any( Runnable.class ), anyLong() );
+    TimerExecTask task = new TimerExecTask( scheduler, mock( Runnable.class ) );
+    task.schedule( timer, 23 );
+
+    task.cancel();
+
+    verify( future ).cancel( false );
+  }
+
+  @Test
+  public void testRun_afterReschedule_isIgnored() {
+    SharedTimer timer = mock( SharedTimer.class );
+    Runnable runnable = mock( Runnable.class );
+    TimerExecTask task = new TimerExecTask( scheduler, runnable );
+    task.schedule( timer, 23 );
+    Runnable execution = captureExecution( timer );
+
+    task.schedule( timer, 42 );
+    execution.run();
+
+    verify( display, never() ).asyncExec( any( Runnable.class ) );
+    verify( scheduler, never() ).removeTask( any( TimerExecTask.class ) );
+    assertTrue( ServerPushManager.getInstance().isServerPushActive() );
+  }
+
+  @Test
+  public void testRun_afterReschedule_runsNewSchedule() {
+    SharedTimer timer = mock( SharedTimer.class );
+    Runnable runnable = mock( Runnable.class );
+    TimerExecTask task = new TimerExecTask( scheduler, runnable );
+    task.schedule( timer, 23 );
+    task.schedule( timer, 42 );
+
+    captureExecution( timer ).run();
+
+    verify( display ).asyncExec( same( runnable ) );
+  }
+
+  @Test
+  public void testRun_afterCancel_isIgnored() {
+    SharedTimer timer = mock( SharedTimer.class );
+    TimerExecTask task = new TimerExecTask( scheduler, mock( Runnable.class ) );
+    task.schedule( timer, 23 );
+    Runnable execution = captureExecution( timer );
+
+    task.cancel();
+    execution.run();
+
+    verify( display, never() ).asyncExec( any( Runnable.class ) );
+  }
+
+  @Test
+  public void testRun_runsOnlyOnce() {
+    SharedTimer timer = mock( SharedTimer.class );
+    TimerExecTask task = new TimerExecTask( scheduler, mock( Runnable.class ) );
+    task.schedule( timer, 23 );
+    Runnable execution = captureExecution( timer );
+
+    execution.run();
+    execution.run();
+
+    verify( display, times( 1 ) ).asyncExec( any( Runnable.class ) );
+  }
+
+  @Test
+  public void testTimerExec_duringRun_keepsTaskScheduled() {
+    SharedTimer timer = mock( SharedTimer.class );
+    doReturn( timer ).when( scheduler ).getTimer();
+    Runnable runnable = mock( Runnable.class );
+    scheduler.schedule( 23, runnable );
+    Runnable execution = captureExecution( timer );
+    ScheduledFuture<?> future = mock( ScheduledFuture.class );
+    doReturn( future ).when( timer ).schedule( any( Runnable.class ), anyLong() );
+
+    scheduler.schedule( 42, runnable );
+    execution.run();
+    scheduler.cancel( runnable );
+
+    verify( future ).cancel( false );
+  }
+
+  private static void runScheduled( TimerExecTask task ) {
+    SharedTimer timer = mock( SharedTimer.class );
+    task.schedule( timer, 0 );
+    captureExecution( timer ).run();
+  }
+
+  private static Runnable captureExecution( SharedTimer timer ) {
+    ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass( Runnable.class );
+    verify( timer, atLeastOnce() ).schedule( captor.capture(), anyLong() );
+    return captor.getValue();
+  }
+
 }
@@ -1642,6 +1642,70 @@ public class Tree_Test {
     assertSame( item1, result );
   }
 
+  @Test
+  public void testGetItemByPoint_withExpandedItems() {
+    TreeItem item = new TreeItem( tree, SWT.NONE );
+    TreeItem subItem = new TreeItem( item, SWT.NONE );
+    TreeItem subSubItem = new TreeItem( subItem, SWT.NONE );
+    TreeItem lastItem = new TreeItem( tree, SWT.NONE );
+    item.setExpanded( true );
+    subItem.setExpanded( true );
+    tree.setSize( 100, 100 );
+    int itemHeight = tree.getItemHeight();
+
+    assertSame( subSubItem, tree.getItem( new Point( 5, 2 * itemHeight + 1 ) ) );
+    assertSame( lastItem, tree.getItem( new Point( 5, 3 * itemHeight + 1 ) ) );
+    assertNull( tree.getItem( new Point( 5, 4 * itemHeight + 1 ) ) );
+  }
+
+  @Test
+  public void testGetFlatIndex_afterInsertAndCollapse() {
+    TreeItem item = new TreeItem( tree, SWT.NONE );
+    new TreeItem( item, SWT.NONE );
+    new TreeItem( item, SWT.NONE );
+    TreeItem lastItem = new TreeItem( tree, SWT.NONE );
+    item.setExpanded( true );
+
+    new TreeItem( tree, SWT.NONE, 0 );
+    new TreeItem( item, SWT.NONE, 1 );
+    assertEquals( 5, lastItem.getFlatIndex() );
+
+    item.setExpanded( false );
+    assertEquals( 2, lastItem.getFlatIndex() );
+  }
+
+  @Test
+  public void testVirtualExpandResolvesVisibleItemsOnly() {
+    tree = new Tree( shell, SWT.VIRTUAL );
+    tree.setSize( 100, 100 );
+    tree.setItemCount( 1 );
+    TreeItem item = tree.getItem( 0 );
+    item.setItemCount( 100000 );
+    LoggingListener log = new LoggingListener();
+    tree.addListener( SWT.SetData, log );
+
+    item.setExpanded( true );
+
+    assertTrue( log.size() < 100 );
+    assertSame( item.getItem( 0 ), log.get( 0 ).item );
+  }
+
+  @Test
+  public void testVirtualGetTopItem_inExpandedItem() {
+    tree = new Tree( shell, SWT.VIRTUAL );
+    tree.setSize( 100, 100 );
+    tree.setItemCount( 2 );
+    TreeItem item = tree.getItem( 0 );
+    item.setItemCount( 100000 );
+    item.setExpanded( true );
+
+    tree.setTopItem( item.getItem( 50000 ) );
+
+    assertSame( item.getItem( 50000 ), tree.getTopItem() );
+    assertEquals( 50001, item.getItem( 50000 ).getFlatIndex() );
+    assertEquals( 100001, tree.getItem( 1 ).getFlatIndex() );
+  }
+
   @Test
   public void testPreferredWidthBufferHandlingOfTreeItem() throws IOException {
     TreeItem item1 = new TreeItem( tree, SWT.NONE );
@@ -25,6 +25,9 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.servlet.ServletContext;
 import javax.servlet.http.HttpServletRequest;
@@ -476,7 +479,7 @@ public final class Fixture {
   }
 
   public static void executeLifeCycleFromServerThread() {
-    IUIThreadHolder threadHolder = registerCurrentThreadAsUIThreadHolder();
+    TestUIThreadHolder threadHolder = registerCurrentThreadAsUIThreadHolder();
     Thread serverThread = fakeRequestThread( threadHolder );
     simulateRequest( threadHolder, serverThread );
     RWTLifeCycle lifeCycle
@@ -561,24 +564,28 @@ public final class Fixture {
   private static void simulateRequest( IUIThreadHolder threadHolder, Thread serverThread ) {
     RWTLifeCycle lifeCycle
       = ( RWTLifeCycle )getApplicationContext().getLifeCycleFactory().getLifeCycle();
-    synchronized( threadHolder.getLock() ) {
+    threadHolder.getLock().lock();
+    try {
       serverThread.start();
       try {
         lifeCycle.sleep();
       } catch( ThreadDeath e ) {
         throw new RuntimeException( e );
       }
+    } finally {
+      threadHolder.getLock().unlock();
     }
   }
 
-  private static Thread fakeRequestThread( final IUIThreadHolder threadHolder ) {
+  private static Thread fakeRequestThread( final TestUIThreadHolder threadHolder ) {
     final RWTLifeCycle lifeCycle
       = ( RWTLifeCycle )getApplicationContext().getLifeCycleFactory().getLifeCycle();
     final ServiceContext context = ContextProvider.getContext();
     Thread result = new Thread( new Runnable() {
       @Override
       public void run() {
-        synchronized( threadHolder.getLock() ) {
+        threadHolder.getLock().lock();
+        try {
           ContextProvider.setContext( context );
           try {
             try {
@@ -589,47 +596,18 @@ public final class Fixture {
             }
           } finally {
             ContextProvider.releaseContextHolder();
-            threadHolder.notifyAll();
+            threadHolder.release();
           }
+        } finally {
+          threadHolder.getLock().unlock();
         }
       }
     }, "ServerThread" );
     return result;
   }
 
-  private static IUIThreadHolder registerCurrentThreadAsUIThreadHolder() {
-    final IUIThreadHolder result = new IUIThreadHolder() {
-      private final Thread thread = Thread.currentThread();
-
-      @Override
-      public void setServiceContext( ServiceContext serviceContext ) {
-      }
-      @Override
-      public void switchThread() {
-        synchronized( getLock() ) {
-          notifyAll();
-          try {
-            wait();
-          } catch( InterruptedException e ) {
-            throw new RuntimeException( e );
-          }
-        }
-      }
-      @Override
-      public void updateServiceContext() {
-      }
-      @Override
-      public void terminateThread() {
-      }
-      @Override
-      public Thread getThread() {
-        return thread;
-      }
-      @Override
-      public Object getLock() {
-        return this;
-      }
-    };
+  private static TestUIThreadHolder registerCurrentThreadAsUIThreadHolder() {
+    TestUIThreadHolder result = new TestUIThreadHolder( Thread.currentThread() );
     LifeCycleUtil.setUIThread( getUISession(), result );
     return result;
   }
@@ -663,4 +641,55 @@ public final class Fixture {
     }
   }
 
+  private static class TestUIThreadHolder implements IUIThreadHolder {
+    private final Thread thread;
+    private final Lock lock;
+    private final Condition switched;
+
+    TestUIThreadHolder( Thread thread ) {
+      this.thread = thread;
+      lock = new ReentrantLock();
+      switched = lock.newCondition();
+    }
+
+    @Override
+    public void setServiceContext( ServiceContext serviceContext ) {
+    }
+    @Override
+    public void switchThread() {
+      lock.lock();
+      try {
+        switched.signalAll();
+        switched.await();
+      } catch( InterruptedException e ) {
+        throw new RuntimeException( e );
+      } finally {
+        lock.unlock();
+      }
+    }
+    @Override
+    public void updateServiceContext() {
+    }
+    @Override
+    public void terminateThread() {
+    }
+    @Override
+    public Thread getThread() {
+      return thread;
+    }
+    @Override
+    public Lock getLock() {
+      return lock;
+    }
+
+    void release() {
+      lock.lock();
+      try {
+        switched.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
 }
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.tests.internal;
+
+import org.eclipse.core.runtime.IExtension;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.internal.registry.IWorkbenchRegistryConstants;
+import org.eclipse.ui.internal.registry.RegistrySnapshots;
+import org.eclipse.ui.internal.registry.ViewRegistry;
+import org.eclipse.ui.views.IViewDescriptor;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests that view registries share the descriptors read once per application
+ * and switch to an isolated private copy when their extensions change.
+ */
+public class RegistrySnapshotsTest extends TestCase {
+
+	private ViewRegistry registry1;
+
+	private ViewRegistry registry2;
+
+	public RegistrySnapshotsTest(String name) {
+		super(name);
+	}
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		registry1 = new ViewRegistry();
+		registry2 = new ViewRegistry();
+	}
+
+	protected void tearDown() throws Exception {
+		registry1.dispose();
+		registry2.dispose();
+		super.tearDown();
+	}
+
+	public void testGetInstance_isShared() {
+		assertSame(RegistrySnapshots.getInstance(), RegistrySnapshots
+				.getInstance());
+	}
+
+	public void testGet_readsOnce() {
+		final Object snapshot = new Object();
+		RegistrySnapshots.Reader reader = new RegistrySnapshots.Reader() {
+			public Object read() {
+				return snapshot;
+			}
+		};
+		RegistrySnapshots.Reader failingReader = new RegistrySnapshots.Reader() {
+			public Object read() {
+				throw new IllegalStateException();
+			}
+		};
+
+		RegistrySnapshots.getInstance().get(getName(), reader);
+
+		assertSame(snapshot, RegistrySnapshots.getInstance().get(getName(),
+				failingReader));
+	}
+
+	public void testViewRegistries_shareDescriptors() {
+		IViewDescriptor sharedView = getAnyView(registry1);
+
+		assertSame(sharedView, registry2.findInternal(sharedView.getId()));
+	}
+
+	public void testAddExtension_readsPrivateCopy() {
+		IViewDescriptor sharedView = getAnyView(registry1);
+
+		registry1.addExtension(null, getExtension());
+
+		IViewDescriptor privateView = registry1.findInternal(sharedView.getId());
+		assertNotNull(privateView);
+		assertNotSame(sharedView, privateView);
+	}
+
+	public void testAddExtension_leavesOtherRegistriesShared() {
+		IViewDescriptor sharedView = getAnyView(registry2);
+
+		registry1.addExtension(null, getExtension());
+
+		assertSame(sharedView, registry2.findInternal(sharedView.getId()));
+	}
+
+	public void testRemoveExtension_leavesOtherRegistriesShared() {
+		IViewDescriptor sharedView = getAnyView(registry2);
+
+		registry1.removeExtension(getExtension(), new Object[] { sharedView });
+
+		assertNotSame(sharedView, registry1.findInternal(sharedView.getId()));
+		assertSame(sharedView, registry2.findInternal(sharedView.getId()));
+	}
+
+	private static IViewDescriptor getAnyView(ViewRegistry registry) {
+		IViewDescriptor[] views = registry.getViews();
+		assertTrue(views.length > 0);
+		return views[0];
+	}
+
+	private static IExtension getExtension() {
+		IExtension[] extensions = Platform.getExtensionRegistry()
+				.getExtensionPoint(PlatformUI.PLUGIN_EXTENSION_NAME_SPACE,
+						IWorkbenchRegistryConstants.PL_VIEWS).getExtensions();
+		assertTrue(extensions.length > 0);
+		return extensions[0];
+	}
+}
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.tests.internal;
+
+import org.eclipse.core.runtime.IExtension;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.internal.registry.IWorkbenchRegistryConstants;
+import org.eclipse.ui.internal.wizards.AbstractExtensionWizardRegistry;
+import org.eclipse.ui.internal.wizards.WizardRegistrySnapshots;
+import org.eclipse.ui.wizards.IWizardCategory;
+import org.eclipse.ui.wizards.IWizardDescriptor;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests that wizard registries share the application scoped snapshot and
+ * switch to an isolated private copy when their extensions change.
+ */
+public class WizardRegistrySnapshotsTest extends TestCase {
+
+	private static final String PLUGIN = PlatformUI.PLUGIN_EXTENSION_NAME_SPACE;
+
+	private static final String EXTENSION_POINT = IWorkbenchRegistryConstants.PL_NEW;
+
+	private TestWizardRegistry registry1;
+
+	private TestWizardRegistry registry2;
+
+	public WizardRegistrySnapshotsTest(String name) {
+		super(name);
+	}
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		registry1 = new TestWizardRegistry();
+		registry2 = new TestWizardRegistry();
+	}
+
+	protected void tearDown() throws Exception {
+		registry1.dispose();
+		registry2.dispose();
+		super.tearDown();
+	}
+
+	public void testGetInstance_isShared() {
+		assertSame(WizardRegistrySnapshots.getInstance(),
+				WizardRegistrySnapshots.getInstance());
+	}
+
+	public void testGet_returnsSameSnapshot() {
+		WizardRegistrySnapshots snapshots = WizardRegistrySnapshots.getInstance();
+
+		assertSame(snapshots.get(PLUGIN, EXTENSION_POINT), snapshots.get(PLUGIN,
+				EXTENSION_POINT));
+	}
+
+	public void testRegistries_shareSnapshot() {
+		WizardRegistrySnapshots.Snapshot snapshot = getSnapshot();
+
+		assertSame(snapshot.getWizardElements(), registry1.getRootCategory());
+		assertSame(snapshot.getWizardElements(), registry2.getRootCategory());
+	}
+
+	public void testAddExtension_readsPrivateCopy() {
+		IWizardDescriptor sharedWizard = findAnyWizard(registry1.getRootCategory());
+
+		registry1.addExtension(null, getExtension());
+
+		WizardRegistrySnapshots.Snapshot snapshot = getSnapshot();
+		assertNotSame(snapshot.getWizardElements(), registry1.getRootCategory());
+		IWizardDescriptor privateWizard = registry1.findWizard(sharedWizard.getId());
+		assertNotNull(privateWizard);
+		assertNotSame(sharedWizard, privateWizard);
+	}
+
+	public void testAddExtension_leavesOtherRegistriesShared() {
+		registry1.getRootCategory();
+		IWizardDescriptor sharedWizard = findAnyWizard(registry2.getRootCategory());
+
+		registry1.addExtension(null, getExtension());
+
+		WizardRegistrySnapshots.Snapshot snapshot = getSnapshot();
+		assertSame(snapshot.getWizardElements(), registry2.getRootCategory());
+		assertSame(sharedWizard, registry2.findWizard(sharedWizard.getId()));
+	}
+
+	public void testRemoveExtension_leavesOtherRegistriesShared() {
+		registry1.getRootCategory();
+		IWizardDescriptor sharedWizard = findAnyWizard(registry2.getRootCategory());
+
+		registry1.removeExtension(getExtension(), new Object[] { sharedWizard });
+
+		WizardRegistrySnapshots.Snapshot snapshot = getSnapshot();
+		assertNotSame(snapshot.getWizardElements(), registry1.getRootCategory());
+		assertSame(snapshot.getWizardElements(), registry2.getRootCategory());
+		assertSame(sharedWizard, registry2.findWizard(sharedWizard.getId()));
+	}
+
+	private static WizardRegistrySnapshots.Snapshot getSnapshot() {
+		return WizardRegistrySnapshots.getInstance().get(PLUGIN, EXTENSION_POINT);
+	}
+
+	private static IExtension getExtension() {
+		IExtension[] extensions = Platform.getExtensionRegistry()
+				.getExtensionPoint(PLUGIN, EXTENSION_POINT).getExtensions();
+		assertTrue(extensions.length > 0);
+		return extensions[0];
+	}
+
+	private static IWizardDescriptor findAnyWizard(IWizardCategory category) {
+		IWizardDescriptor[] wizards = category.getWizards();
+		if (wizards.length > 0) {
+			return wizards[0];
+		}
+		IWizardCategory[] categories = category.getCategories();
+		for (int i = 0; i < categories.length; i++) {
+			IWizardDescriptor result = findAnyWizard(categories[i]);
+			if (result != null) {
+				return result;
+			}
+		}
+		return null;
+	}
+
+	private static final class TestWizardRegistry extends
+			AbstractExtensionWizardRegistry {
+
+		protected String getExtensionPoint() {
+			return EXTENSION_POINT;
+		}
+
+		protected String getPlugin() {
+			return PLUGIN;
+		}
+	}
+}